@@ -0,0 +1,54 @@
+package org.example.runningapp.benchmark;
+
+import org.example.runningapp.domain.running.util.BestEffortCalculator;
+import org.example.runningapp.domain.stats.document.RecordDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개인 기록 계산 벤치마크 - 1초 간격 좌표 기준
+ * 3600 = 1시간 러닝, 18000 = 5시간 풀코스, 86400 = 24시간 울트라
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BestEffortBenchmark {
+
+	private static final double[] TARGETS = RecordDistance.allMeters();
+
+	@Param({"3600", "18000", "86400"})
+	private int points;
+
+	private long[] times;
+	private double[] cumulativeDistances;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		times = new long[points];
+		cumulativeDistances = new double[points];
+
+		long time = 1_700_000_000_000L;
+		double distance = 0.0;
+		for (int i = 0; i < points; i++) {
+			times[i] = time;
+			cumulativeDistances[i] = distance;
+			time += 1000;
+			distance += 2.0 + random.nextDouble() * 2.0;   // 2~4 m/s
+		}
+	}
+
+	@Benchmark
+	public BestEffortCalculator.BestEffort[] slidingWindow() {
+		return BestEffortCalculator.calculate(times, cumulativeDistances, TARGETS);
+	}
+}
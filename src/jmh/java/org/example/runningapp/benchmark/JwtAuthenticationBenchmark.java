@@ -0,0 +1,82 @@
+package org.example.runningapp.benchmark;
+
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.common.security.TokenBlacklist;
+import org.example.runningapp.common.security.TokenDigest;
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.auth.service.TokenVersionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 경로 벤치마크 (DB/MongoDB 없이 토큰 처리 비용만 측정)
+ * - rebuildParserPerRequest: 요청마다 파서 생성 + HS512 검증 + 클레임 파싱 (기존 방식)
+ * - prebuiltParser: 파서 재사용, 검증/파싱은 매번 수행
+ * - filterPath: 다이제스트 → 블랙리스트 → 검증 캐시 적중 → UserPrincipal 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+	private Key key;
+	private JwtParser parser;
+	private JwtTokenProvider tokenProvider;
+	private TokenBlacklist tokenBlacklist;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		key = Keys.hmacShaKeyFor(SECRET.getBytes());
+		parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+		TokenVersionService versionService = new TokenVersionService(null, null, 30_000, 1_000) {
+			@Override
+			public long currentVersion(Long userId) {
+				return 0L;
+			}
+		};
+		tokenProvider = new JwtTokenProvider(SECRET, 3_600_000, 604_800_000, true, 50_000, null, versionService);
+		tokenBlacklist = new TokenBlacklist(null, null, 100_000, 0.001);
+		token = tokenProvider.generateTokenPair(1L, "runner@example.com").accessToken();
+	}
+
+	@Benchmark
+	public Claims rebuildParserPerRequest() {
+		return Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+	}
+
+	@Benchmark
+	public Claims prebuiltParser() {
+		return parser.parseClaimsJws(token).getBody();
+	}
+
+	@Benchmark
+	public Optional<UserPrincipal> filterPath() {
+		byte[] digest = TokenDigest.sha256(token);
+		if (tokenBlacklist.isBlacklisted(digest)) {
+			return Optional.empty();
+		}
+		return tokenProvider.authenticate(token, digest);
+	}
+}
@@ -0,0 +1,254 @@
+package org.example.runningapp.benchmark;
+
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.example.runningapp.common.security.AuthProvider;
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.config.dto.TokenDto;
+import org.example.runningapp.domain.auth.dto.AuthResponse;
+import org.example.runningapp.domain.auth.dto.KakaoUserInfo;
+import org.example.runningapp.domain.auth.service.DatabaseRefreshTokenStore;
+import org.example.runningapp.domain.auth.service.KakaoService;
+import org.example.runningapp.domain.auth.service.LoginService;
+import org.example.runningapp.domain.auth.service.RefreshTokenStore;
+import org.example.runningapp.domain.auth.service.SimpleAuthService;
+import org.example.runningapp.domain.auth.service.TokenVersionService;
+import org.example.runningapp.domain.user.entity.User;
+import org.example.runningapp.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 로그인 경로의 DB 왕복 횟수 벤치마크 (인메모리 H2 + Hibernate 통계)
+ * - legacy*: 로그인/가입 트랜잭션 → 토큰 발급 → 별도 트랜잭션에서 findById + save (기존 컨트롤러 흐름)
+ *   신규 가입은 기존의 existsByEmail 사전 조회 포함
+ * - kakao*: LoginService 단일 트랜잭션 (로드한 엔티티에 리프레시 토큰 기록, 중복은 유니크 제약으로 감지)
+ * - SQL 문 수/트랜잭션 수는 JMH 보조 카운터(RoundTrips)로 결과에 함께 집계
+ *   (statements / operations, transactions / operations가 연산당 왕복 횟수)
+ *   (OSIV가 켜진 애플리케이션에서는 legacy의 findById가 영속성 컨텍스트에서 처리될 수 있음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginRoundTripBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+	private AnnotationConfigApplicationContext context;
+	private KakaoService kakaoService;
+	private SimpleAuthService simpleAuthService;
+	private LoginService loginService;
+	private JwtTokenProvider tokenProvider;
+	private UserRepository userRepository;
+	private Statistics statistics;
+	private KakaoUserInfo existingUserInfo;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new AnnotationConfigApplicationContext(BenchmarkJpaConfig.class);
+		kakaoService = context.getBean(KakaoService.class);
+		simpleAuthService = context.getBean(SimpleAuthService.class);
+		loginService = context.getBean(LoginService.class);
+		tokenProvider = context.getBean(JwtTokenProvider.class);
+		userRepository = context.getBean(UserRepository.class);
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+
+		existingUserInfo = new KakaoUserInfo("kakao-existing", "runner@example.com", "러너", "profile.jpg");
+		userRepository.save(User.builder()
+			.kakaoId(existingUserInfo.id())
+			.email(existingUserInfo.email())
+			.username(existingUserInfo.name())
+			.profileImage(existingUserInfo.imageUrl())
+			.provider(AuthProvider.KAKAO)
+			.build());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public TokenDto legacyKakaoLogin(RoundTrips roundTrips) {
+		User user = kakaoService.loginOrSignup(existingUserInfo);
+		TokenDto tokenDto = tokenProvider.generateTokenPair(user.getId(), user.getEmail());
+		simpleAuthService.updateUserRefreshToken(user.getId(), tokenDto.refreshToken());
+		roundTrips.record(statistics);
+		return tokenDto;
+	}
+
+	@Benchmark
+	public AuthResponse kakaoLogin(RoundTrips roundTrips) {
+		AuthResponse response = loginService.kakaoLogin(existingUserInfo);
+		roundTrips.record(statistics);
+		return response;
+	}
+
+	@Benchmark
+	public TokenDto legacyKakaoSignup(RoundTrips roundTrips) {
+		KakaoUserInfo userInfo = newUserInfo();
+		userRepository.existsByEmail(userInfo.email());
+		User user = kakaoService.loginOrSignup(userInfo);
+		TokenDto tokenDto = tokenProvider.generateTokenPair(user.getId(), user.getEmail());
+		simpleAuthService.updateUserRefreshToken(user.getId(), tokenDto.refreshToken());
+		roundTrips.record(statistics);
+		return tokenDto;
+	}
+
+	@Benchmark
+	public AuthResponse kakaoSignup(RoundTrips roundTrips) {
+		AuthResponse response = loginService.kakaoLogin(newUserInfo());
+		roundTrips.record(statistics);
+		return response;
+	}
+
+	private static KakaoUserInfo newUserInfo() {
+		String id = UUID.randomUUID().toString();
+		return new KakaoUserInfo(id, id + "@example.com", "러너", null);
+	}
+
+	/**
+	 * 반복(iteration)마다 누적되는 연산 수/SQL 문 수/트랜잭션 수 (JMH 결과에 보조 지표로 출력)
+	 * - Hibernate 통계는 전역 누적값이므로 반복 시작 시점 값과의 차이로 계산
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RoundTrips {
+
+		public long operations;
+		public long statements;
+		public long transactions;
+
+		private long statementBase;
+		private long transactionBase;
+
+		@Setup(Level.Iteration)
+		public void reset(LoginRoundTripBenchmark benchmark) {
+			operations = 0;
+			statements = 0;
+			transactions = 0;
+			statementBase = benchmark.statistics.getPrepareStatementCount();
+			transactionBase = benchmark.statistics.getTransactionCount();
+		}
+
+		void record(Statistics statistics) {
+			operations++;
+			statements = statistics.getPrepareStatementCount() - statementBase;
+			transactions = statistics.getTransactionCount() - transactionBase;
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableJpaRepositories(
+		basePackageClasses = UserRepository.class,
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UserRepository.class))
+	static class BenchmarkJpaConfig {
+
+		@Bean
+		DataSource dataSource() {
+			return new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		}
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+			ConfigurableListableBeanFactory beanFactory) {
+			Properties properties = new Properties();
+			properties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+			properties.setProperty("hibernate.generate_statistics", "true");
+			// 엔티티 리스너(UserChangeListener) 생성자 주입
+			properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+
+			LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+			factory.setDataSource(dataSource);
+			factory.setPackagesToScan(User.class.getPackageName());
+			factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+			factory.setJpaProperties(properties);
+			return factory;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+			return new JpaTransactionManager(entityManagerFactory);
+		}
+
+		@Bean
+		TokenVersionService tokenVersionService() {
+			return new TokenVersionService(null, null, 30_000, 1_000) {
+				@Override
+				public void subscribe() {
+				}
+
+				@Override
+				public long currentVersion(Long userId) {
+					return 0L;
+				}
+			};
+		}
+
+		@Bean
+		JwtTokenProvider jwtTokenProvider(TokenVersionService tokenVersionService) {
+			return new JwtTokenProvider(SECRET, 3_600_000, 604_800_000, true, 50_000, null, tokenVersionService);
+		}
+
+		@Bean
+		KakaoService kakaoService(UserRepository userRepository) {
+			// 외부 호출(getUserInfo)은 측정 대상이 아님
+			return new KakaoService(userRepository, null, 60_000, 1_000);
+		}
+
+		@Bean
+		SimpleAuthService simpleAuthService(UserRepository userRepository) {
+			return new SimpleAuthService(userRepository);
+		}
+
+		@Bean
+		RefreshTokenStore refreshTokenStore(UserRepository userRepository, JwtTokenProvider jwtTokenProvider) {
+			return new DatabaseRefreshTokenStore(userRepository, jwtTokenProvider);
+		}
+
+		@Bean
+		LoginService loginService(KakaoService kakaoService, SimpleAuthService simpleAuthService,
+			JwtTokenProvider jwtTokenProvider, RefreshTokenStore refreshTokenStore,
+			PlatformTransactionManager transactionManager) {
+			return new LoginService(kakaoService, simpleAuthService, jwtTokenProvider, refreshTokenStore,
+				transactionManager);
+		}
+	}
+}
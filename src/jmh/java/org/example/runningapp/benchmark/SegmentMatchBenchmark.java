@@ -0,0 +1,166 @@
+package org.example.runningapp.benchmark;
+
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.domain.segment.util.SegmentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세그먼트 매칭 벤치마크 - 10km 트랙(10m 간격 1000좌표) 대비 세그먼트 수별
+ * - naive: 모든 세그먼트를 경로 검증
+ * - geohashIndex: 트랙 셀 집합 → 시작/끝 셀 인덱스로 후보만 검증 (운영에서는 MongoDB multikey 인덱스가 담당)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SegmentMatchBenchmark {
+
+	private static final int PRECISION = 7;
+	private static final double BASE_LON = 126.97;
+	private static final double BASE_LAT = 37.56;
+
+	private record Seg(List<List<Double>> points, double distance, List<String> startCells, List<String> endCells) {
+	}
+
+	@Param({"100", "1000", "10000"})
+	private int segmentCount;
+
+	private List<Double> lons;
+	private List<Double> lats;
+	private long[] times;
+	private double[] distances;
+
+	private List<Seg> segments;
+	private Map<String, List<Seg>> startCellIndex;
+
+	@Setup
+	public void setUp() {
+		double metersPerLon = GeoUtils.metersPerDegreeLon(BASE_LAT);
+		double metersPerLat = GeoUtils.metersPerDegreeLat();
+
+		// 2.5km x 2.5km 정사각형 루프
+		lons = new ArrayList<>();
+		lats = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			int side = i / 250;
+			double offset = (i % 250) * 10.0;
+			double x = switch (side) {
+				case 0 -> offset;
+				case 1 -> 2500.0;
+				case 2 -> 2500.0 - offset;
+				default -> 0.0;
+			};
+			double y = switch (side) {
+				case 0 -> 0.0;
+				case 1 -> offset;
+				case 2 -> 2500.0;
+				default -> 2500.0 - offset;
+			};
+			lons.add(BASE_LON + x / metersPerLon);
+			lats.add(BASE_LAT + y / metersPerLat);
+		}
+
+		times = new long[lons.size()];
+		distances = new double[lons.size()];
+		for (int i = 1; i < lons.size(); i++) {
+			times[i] = times[i - 1] + 3000;
+			distances[i] = distances[i - 1] + GeoUtils.distanceMeters(lons.get(i - 1), lats.get(i - 1), lons.get(i), lats.get(i));
+		}
+
+		// 1%는 트랙 위, 나머지는 반경 30km 안에 무작위
+		Random random = new Random(42);
+		segments = new ArrayList<>(segmentCount);
+		startCellIndex = new HashMap<>();
+		for (int s = 0; s < segmentCount; s++) {
+			List<List<Double>> points;
+			if (s % 100 == 0) {
+				int from = random.nextInt(150);
+				points = List.of(
+					List.of(lons.get(from), lats.get(from)),
+					List.of(lons.get(from + 50), lats.get(from + 50)),
+					List.of(lons.get(from + 100), lats.get(from + 100)));
+			} else {
+				double lon = BASE_LON + (random.nextDouble() - 0.5) * 0.6;
+				double lat = BASE_LAT + (random.nextDouble() - 0.5) * 0.6;
+				points = List.of(List.of(lon, lat), List.of(lon + 0.01, lat));
+			}
+
+			List<Double> start = points.get(0);
+			List<Double> end = points.get(points.size() - 1);
+			double distance = 0.0;
+			for (int i = 1; i < points.size(); i++) {
+				distance += GeoUtils.distanceMeters(points.get(i - 1).get(0), points.get(i - 1).get(1),
+					points.get(i).get(0), points.get(i).get(1));
+			}
+
+			Seg seg = new Seg(points, distance,
+				Geohash.withNeighbors(Geohash.encode(start.get(1), start.get(0), PRECISION)),
+				Geohash.withNeighbors(Geohash.encode(end.get(1), end.get(0), PRECISION)));
+			segments.add(seg);
+			for (String cell : seg.startCells()) {
+				startCellIndex.computeIfAbsent(cell, k -> new ArrayList<>()).add(seg);
+			}
+		}
+	}
+
+	@Benchmark
+	public int naive() {
+		int matched = 0;
+		for (Seg seg : segments) {
+			if (match(seg) != null) {
+				matched++;
+			}
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public int geohashIndex() {
+		Set<String> cells = Geohash.cellsOf(lons, lats, PRECISION);
+
+		Set<Seg> candidates = new HashSet<>();
+		for (String cell : cells) {
+			List<Seg> starting = startCellIndex.get(cell);
+			if (starting == null) {
+				continue;
+			}
+			for (Seg seg : starting) {
+				for (String endCell : seg.endCells()) {
+					if (cells.contains(endCell)) {
+						candidates.add(seg);
+						break;
+					}
+				}
+			}
+		}
+
+		int matched = 0;
+		for (Seg seg : candidates) {
+			if (match(seg) != null) {
+				matched++;
+			}
+		}
+		return matched;
+	}
+
+	private SegmentMatcher.Match match(Seg seg) {
+		return SegmentMatcher.match(lons, lats, times, distances, seg.points(), seg.distance(),
+			SegmentMatcher.DEFAULT_TOLERANCE_METERS);
+	}
+}
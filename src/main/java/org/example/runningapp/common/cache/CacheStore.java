@@ -0,0 +1,36 @@
+package org.example.runningapp.common.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * TTL 기반 키-값 저장소 (토큰 등 자주 조회되는 짧은 수명의 데이터)
+ * - 구현체는 app.cache.store 설정으로 선택 (memory: 인스턴스 로컬, redis: 인스턴스 간 공유)
+ * - 키는 용도별 접두사를 붙여 사용 (예: refresh:token:1)
+ */
+public interface CacheStore {
+
+	Optional<String> get(String key);
+
+	/**
+	 * 같은 key가 있으면 덮어씀
+	 */
+	void set(String key, String value, Duration ttl);
+
+	/**
+	 * @return key가 없어서 저장했으면 true
+	 */
+	boolean setIfAbsent(String key, String value, Duration ttl);
+
+	/**
+	 * 현재 값이 expected와 같을 때만 value로 교체 (원자적)
+	 *
+	 * @return 교체했으면 true
+	 */
+	boolean compareAndSet(String key, String expected, String value, Duration ttl);
+
+	/**
+	 * @return key가 있어서 삭제했으면 true
+	 */
+	boolean delete(String key);
+}
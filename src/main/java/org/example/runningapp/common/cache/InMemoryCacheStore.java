@@ -0,0 +1,88 @@
+package org.example.runningapp.common.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 인스턴스 로컬 CacheStore (단일 인스턴스/테스트 환경용)
+ * - 항목별 TTL로 만료, 최대 크기를 넘으면 오래 쓰이지 않은 항목부터 제거
+ * - 여러 인스턴스에서는 값이 공유되지 않으므로 redis 구현체 사용
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCacheStore implements CacheStore {
+
+	// 만료 시각을 절대값으로 보관 - 값이 바뀌지 않은 compute에서도 남은 TTL이 유지됨
+	private record Entry(String value, long expireAtNanos) {
+
+		static Entry of(String value, Duration ttl) {
+			return new Entry(value, System.nanoTime() + ttl.toNanos());
+		}
+	}
+
+	private final Cache<String, Entry> cache;
+
+	public InMemoryCacheStore(@Value("${app.cache.memory.max-size:100000}") long maxSize) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new Expiry<String, Entry>() {
+				@Override
+				public long expireAfterCreate(String key, Entry entry, long currentTime) {
+					return entry.expireAtNanos() - currentTime;
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+					return entry.expireAtNanos() - currentTime;
+				}
+
+				@Override
+				public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+	}
+
+	@Override
+	public Optional<String> get(String key) {
+		Entry entry = cache.getIfPresent(key);
+		return entry != null ? Optional.of(entry.value()) : Optional.empty();
+	}
+
+	@Override
+	public void set(String key, String value, Duration ttl) {
+		cache.put(key, Entry.of(value, ttl));
+	}
+
+	@Override
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return cache.asMap().putIfAbsent(key, Entry.of(value, ttl)) == null;
+	}
+
+	@Override
+	public boolean compareAndSet(String key, String expected, String value, Duration ttl) {
+		boolean[] replaced = new boolean[1];
+		cache.asMap().computeIfPresent(key, (k, current) -> {
+			if (!current.value().equals(expected)) {
+				return current;
+			}
+			replaced[0] = true;
+			return Entry.of(value, ttl);
+		});
+		return replaced[0];
+	}
+
+	@Override
+	public boolean delete(String key) {
+		return cache.asMap().remove(key) != null;
+	}
+}
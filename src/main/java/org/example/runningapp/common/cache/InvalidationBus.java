@@ -0,0 +1,124 @@
+package org.example.runningapp.common.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 간 캐시 무효화 알림 버스
+ * - 변경한 인스턴스는 자기 캐시를 직접 비우고 publish, 다른 인스턴스는 구독자를 통해 비움
+ * - 전달 지연은 cache.invalidation.lag 타이머로 기록
+ * - 전송 경로가 끊긴 동안에는 maxLag 주기로 모든 구독자를 초기화하여 오래된 값이 maxLag 이상 남지 않게 함
+ * - 구현체는 app.invalidation.bus 설정으로 선택 (mongo: 변경 스트림, kafka)
+ */
+@Slf4j
+public abstract class InvalidationBus {
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final Map<String, List<InvalidationHandler>> handlers = new ConcurrentHashMap<>();
+	private final long maxLagMs;
+	private final Timer lagTimer;
+	private final Counter lateCounter;
+	private final Counter resetCounter;
+	private volatile boolean disconnectedLogged;
+
+	protected InvalidationBus(String type, long maxLagMs, MeterRegistry meterRegistry) {
+		this.maxLagMs = maxLagMs;
+		this.lagTimer = Timer.builder("cache.invalidation.lag")
+			.description("다른 인스턴스의 변경 알림이 전달되기까지 걸린 시간")
+			.tag("bus", type)
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.lateCounter = Counter.builder("cache.invalidation.late")
+			.description("maxLag보다 늦게 전달된 알림 수")
+			.tag("bus", type)
+			.register(meterRegistry);
+		this.resetCounter = Counter.builder("cache.invalidation.resets")
+			.description("알림 유실 가능성으로 구독 캐시 전체를 초기화한 횟수")
+			.tag("bus", type)
+			.register(meterRegistry);
+		Gauge.builder("cache.invalidation.connected", this, bus -> bus.isConnected() ? 1 : 0)
+			.tag("bus", type)
+			.register(meterRegistry);
+	}
+
+	public void subscribe(String topic, InvalidationHandler handler) {
+		handlers.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(handler);
+	}
+
+	/**
+	 * 다른 인스턴스에 변경 알림 (실패해도 호출자에게 예외를 던지지 않음 - 구독 캐시의 TTL로 수렴)
+	 */
+	public void publish(String topic, String key) {
+		try {
+			send(new InvalidationEvent(topic, key, instanceId, System.currentTimeMillis()));
+		} catch (Exception e) {
+			log.warn("캐시 무효화 알림 발행 실패 - topic: {}, key: {}, 오류: {}", topic, key, e.getMessage());
+		}
+	}
+
+	protected abstract void send(InvalidationEvent event);
+
+	/**
+	 * 알림을 받을 수 있는 상태인지 (끊긴 동안은 주기적으로 전체 초기화)
+	 */
+	protected abstract boolean isConnected();
+
+	protected void deliver(InvalidationEvent event) {
+		if (instanceId.equals(event.origin())) {
+			return;
+		}
+
+		long lagMs = Math.max(0, System.currentTimeMillis() - event.publishedAt());
+		lagTimer.record(lagMs, TimeUnit.MILLISECONDS);
+		if (lagMs > maxLagMs) {
+			lateCounter.increment();
+			log.warn("캐시 무효화 알림 지연 - topic: {}, 지연(ms): {}", event.topic(), lagMs);
+		}
+
+		for (InvalidationHandler handler : handlers.getOrDefault(event.topic(), List.of())) {
+			try {
+				handler.invalidate(event.key());
+			} catch (Exception e) {
+				log.warn("캐시 무효화 처리 실패 - topic: {}, key: {}, 오류: {}", event.topic(), event.key(), e.getMessage());
+			}
+		}
+	}
+
+	protected void resetAll() {
+		resetCounter.increment();
+		handlers.values().forEach(topicHandlers -> topicHandlers.forEach(handler -> {
+			try {
+				handler.invalidateAll();
+			} catch (Exception e) {
+				log.warn("캐시 전체 초기화 실패 - 오류: {}", e.getMessage());
+			}
+		}));
+	}
+
+	@Scheduled(fixedDelayString = "${app.invalidation.max-lag-ms:10000}")
+	public void resetWhileDisconnected() {
+		if (isConnected()) {
+			disconnectedLogged = false;
+			return;
+		}
+
+		// 끊긴 상태가 이어지는 동안에는 처음 한 번만 경고
+		if (!disconnectedLogged) {
+			log.warn("캐시 무효화 버스 연결 끊김 - 복구될 때까지 {}ms마다 구독 캐시 전체 초기화", maxLagMs);
+			disconnectedLogged = true;
+		}
+		resetAll();
+	}
+}
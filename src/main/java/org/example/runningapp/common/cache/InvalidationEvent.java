@@ -0,0 +1,36 @@
+package org.example.runningapp.common.cache;
+
+import java.util.Date;
+
+import org.bson.Document;
+
+/**
+ * 인스턴스 간 전달되는 변경 알림
+ *
+ * @param topic       캐시 종류 (예: user, token-version, blacklist)
+ * @param key         변경된 항목의 키 (해석은 구독자가 담당)
+ * @param origin      발행 인스턴스 ID (자기 자신이 보낸 알림은 무시)
+ * @param publishedAt 발행 시각(ms) - 전달 지연 측정용
+ */
+public record InvalidationEvent(
+	String topic,
+	String key,
+	String origin,
+	long publishedAt
+) {
+	public Document toDocument() {
+		return new Document("topic", topic)
+			.append("key", key)
+			.append("origin", origin)
+			.append("publishedAt", new Date(publishedAt));
+	}
+
+	public static InvalidationEvent fromDocument(Document document) {
+		Date publishedAt = document.getDate("publishedAt");
+		return new InvalidationEvent(
+			document.getString("topic"),
+			document.getString("key"),
+			document.getString("origin"),
+			publishedAt != null ? publishedAt.getTime() : 0L);
+	}
+}
@@ -0,0 +1,17 @@
+package org.example.runningapp.common.cache;
+
+/**
+ * InvalidationBus 구독자 (인스턴스 로컬 캐시)
+ */
+public interface InvalidationHandler {
+
+	/**
+	 * 다른 인스턴스에서 key에 해당하는 항목이 변경됨
+	 */
+	void invalidate(String key);
+
+	/**
+	 * 알림 일부가 유실되었을 수 있음 - 캐시 전체를 비우거나 원본에서 다시 읽어야 함
+	 */
+	void invalidateAll();
+}
@@ -0,0 +1,59 @@
+package org.example.runningapp.common.cache;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka 기반 InvalidationBus (app.invalidation.bus=kafka)
+ * - 인스턴스마다 고유한 consumer group으로 구독하여 모든 인스턴스가 모든 알림을 받음
+ * - 일시적인 연결 끊김은 브로커에 남은 메시지를 이어 받으므로 별도 초기화 없음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "kafka")
+public class KafkaInvalidationBus extends InvalidationBus {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final String topic;
+
+	public KafkaInvalidationBus(
+		KafkaTemplate<String, String> kafkaTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${app.invalidation.max-lag-ms:10000}") long maxLagMs,
+		@Value("${app.invalidation.kafka.topic:cache-invalidations}") String topic) {
+		super("kafka", maxLagMs, meterRegistry);
+		this.kafkaTemplate = kafkaTemplate;
+		this.topic = topic;
+	}
+
+	@Override
+	protected void send(InvalidationEvent event) {
+		kafkaTemplate.send(topic, event.topic(), event.toDocument().toJson())
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.warn("캐시 무효화 알림 전송 실패 - topic: {}, key: {}, 오류: {}",
+						event.topic(), event.key(), e.getMessage());
+				}
+			});
+	}
+
+	@Override
+	protected boolean isConnected() {
+		return true;
+	}
+
+	@KafkaListener(
+		topics = "${app.invalidation.kafka.topic:cache-invalidations}",
+		groupId = "cache-invalidation-#{T(java.util.UUID).randomUUID()}",
+		properties = "auto.offset.reset=latest")
+	public void onMessage(String message) {
+		deliver(InvalidationEvent.fromDocument(Document.parse(message)));
+	}
+}
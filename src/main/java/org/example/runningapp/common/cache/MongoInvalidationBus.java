@@ -0,0 +1,187 @@
+package org.example.runningapp.common.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MongoDB 변경 스트림 기반 InvalidationBus (기본값)
+ * - 알림은 고정 크기(capped) 컬렉션에 insert - 오래된 문서는 자동으로 밀려나므로 정리 작업 불필요
+ * - 전용 스레드가 insert 변경 스트림을 구독, 끊기면 resume token으로 이어서 받음
+ * - resume이 불가능하면(oplog 범위 초과 등) 처음부터 다시 구독하고 구독 캐시 전체 초기화
+ * - 재시도 간격은 retryDelayMs부터 maxRetryDelayMs까지 지수적으로 증가
+ * - 변경 스트림을 지원하지 않는 배포(standalone mongod 등)면 재시도하지 않고 중단
+ *   (구독 캐시는 InvalidationBus의 주기적 전체 초기화로만 반영)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "mongo", matchIfMissing = true)
+public class MongoInvalidationBus extends InvalidationBus {
+
+	private static final String COLLECTION = "cache_invalidations";
+	private static final int NAMESPACE_EXISTS = 48;
+	private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+	private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+	// $changeStream은 레플리카 셋/샤드 클러스터에서만 지원 (40573), 구버전의 알 수 없는 스테이지 (40324)
+	private static final Set<Integer> CHANGE_STREAM_UNSUPPORTED = Set.of(40573, 40324);
+
+	private final MongoTemplate mongoTemplate;
+	private final long cappedSizeBytes;
+	private final long cappedMaxDocuments;
+	private final long retryDelayMs;
+	private final long maxRetryDelayMs;
+
+	private volatile boolean running;
+	private volatile boolean connected;
+	private Thread watcher;
+
+	public MongoInvalidationBus(
+		MongoTemplate mongoTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${app.invalidation.max-lag-ms:10000}") long maxLagMs,
+		@Value("${app.invalidation.mongo.capped-size-bytes:1048576}") long cappedSizeBytes,
+		@Value("${app.invalidation.mongo.capped-max-documents:5000}") long cappedMaxDocuments,
+		@Value("${app.invalidation.mongo.retry-delay-ms:2000}") long retryDelayMs,
+		@Value("${app.invalidation.mongo.max-retry-delay-ms:60000}") long maxRetryDelayMs) {
+		super("mongo", maxLagMs, meterRegistry);
+		this.mongoTemplate = mongoTemplate;
+		this.cappedSizeBytes = cappedSizeBytes;
+		this.cappedMaxDocuments = cappedMaxDocuments;
+		this.retryDelayMs = retryDelayMs;
+		this.maxRetryDelayMs = maxRetryDelayMs;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		ensureCappedCollection();
+
+		running = true;
+		watcher = new Thread(this::watchLoop, "invalidation-bus-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (watcher != null) {
+			watcher.interrupt();
+		}
+	}
+
+	@Override
+	protected void send(InvalidationEvent event) {
+		mongoTemplate.getCollection(COLLECTION).insertOne(event.toDocument());
+	}
+
+	@Override
+	protected boolean isConnected() {
+		// 시작 전(ApplicationReady 이전)에는 초기화 대상이 아님
+		return connected || !running;
+	}
+
+	private void ensureCappedCollection() {
+		try {
+			if (!mongoTemplate.collectionExists(COLLECTION)) {
+				mongoTemplate.createCollection(COLLECTION, CollectionOptions.empty()
+					.capped()
+					.size(cappedSizeBytes)
+					.maxDocuments(cappedMaxDocuments));
+				log.info("캐시 무효화 컬렉션 생성 - {}, 크기: {} bytes", COLLECTION, cappedSizeBytes);
+			}
+		} catch (MongoCommandException e) {
+			if (e.getErrorCode() != NAMESPACE_EXISTS) {  // 다른 인스턴스가 먼저 생성한 경우는 무시
+				log.error("캐시 무효화 컬렉션 생성 실패 - 오류: {}", e.getMessage());
+			}
+		} catch (Exception e) {
+			log.error("캐시 무효화 컬렉션 생성 실패 - 오류: {}", e.getMessage());
+		}
+	}
+
+	private void watchLoop() {
+		BsonDocument resumeToken = null;
+		boolean gap = false;
+		long delayMs = retryDelayMs;
+
+		while (running) {
+			var stream = mongoTemplate.getCollection(COLLECTION)
+				.watch(List.of(Aggregates.match(Filters.eq("operationType", "insert"))))
+				.maxAwaitTime(1, TimeUnit.SECONDS);
+			if (resumeToken != null) {
+				stream = stream.resumeAfter(resumeToken);
+			}
+
+			try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+				connected = true;
+				delayMs = retryDelayMs;
+				if (gap) {
+					// 끊긴 동안의 알림을 이어 받을 수 없었으므로 구독 캐시를 모두 비움
+					resetAll();
+					gap = false;
+				}
+				log.info("캐시 무효화 변경 스트림 구독 시작 - resume: {}", resumeToken != null);
+
+				while (running) {
+					ChangeStreamDocument<Document> change = cursor.tryNext();
+					if (change != null && change.getFullDocument() != null) {
+						deliver(InvalidationEvent.fromDocument(change.getFullDocument()));
+					}
+					if (cursor.getResumeToken() != null) {
+						resumeToken = cursor.getResumeToken();
+					}
+				}
+			} catch (Exception e) {
+				connected = false;
+				if (!running) {
+					break;
+				}
+
+				if (e instanceof MongoCommandException commandException) {
+					if (CHANGE_STREAM_UNSUPPORTED.contains(commandException.getErrorCode())) {
+						log.error("캐시 무효화 변경 스트림 미지원 - 구독 중단, 구독 캐시는 주기적 전체 초기화로만 반영 (레플리카 셋 필요), 오류: {}",
+							e.getMessage());
+						break;
+					}
+					if (commandException.getErrorCode() == CHANGE_STREAM_HISTORY_LOST
+						|| commandException.getErrorCode() == CHANGE_STREAM_FATAL_ERROR) {
+						resumeToken = null;
+					}
+				}
+				// 이어 받을 위치가 없으면 재구독 전까지의 알림은 유실될 수 있음
+				gap = gap || resumeToken == null;
+				log.warn("캐시 무효화 변경 스트림 중단 - {}ms 후 재시도, 오류: {}", delayMs, e.getMessage());
+				sleepQuietly(delayMs);
+				delayMs = Math.min(delayMs * 2, maxRetryDelayMs);
+			}
+		}
+	}
+
+	private void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package org.example.runningapp.common.exception;
+
+public class DeletionJobNotFoundException extends RuntimeException {
+	public DeletionJobNotFoundException(String message) {
+		super(message);
+	}
+}
@@ -109,6 +109,82 @@ public class GlobalExceptionHandler {
 			));
 	}
 
+	@ExceptionHandler(RunningSessionNotFoundException.class)
+	public ResponseEntity<ErrorResponse> handleRunningSessionNotFoundException(
+		RunningSessionNotFoundException e, HttpServletRequest request) {
+
+		Map<String, Object> businessEvent = createBusinessEventMap(request, e, "RUNNING_SESSION_NOT_FOUND");
+		log.warn(Markers.append("business_event", businessEvent),
+			"러닝 세션 조회 실패 - IP: {}, URI: {}, 메시지: {}",
+			getClientIP(request), request.getRequestURI(), e.getMessage());
+
+		return ResponseEntity
+			.status(HttpStatus.NOT_FOUND)
+			.body(ErrorResponse.detailed(
+				"RUNNING-001",
+				e.getMessage(),
+				"세션 번호를 확인해주세요",
+				request.getRequestURI()
+			));
+	}
+
+	@ExceptionHandler(RunningSessionFinalizedException.class)
+	public ResponseEntity<ErrorResponse> handleRunningSessionFinalizedException(
+		RunningSessionFinalizedException e, HttpServletRequest request) {
+
+		Map<String, Object> businessEvent = createBusinessEventMap(request, e, "RUNNING_SESSION_FINALIZED");
+		log.warn(Markers.append("business_event", businessEvent),
+			"종료된 러닝 세션 수정 시도 - IP: {}, URI: {}, 메시지: {}",
+			getClientIP(request), request.getRequestURI(), e.getMessage());
+
+		return ResponseEntity
+			.status(HttpStatus.CONFLICT)
+			.body(ErrorResponse.detailed(
+				"RUNNING-003",
+				e.getMessage(),
+				"새 세션 번호로 저장해주세요",
+				request.getRequestURI()
+			));
+	}
+
+	@ExceptionHandler(SegmentNotFoundException.class)
+	public ResponseEntity<ErrorResponse> handleSegmentNotFoundException(
+		SegmentNotFoundException e, HttpServletRequest request) {
+
+		Map<String, Object> businessEvent = createBusinessEventMap(request, e, "SEGMENT_NOT_FOUND");
+		log.warn(Markers.append("business_event", businessEvent),
+			"세그먼트 조회 실패 - IP: {}, URI: {}, 메시지: {}",
+			getClientIP(request), request.getRequestURI(), e.getMessage());
+
+		return ResponseEntity
+			.status(HttpStatus.NOT_FOUND)
+			.body(ErrorResponse.detailed(
+				"SEGMENT-001",
+				e.getMessage(),
+				"세그먼트 ID를 확인해주세요",
+				request.getRequestURI()
+			));
+	}
+
+	@ExceptionHandler(DeletionJobNotFoundException.class)
+	public ResponseEntity<ErrorResponse> handleDeletionJobNotFoundException(
+		DeletionJobNotFoundException e, HttpServletRequest request) {
+
+		Map<String, Object> businessEvent = createBusinessEventMap(request, e, "DELETION_JOB_NOT_FOUND");
+		log.warn(Markers.append("business_event", businessEvent),
+			"탈퇴 정리 작업 조회 실패 - IP: {}, URI: {}, 메시지: {}",
+			getClientIP(request), request.getRequestURI(), e.getMessage());
+
+		return ResponseEntity
+			.status(HttpStatus.NOT_FOUND)
+			.body(ErrorResponse.detailed(
+				"USER-003",
+				e.getMessage(),
+				"탈퇴 요청 시 발급된 jobId를 확인해주세요",
+				request.getRequestURI()
+			));
+	}
+
 	@ExceptionHandler(ExternalServiceException.class)
 	public ResponseEntity<ErrorResponse> handleExternalServiceException(
 		ExternalServiceException e, HttpServletRequest request) {
@@ -148,6 +224,28 @@ public class GlobalExceptionHandler {
 			));
 	}
 
+	/**
+	 * 서비스 계층의 요청 값 검증 실패 (내보내기 형식, 조회 개수/반경/줌 레벨 범위 등)
+	 */
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+		IllegalArgumentException e, HttpServletRequest request) {
+
+		Map<String, Object> businessEvent = createBusinessEventMap(request, e, "INVALID_REQUEST");
+		log.warn(Markers.append("business_event", businessEvent),
+			"잘못된 요청 값 - IP: {}, URI: {}, 메시지: {}",
+			getClientIP(request), request.getRequestURI(), e.getMessage());
+
+		return ResponseEntity
+			.status(HttpStatus.BAD_REQUEST)
+			.body(ErrorResponse.detailed(
+				"REQUEST-001",
+				e.getMessage(),
+				"요청 파라미터를 확인해주세요",
+				request.getRequestURI()
+			));
+	}
+
 	// =========================== 데이터베이스 예외 ===========================
 
 	@ExceptionHandler(DataIntegrityViolationException.class)
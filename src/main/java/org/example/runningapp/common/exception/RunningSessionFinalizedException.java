@@ -0,0 +1,7 @@
+package org.example.runningapp.common.exception;
+
+public class RunningSessionFinalizedException extends RuntimeException {
+	public RunningSessionFinalizedException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,7 @@
+package org.example.runningapp.common.exception;
+
+public class SegmentNotFoundException extends RuntimeException {
+	public SegmentNotFoundException(String message) {
+		super(message);
+	}
+}
@@ -7,10 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.example.runningapp.domain.auth.repository.BlacklistedTokenRepository;
-import org.example.runningapp.domain.user.entity.User;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -18,8 +15,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 
@@ -29,7 +24,7 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider tokenProvider;
-	private final BlacklistedTokenRepository blacklistedTokenRepository;
+	private final TokenBlacklist tokenBlacklist;
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
 
@@ -40,15 +35,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			Optional<String> jwt = extractJwtFromRequest(request);
 
 			jwt.ifPresent(token -> {
-				// 토큰이 블랙리스트에 있는지 확인
-				if (blacklistedTokenRepository.existsByToken(token)) {
+				// 블랙리스트/검증 캐시가 같은 다이제스트를 사용하므로 한 번만 계산
+				byte[] digest = TokenDigest.sha256(token);
+
+				// 토큰이 블랙리스트에 있는지 확인 (인스턴스 로컬 복제본, DB 조회 없음)
+				if (tokenBlacklist.isBlacklisted(digest)) {
 					log.debug("블랙리스트에 등록된 토큰입니다");
 					return;
 				}
 
-				// 토큰 검증과 동시에 사용자 정보 조회 (DB 조회 1번으로 최적화)
-				tokenProvider.validateTokenAndGetUser(token)
-					.ifPresent(user -> setAuthenticationContext(user, request));
+				// 서명된 클레임으로 인증 주체 생성 (토큰 버전 캐시 미스일 때만 DB 조회)
+				tokenProvider.authenticate(token, digest)
+					.ifPresent(principal -> setAuthenticationContext(principal, request));
 			});
 		} catch (Exception e) {
 			log.error("JWT 인증 처리 중 오류 발생: {}", e.getMessage());
@@ -67,14 +65,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		return Optional.empty();
 	}
 
-	private void setAuthenticationContext(User user, HttpServletRequest request) {
-		List<SimpleGrantedAuthority> authorities =
-			Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
-
-		UserPrincipal principal = new UserPrincipal(user.getId(), user.getEmail(), "", authorities);
-
+	private void setAuthenticationContext(UserPrincipal principal, HttpServletRequest request) {
 		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-			principal, null, authorities);
+			principal, null, principal.getAuthorities());
 		authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 		SecurityContextHolder.getContext().setAuthentication(authentication);
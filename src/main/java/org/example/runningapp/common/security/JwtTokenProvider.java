@@ -3,6 +3,8 @@ package org.example.runningapp.common.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -10,17 +12,24 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
-import org.example.runningapp.domain.user.entity.User;
-import org.example.runningapp.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import org.example.runningapp.domain.auth.service.TokenVersionService;
+import org.example.runningapp.domain.user.service.UserCache;
 import org.example.runningapp.config.dto.TokenDto;
 import org.example.runningapp.common.exception.InvalidJwtException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -29,41 +38,128 @@ public class JwtTokenProvider {
 	private final Key key;
 	private final long accessTokenExpirationMs;
 	private final long refreshTokenExpirationMs;
-	private final UserRepository userRepository;  // 추가
+	private final UserCache userCache;
+	private final TokenVersionService tokenVersionService;
+	private final boolean statelessPrincipal;
+	private final JwtParser parser;  // 스레드 안전 - 요청마다 빌드하지 않음
+	private final Cache<ByteBuffer, Claims> verifiedClaims;
 
+	// 인증 필터가 DB 조회 없이 UserPrincipal을 만들 수 있도록 서명된 클레임에 포함
+	public static final String CLAIM_EMAIL = "email";
+	public static final String CLAIM_TOKEN_VERSION = "ver";
+	// 리프레시 토큰 구분/회전 계열 - 리프레시 토큰으로는 API 인증 불가
+	public static final String CLAIM_TYPE = "typ";
+	public static final String CLAIM_FAMILY = "fam";
+	public static final String TYPE_REFRESH = "refresh";
 
 	public JwtTokenProvider(
 		@Value("${app.auth.jwt.secret-key}") String secretKey,
 		@Value("${app.auth.jwt.access-token-expiration-ms}") long accessTokenExpirationMs,
 		@Value("${app.auth.jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs,
-		UserRepository userRepository) {  // 추가
+		@Value("${app.auth.jwt.stateless-principal:true}") boolean statelessPrincipal,
+		@Value("${app.auth.jwt.claims-cache-max-size:50000}") long claimsCacheMaxSize,
+		UserCache userCache,
+		TokenVersionService tokenVersionService) {
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
 		this.accessTokenExpirationMs = accessTokenExpirationMs;
 		this.refreshTokenExpirationMs = refreshTokenExpirationMs;
-		this.userRepository = userRepository;  // 추가
+		this.statelessPrincipal = statelessPrincipal;
+		this.userCache = userCache;
+		this.tokenVersionService = tokenVersionService;
+		this.parser = Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build();
+		// 검증된 클레임 캐시 - 토큰 다이제스트 기준, 토큰 만료 시각에 함께 만료
+		this.verifiedClaims = Caffeine.newBuilder()
+			.maximumSize(claimsCacheMaxSize)
+			.expireAfter(new Expiry<ByteBuffer, Claims>() {
+				@Override
+				public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+					long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+					return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+				}
+
+				@Override
+				public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+
+				@Override
+				public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * 로그인 시 토큰 발급 - 새 리프레시 토큰 계열(family) 시작
+	 */
+	public TokenDto generateTokenPair(Long userId, String email) {
+		return generateTokenPair(userId, email, UUID.randomUUID().toString());
 	}
 
-	public TokenDto generateTokenPair(Long userId) {
+	/**
+	 * 토큰 재발급 - 같은 계열의 다음 리프레시 토큰 발급 (재사용 감지용)
+	 */
+	public TokenDto generateTokenPair(Long userId, String email, String family) {
 		Instant now = Instant.now();
 		Instant accessTokenExpiry = now.plusMillis(accessTokenExpirationMs);
 		Instant refreshTokenExpiry = now.plusMillis(refreshTokenExpirationMs);
+		long tokenVersion = tokenVersionService.currentVersion(userId);
 
-		String accessToken = createToken(userId, accessTokenExpirationMs);
-		String refreshToken = createToken(userId, refreshTokenExpirationMs);
+		String accessToken = createToken(userId, email, tokenVersion, accessTokenExpirationMs)
+			.compact();
+		String refreshToken = createToken(userId, email, tokenVersion, refreshTokenExpirationMs)
+			.claim(CLAIM_TYPE, TYPE_REFRESH)
+			.claim(CLAIM_FAMILY, family)
+			.setId(UUID.randomUUID().toString())  // 같은 초에 재발급되어도 토큰 문자열이 달라지도록
+			.compact();
 
 		return new TokenDto(accessToken, refreshToken, accessTokenExpiry, refreshTokenExpiry);
 	}
 
-	private String createToken(Long userId, long expirationMs) {
+	private JwtBuilder createToken(Long userId, String email, long tokenVersion, long expirationMs) {
 		Date now = new Date();
 		Date expiryDate = new Date(now.getTime() + expirationMs);
 
-		return Jwts.builder()
+		JwtBuilder builder = Jwts.builder()
 			.setSubject(Long.toString(userId))
+			.claim(CLAIM_TOKEN_VERSION, tokenVersion)
 			.setIssuedAt(now)
 			.setExpiration(expiryDate)
-			.signWith(key, SignatureAlgorithm.HS512) // 더 강력한 알고리즘 사용
-			.compact();
+			.signWith(key, SignatureAlgorithm.HS512); // 더 강력한 알고리즘 사용
+		if (email != null) {
+			builder.claim(CLAIM_EMAIL, email);
+		}
+		return builder;
+	}
+
+	/**
+	 * 리프레시 토큰 검증 (서명/만료/토큰 종류/토큰 버전)
+	 */
+	public Claims parseRefreshToken(String token) {
+		Claims claims = parseToken(token);
+		if (!TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class))) {
+			throw new InvalidJwtException("리프레시 토큰이 아닙니다.");
+		}
+
+		Long tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Long.class);
+		if (tokenVersion == null || tokenVersion != tokenVersionService.currentVersion(Long.parseLong(claims.getSubject()))) {
+			throw new InvalidJwtException("폐기된 리프레시 토큰입니다.");
+		}
+		return claims;
+	}
+
+	/**
+	 * 저장된 리프레시 토큰의 계열 (만료 여부 무관, 계열 정보가 없거나 검증 실패 시 null)
+	 */
+	public String getFamilyIgnoringExpiration(String token) {
+		try {
+			return parseTokenIgnoringExpiration(token).get(CLAIM_FAMILY, String.class);
+		} catch (InvalidJwtException e) {
+			return null;
+		}
 	}
 
 	public Long getUserIdFromToken(String token) {
@@ -72,12 +168,27 @@ public class JwtTokenProvider {
 	}
 
 	public Claims parseToken(String token) {
+		return parseToken(token, TokenDigest.sha256(token));
+	}
+
+	/**
+	 * 토큰 검증 (같은 토큰의 반복 요청은 서명 검증/클레임 파싱 없이 캐시에서 반환)
+	 *
+	 * @param digest 토큰의 SHA-256 다이제스트 (호출자가 이미 계산한 경우 재사용)
+	 */
+	public Claims parseToken(String token, byte[] digest) {
+		ByteBuffer cacheKey = ByteBuffer.wrap(digest);
+		Claims cached = verifiedClaims.getIfPresent(cacheKey);
+		if (cached != null) {
+			return cached;
+		}
+
 		try {
-			return Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			if (claims.getExpiration() != null) {
+				verifiedClaims.put(cacheKey, claims);
+			}
+			return claims;
 		} catch (ExpiredJwtException e) {
 			throw new InvalidJwtException("만료된 JWT 토큰입니다.", e);
 		} catch (UnsupportedJwtException e) {
@@ -98,11 +209,7 @@ public class JwtTokenProvider {
 
 	private Claims parseTokenIgnoringExpiration(String token) {
 		try {
-			return Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+			return parser.parseClaimsJws(token).getBody();
 		} catch (ExpiredJwtException e) {
 			return e.getClaims(); // 만료된 경우에도 클레임을 반환
 		} catch (UnsupportedJwtException e) {
@@ -116,11 +223,37 @@ public class JwtTokenProvider {
 		}
 	}
 
-	public Optional<User> validateTokenAndGetUser(String token) {
+	/**
+	 * 토큰 검증 후 인증 주체 생성
+	 * - 버전 클레임이 있는 토큰: 클레임만으로 생성, 토큰 버전 캐시로 폐기 여부만 확인 (DB 조회 없음)
+	 * - 버전 클레임 도입 전 발급된 토큰(버전 0 취급): 기존처럼 사용자 조회
+	 */
+	public Optional<UserPrincipal> authenticate(String token) {
+		return authenticate(token, TokenDigest.sha256(token));
+	}
+
+	public Optional<UserPrincipal> authenticate(String token, byte[] digest) {
 		try {
-			Claims claims = parseToken(token);
+			Claims claims = parseToken(token, digest);
+			if (TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class))) {
+				log.debug("리프레시 토큰으로는 인증할 수 없습니다");
+				return Optional.empty();
+			}
+
 			Long userId = Long.parseLong(claims.getSubject());
-			return userRepository.findById(userId);
+			Long tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Long.class);
+
+			if ((tokenVersion != null ? tokenVersion : 0L) != tokenVersionService.currentVersion(userId)) {
+				log.debug("폐기된 버전의 JWT 토큰입니다 - 사용자: {}", userId);
+				return Optional.empty();
+			}
+
+			if (statelessPrincipal && tokenVersion != null) {
+				return Optional.of(UserPrincipal.authenticated(userId, claims.get(CLAIM_EMAIL, String.class)));
+			}
+
+			return userCache.get(userId)
+				.map(user -> UserPrincipal.authenticated(user.id(), user.email()));
 		} catch (InvalidJwtException e) {
 			log.debug("JWT 토큰 검증 실패: {}", e.getMessage());
 			return Optional.empty();
@@ -0,0 +1,174 @@
+package org.example.runningapp.common.security;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.example.runningapp.common.cache.InvalidationBus;
+import org.example.runningapp.common.cache.InvalidationHandler;
+import org.example.runningapp.common.util.BloomFilter;
+import org.example.runningapp.domain.auth.document.BlacklistedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 토큰 블랙리스트 인스턴스 로컬 복제본
+ * - Bloom filter(대부분의 음성 응답) + 정확한 다이제스트 맵(양성 확인, 만료 시각)으로 요청마다 MongoDB를 조회하지 않음
+ * - 다른 인스턴스의 로그아웃은 InvalidationBus 알림으로 즉시 반영
+ *   blacklisted_tokens 주기적 폴링(syncIntervalMs)은 알림 유실에 대비한 보조 경로
+ * - 블랙리스트는 추가만 되므로 버스의 전체 초기화 요청에도 전체를 다시 읽지 않고 증분 동기화만 수행
+ * - Bloom filter는 삭제가 불가능하므로 만료 항목 정리 시 맵 기준으로 새 필터를 만들어 교체
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements InvalidationHandler {
+
+	public static final String TOPIC = "blacklist";
+
+	// ObjectId 타임스탬프는 초 단위이고 인스턴스 간 순서가 보장되지 않으므로 겹쳐서 다시 읽음
+	private static final long SYNC_OVERLAP_MS = 60_000;
+
+	private final MongoTemplate mongoTemplate;
+	private final InvalidationBus invalidationBus;
+	private final int expectedEntries;
+	private final double falsePositiveRate;
+	private final Map<String, Long> expiryByHash = new ConcurrentHashMap<>();
+	private volatile BloomFilter filter;
+	private volatile long syncedUntilMs;
+
+	public TokenBlacklist(
+		MongoTemplate mongoTemplate,
+		InvalidationBus invalidationBus,
+		@Value("${app.auth.blacklist.expected-entries:100000}") int expectedEntries,
+		@Value("${app.auth.blacklist.false-positive-rate:0.001}") double falsePositiveRate) {
+		this.mongoTemplate = mongoTemplate;
+		this.invalidationBus = invalidationBus;
+		this.expectedEntries = expectedEntries;
+		this.falsePositiveRate = falsePositiveRate;
+		this.filter = BloomFilter.create(expectedEntries, falsePositiveRate);
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		invalidationBus.subscribe(TOPIC, this);
+	}
+
+	public boolean isBlacklisted(String token) {
+		return isBlacklisted(TokenDigest.sha256(token));
+	}
+
+	public boolean isBlacklisted(byte[] digest) {
+		if (!filter.mightContain(digest)) {
+			return false;
+		}
+
+		Long expireAt = expiryByHash.get(TokenDigest.toHex(digest));
+		return expireAt != null && expireAt > System.currentTimeMillis();
+	}
+
+	/**
+	 * 현재 인스턴스에 즉시 반영 (MongoDB 저장은 호출자가 수행)
+	 */
+	public void add(String tokenHash, Date expireAt) {
+		expiryByHash.put(tokenHash, expireAt.getTime());
+		filter.put(TokenDigest.fromHex(tokenHash));
+	}
+
+	/**
+	 * 현재 인스턴스에 반영하고 다른 인스턴스에 알림 (MongoDB 저장은 호출자가 수행)
+	 */
+	public void addAndPublish(String tokenHash, Date expireAt) {
+		add(tokenHash, expireAt);
+		invalidationBus.publish(TOPIC, tokenHash + ":" + expireAt.getTime());
+	}
+
+	@Override
+	public void invalidate(String key) {
+		int separator = key.indexOf(':');
+		add(key.substring(0, separator), new Date(Long.parseLong(key.substring(separator + 1))));
+	}
+
+	@Override
+	public void invalidateAll() {
+		sync();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadAll() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			Query query = Query.query(Criteria.where("expireAt").gt(new Date(startedAt)));
+			int loaded = load(query);
+			syncedUntilMs = startedAt;
+			log.info("토큰 블랙리스트 로드 완료 - 항목 수: {}", loaded);
+		} catch (Exception e) {
+			log.error("토큰 블랙리스트 로드 실패 - 오류: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.auth.blacklist.sync-interval-ms:5000}")
+	public void sync() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			ObjectId since = new ObjectId(new Date(Math.max(0, syncedUntilMs - SYNC_OVERLAP_MS)));
+			Query query = Query.query(Criteria.where("_id").gte(since))
+				.with(Sort.by(Sort.Direction.ASC, "_id"));
+			load(query);
+			syncedUntilMs = startedAt;
+		} catch (Exception e) {
+			log.warn("토큰 블랙리스트 동기화 실패 - 오류: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 만료 항목 제거 후 남은 항목으로 Bloom filter 재구성
+	 */
+	@Scheduled(fixedDelayString = "${app.auth.blacklist.prune-interval-ms:3600000}")
+	public void prune() {
+		long now = System.currentTimeMillis();
+		expiryByHash.values().removeIf(expireAt -> expireAt <= now);
+
+		BloomFilter rebuilt = BloomFilter.create(Math.max(expectedEntries, expiryByHash.size() * 2), falsePositiveRate);
+		expiryByHash.keySet().forEach(hash -> rebuilt.put(TokenDigest.fromHex(hash)));
+		filter = rebuilt;
+		// 재구성 중 추가된 항목이 이전 필터에만 들어갔을 수 있으므로 교체 후 한 번 더 반영
+		expiryByHash.keySet().forEach(hash -> rebuilt.put(TokenDigest.fromHex(hash)));
+
+		log.debug("토큰 블랙리스트 정리 - 남은 항목 수: {}", expiryByHash.size());
+	}
+
+	private int load(Query query) {
+		query.fields().include("token", "tokenHash", "expireAt");
+		String collection = mongoTemplate.getCollectionName(BlacklistedToken.class);
+
+		int count = 0;
+		try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+			for (Document doc : (Iterable<Document>) documents::iterator) {
+				Date expireAt = doc.getDate("expireAt");
+				String tokenHash = doc.getString("tokenHash");
+				if (tokenHash == null && doc.getString("token") != null) {
+					// 원문을 저장하던 기존 문서
+					tokenHash = TokenDigest.toHex(TokenDigest.sha256(doc.getString("token")));
+				}
+
+				if (tokenHash != null && expireAt != null) {
+					add(tokenHash, expireAt);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
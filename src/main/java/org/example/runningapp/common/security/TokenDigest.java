@@ -0,0 +1,31 @@
+package org.example.runningapp.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장/비교에 사용하는 SHA-256 다이제스트
+ */
+public final class TokenDigest {
+
+	private TokenDigest() {
+	}
+
+	public static byte[] sha256(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+		}
+	}
+
+	public static String toHex(byte[] digest) {
+		return HexFormat.of().formatHex(digest);
+	}
+
+	public static byte[] fromHex(String hex) {
+		return HexFormat.of().parseHex(hex);
+	}
+}
@@ -2,9 +2,11 @@ package org.example.runningapp.common.security;
 
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Collections;
 
 @Getter
 public class UserPrincipal implements UserDetails {
@@ -21,6 +23,13 @@ public class UserPrincipal implements UserDetails {
 		this.authorities = authorities;
 	}
 
+	/**
+	 * 토큰 인증된 일반 사용자
+	 */
+	public static UserPrincipal authenticated(Long id, String email) {
+		return new UserPrincipal(id, email, "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+	}
+
 	@Override
 	public String getUsername() {
 		return email;
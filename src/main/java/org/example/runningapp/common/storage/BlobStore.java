@@ -0,0 +1,32 @@
+package org.example.runningapp.common.storage;
+
+import java.io.IOException;
+
+/**
+ * 바이너리 객체 저장소 (콜드 스토리지)
+ * - key는 '/'로 구분된 상대 경로 형태 (예: sessions/1/1-3.zst)
+ * - 구현체는 app.archive.store 설정으로 선택
+ */
+public interface BlobStore {
+
+	/**
+	 * 같은 key가 있으면 덮어씀
+	 */
+	void put(String key, byte[] data) throws IOException;
+
+	/**
+	 * @throws java.io.FileNotFoundException key에 해당하는 객체가 없는 경우
+	 */
+	byte[] get(String key) throws IOException;
+
+	/**
+	 * 없는 key는 무시
+	 */
+	void delete(String key) throws IOException;
+
+	/**
+	 * 모든 인스턴스가 같은 객체를 읽고, 인스턴스가 교체되어도 유지되는 저장소인지 여부
+	 * - false이면 원본을 제거하는 보관 작업(RunningArchiveService)을 수행하지 않음
+	 */
+	boolean isDurable();
+}
@@ -0,0 +1,76 @@
+package org.example.runningapp.common.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일시스템 BlobStore
+ * - 임시 파일에 쓴 뒤 rename하여 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+ * - 단일 호스트/테스트 환경용 - 컨테이너 로컬 디스크는 인스턴스 교체 시 사라지므로 기본적으로 durable이 아님
+ *   (영구 볼륨을 단일 호스트에 마운트한 경우에만 app.archive.local.durable=true)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.archive.store", havingValue = "local", matchIfMissing = true)
+public class LocalFileBlobStore implements BlobStore {
+
+	private final Path baseDir;
+	private final boolean durable;
+
+	public LocalFileBlobStore(
+		@Value("${app.archive.local.base-dir:./data/archive}") String baseDir,
+		@Value("${app.archive.local.durable:false}") boolean durable) {
+		this.baseDir = Path.of(baseDir).toAbsolutePath().normalize();
+		this.durable = durable;
+	}
+
+	@Override
+	public void put(String key, byte[] data) throws IOException {
+		Path target = resolve(key);
+		Files.createDirectories(target.getParent());
+
+		Path temp = Files.createTempFile(target.getParent(), ".blob-", ".tmp");
+		try {
+			Files.write(temp, data);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public byte[] get(String key) throws IOException {
+		try {
+			return Files.readAllBytes(resolve(key));
+		} catch (NoSuchFileException e) {
+			throw new FileNotFoundException("보관 파일이 없습니다: " + key);
+		}
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(resolve(key));
+	}
+
+	@Override
+	public boolean isDurable() {
+		return durable;
+	}
+
+	private Path resolve(String key) {
+		Path path = baseDir.resolve(key).normalize();
+		if (!path.startsWith(baseDir) || path.equals(baseDir)) {
+			throw new IllegalArgumentException("유효하지 않은 보관 키입니다: " + key);
+		}
+		return path;
+	}
+}
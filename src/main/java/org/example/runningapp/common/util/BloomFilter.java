@@ -0,0 +1,78 @@
+package org.example.runningapp.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Bloom filter (동시 put/mightContain 안전)
+ * - 입력은 이미 균등 분포인 다이제스트(SHA-256 등)를 가정하고 앞 16바이트로 두 해시값을 만듦
+ *   (Kirsch-Mitzenmacher: h_i = h1 + i * h2)
+ * - 삭제가 불가능하므로 만료 항목 정리는 새 필터를 만들어 교체
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	private BloomFilter(long bitCount, int hashCount) {
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+		this.bitCount = bitCount;
+		this.hashCount = hashCount;
+	}
+
+	/**
+	 * @param expectedEntries 예상 항목 수
+	 * @param falsePositiveRate 목표 오탐률 (예: 0.001)
+	 */
+	public static BloomFilter create(int expectedEntries, double falsePositiveRate) {
+		int n = Math.max(1, expectedEntries);
+		double ln2 = Math.log(2);
+		long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+		int k = Math.max(1, (int) Math.round((double) m / n * ln2));
+		return new BloomFilter(m, k);
+	}
+
+	public void put(byte[] digest) {
+		long h1 = readLong(digest, 0);
+		long h2 = readLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitCount);
+			setBit(index);
+		}
+	}
+
+	public boolean mightContain(byte[] digest) {
+		long h1 = readLong(digest, 0);
+		long h2 = readLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitCount);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		if (bytes.length < offset + 8) {
+			throw new IllegalArgumentException("다이제스트는 16바이트 이상이어야 합니다");
+		}
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return value;
+	}
+}
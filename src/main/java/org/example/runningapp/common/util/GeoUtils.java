@@ -0,0 +1,77 @@
+package org.example.runningapp.common.util;
+
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+
+import java.util.List;
+
+public final class GeoUtils {
+
+	private static final double EARTH_RADIUS_M = 6_371_008.8;
+
+	// 면적이 0인 사각형은 2dsphere 인덱스에 저장할 수 없으므로 최소 크기 보정 (약 1m)
+	private static final double MIN_BOUNDS_DEGREES = 0.00001;
+
+	private GeoUtils() {
+	}
+
+	/**
+	 * 좌표 목록을 감싸는 사각형 (GeoJSON Polygon), 좌표가 없으면 null
+	 */
+	public static GeoJsonPolygon boundingPolygon(List<Double> longitudes, List<Double> latitudes) {
+		if (longitudes == null || longitudes.isEmpty()) {
+			return null;
+		}
+
+		double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+		double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+		for (int i = 0; i < longitudes.size(); i++) {
+			minLon = Math.min(minLon, longitudes.get(i));
+			maxLon = Math.max(maxLon, longitudes.get(i));
+			minLat = Math.min(minLat, latitudes.get(i));
+			maxLat = Math.max(maxLat, latitudes.get(i));
+		}
+		return boundingPolygon(minLon, minLat, maxLon, maxLat);
+	}
+
+	public static GeoJsonPolygon boundingPolygon(double minLon, double minLat, double maxLon, double maxLat) {
+		if (maxLon - minLon < MIN_BOUNDS_DEGREES) {
+			maxLon = minLon + MIN_BOUNDS_DEGREES;
+		}
+		if (maxLat - minLat < MIN_BOUNDS_DEGREES) {
+			maxLat = minLat + MIN_BOUNDS_DEGREES;
+		}
+		return new GeoJsonPolygon(
+			new Point(minLon, minLat),
+			new Point(maxLon, minLat),
+			new Point(maxLon, maxLat),
+			new Point(minLon, maxLat),
+			new Point(minLon, minLat));
+	}
+
+	/**
+	 * 두 좌표 사이의 거리(m) - Haversine 공식
+	 */
+	public static double distanceMeters(double lon1, double lat1, double lon2, double lat2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+			+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+			* Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+	}
+
+	/**
+	 * 위도 기준 경도 1도의 거리(m) - 근거리 평면 근사용
+	 */
+	public static double metersPerDegreeLon(double lat) {
+		return Math.toRadians(1) * EARTH_RADIUS_M * Math.cos(Math.toRadians(lat));
+	}
+
+	/**
+	 * 위도 1도의 거리(m)
+	 */
+	public static double metersPerDegreeLat() {
+		return Math.toRadians(1) * EARTH_RADIUS_M;
+	}
+}
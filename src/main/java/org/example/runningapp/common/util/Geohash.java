@@ -0,0 +1,140 @@
+package org.example.runningapp.common.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Geohash 인코딩 (base32, 위도/경도 비트 교차)
+ * - 정밀도 5: 약 4.9km x 4.9km, 6: 1.2km x 0.6km, 7: 153m x 153m
+ */
+public final class Geohash {
+
+	private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+	private static final int[] DECODE = new int[128];
+
+	static {
+		java.util.Arrays.fill(DECODE, -1);
+		for (int i = 0; i < BASE32.length; i++) {
+			DECODE[BASE32[i]] = i;
+		}
+	}
+
+	private Geohash() {
+	}
+
+	public static String encode(double latitude, double longitude, int precision) {
+		double minLat = -90.0, maxLat = 90.0;
+		double minLon = -180.0, maxLon = 180.0;
+		char[] hash = new char[precision];
+		boolean evenBit = true;
+
+		for (int c = 0; c < precision; c++) {
+			int bits = 0;
+			for (int b = 0; b < 5; b++) {
+				bits <<= 1;
+				if (evenBit) {
+					double mid = (minLon + maxLon) / 2;
+					if (longitude >= mid) {
+						bits |= 1;
+						minLon = mid;
+					} else {
+						maxLon = mid;
+					}
+				} else {
+					double mid = (minLat + maxLat) / 2;
+					if (latitude >= mid) {
+						bits |= 1;
+						minLat = mid;
+					} else {
+						maxLat = mid;
+					}
+				}
+				evenBit = !evenBit;
+			}
+			hash[c] = BASE32[bits];
+		}
+		return new String(hash);
+	}
+
+	/**
+	 * 셀 범위 [minLat, minLon, maxLat, maxLon]
+	 */
+	public static double[] bounds(String hash) {
+		double minLat = -90.0, maxLat = 90.0;
+		double minLon = -180.0, maxLon = 180.0;
+		boolean evenBit = true;
+
+		for (int c = 0; c < hash.length(); c++) {
+			char ch = hash.charAt(c);
+			int bits = ch < 128 ? DECODE[ch] : -1;
+			if (bits < 0) {
+				throw new IllegalArgumentException("올바르지 않은 geohash입니다: " + hash);
+			}
+			for (int b = 4; b >= 0; b--) {
+				int bit = (bits >> b) & 1;
+				if (evenBit) {
+					double mid = (minLon + maxLon) / 2;
+					if (bit == 1) {
+						minLon = mid;
+					} else {
+						maxLon = mid;
+					}
+				} else {
+					double mid = (minLat + maxLat) / 2;
+					if (bit == 1) {
+						minLat = mid;
+					} else {
+						maxLat = mid;
+					}
+				}
+				evenBit = !evenBit;
+			}
+		}
+		return new double[] {minLat, minLon, maxLat, maxLon};
+	}
+
+	/**
+	 * 자기 자신과 인접 8개 셀 (셀 경계 근처 좌표도 찾을 수 있도록)
+	 */
+	public static List<String> withNeighbors(String hash) {
+		double[] b = bounds(hash);
+		double height = b[2] - b[0];
+		double width = b[3] - b[1];
+		double centerLat = (b[0] + b[2]) / 2;
+		double centerLon = (b[1] + b[3]) / 2;
+
+		List<String> cells = new ArrayList<>(9);
+		for (int dLat = -1; dLat <= 1; dLat++) {
+			double lat = centerLat + dLat * height;
+			if (lat < -90.0 || lat > 90.0) {
+				continue;
+			}
+			for (int dLon = -1; dLon <= 1; dLon++) {
+				double lon = centerLon + dLon * width;
+				if (lon < -180.0) {
+					lon += 360.0;
+				} else if (lon > 180.0) {
+					lon -= 360.0;
+				}
+				String cell = encode(lat, lon, hash.length());
+				if (!cells.contains(cell)) {
+					cells.add(cell);
+				}
+			}
+		}
+		return cells;
+	}
+
+	/**
+	 * 좌표 목록이 지나는 셀 (방문 순서 유지, 중복 제거)
+	 */
+	public static Set<String> cellsOf(List<Double> longitudes, List<Double> latitudes, int precision) {
+		Set<String> cells = new LinkedHashSet<>();
+		for (int i = 0; i < longitudes.size(); i++) {
+			cells.add(encode(latitudes.get(i), longitudes.get(i), precision));
+		}
+		return cells;
+	}
+}
@@ -0,0 +1,60 @@
+package org.example.runningapp.common.util;
+
+import java.util.List;
+
+/**
+ * Google Encoded Polyline Algorithm Format
+ * - 좌표를 1e5 정밀도(약 1.1m) 정수로 변환 후 이전 좌표와의 차이를 가변 길이 문자로 인코딩
+ * - 위도, 경도 순서로 인코딩 (Google 표준)
+ */
+public final class PolylineEncoder {
+
+	private static final double PRECISION = 1e5;
+
+	private PolylineEncoder() {
+	}
+
+	public static String encode(List<Double> longitudes, List<Double> latitudes) {
+		StringBuilder result = new StringBuilder(longitudes.size() * 6);
+		long prevLat = 0;
+		long prevLon = 0;
+
+		for (int i = 0; i < longitudes.size(); i++) {
+			long lat = Math.round(latitudes.get(i) * PRECISION);
+			long lon = Math.round(longitudes.get(i) * PRECISION);
+			encodeValue(lat - prevLat, result);
+			encodeValue(lon - prevLon, result);
+			prevLat = lat;
+			prevLon = lon;
+		}
+		return result.toString();
+	}
+
+	/**
+	 * [[경도, 위도], ...] 형태의 좌표 인코딩
+	 */
+	public static String encode(List<List<Double>> coordinates) {
+		StringBuilder result = new StringBuilder(coordinates.size() * 6);
+		long prevLat = 0;
+		long prevLon = 0;
+
+		for (List<Double> coord : coordinates) {
+			long lat = Math.round(coord.get(1) * PRECISION);
+			long lon = Math.round(coord.get(0) * PRECISION);
+			encodeValue(lat - prevLat, result);
+			encodeValue(lon - prevLon, result);
+			prevLat = lat;
+			prevLon = lon;
+		}
+		return result.toString();
+	}
+
+	private static void encodeValue(long value, StringBuilder result) {
+		long shifted = value < 0 ? ~(value << 1) : value << 1;
+		while (shifted >= 0x20) {
+			result.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+			shifted >>= 5;
+		}
+		result.append((char) (shifted + 63));
+	}
+}
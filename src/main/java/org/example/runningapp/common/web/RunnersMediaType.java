@@ -0,0 +1,24 @@
+package org.example.runningapp.common.web;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 러닝 조회 API 콘텐츠 협상용 미디어 타입
+ * - compact: 좌표는 Encoded Polyline, 측정값은 컬럼 배열로 전송
+ * - +cbor / +smile: compact 응답을 바이너리 Jackson 포맷으로 전송
+ */
+public final class RunnersMediaType {
+
+	public static final String COMPACT_JSON_VALUE = "application/vnd.runnershi.compact+json";
+	public static final String COMPACT_CBOR_VALUE = "application/vnd.runnershi.compact+cbor";
+	public static final String COMPACT_SMILE_VALUE = "application/vnd.runnershi.compact+smile";
+	public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+	public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+	public static final MediaType COMPACT_CBOR = MediaType.parseMediaType(COMPACT_CBOR_VALUE);
+	public static final MediaType COMPACT_SMILE = MediaType.parseMediaType(COMPACT_SMILE_VALUE);
+	public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+	private RunnersMediaType() {
+	}
+}
@@ -0,0 +1,39 @@
+package org.example.runningapp.config.Webconfig;
+
+import java.util.List;
+
+import org.example.runningapp.common.web.RunnersMediaType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * CBOR / Smile 응답 컨버터 등록
+ * - Spring Boot의 ObjectMapper 설정(JavaTimeModule 등)을 그대로 사용
+ * - Accept 헤더로 application/cbor, application/x-jackson-smile 및 compact 바이너리 타입 선택 가능
+ */
+@Configuration
+public class BinaryMessageConverterConfig {
+
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		MappingJackson2CborHttpMessageConverter converter =
+			new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+		converter.setSupportedMediaTypes(List.of(MediaType.APPLICATION_CBOR, RunnersMediaType.COMPACT_CBOR));
+		return converter;
+	}
+
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		MappingJackson2SmileHttpMessageConverter converter =
+			new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+		converter.setSupportedMediaTypes(List.of(RunnersMediaType.SMILE, RunnersMediaType.COMPACT_SMILE));
+		return converter;
+	}
+}
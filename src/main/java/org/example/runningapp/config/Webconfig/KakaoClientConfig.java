@@ -0,0 +1,87 @@
+package org.example.runningapp.config.Webconfig;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 카카오 API 클라이언트 설정
+ * - 커넥션 풀/keep-alive로 로그인마다 TLS 핸드셰이크를 반복하지 않음
+ * - 서킷 브레이커: 실패/지연 비율이 높으면 일정 시간 호출 없이 즉시 실패
+ * - 벌크헤드: 동시 호출 수 제한, 초과 시 대기 없이 거절하여 요청 스레드가 묶이지 않음
+ */
+@Configuration
+public class KakaoClientConfig {
+
+	public static final String KAKAO = "kakao";
+
+	@Bean
+	public WebClient kakaoWebClient(
+		WebClient.Builder builder,
+		@Value("${app.kakao.api.base-url:https://kapi.kakao.com}") String baseUrl,
+		@Value("${app.kakao.api.max-connections:50}") int maxConnections,
+		@Value("${app.kakao.api.connect-timeout-ms:2000}") int connectTimeoutMs,
+		@Value("${app.kakao.api.response-timeout-ms:3000}") long responseTimeoutMs) {
+		ConnectionProvider connectionProvider = ConnectionProvider.builder(KAKAO)
+			.maxConnections(maxConnections)
+			.pendingAcquireMaxCount(maxConnections * 2)
+			.pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMs))
+			.maxIdleTime(Duration.ofSeconds(30))       // 카카오 쪽 keep-alive 종료 전에 정리
+			.evictInBackground(Duration.ofSeconds(30))
+			.build();
+
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+			.responseTimeout(Duration.ofMillis(responseTimeoutMs))
+			.keepAlive(true);
+
+		return builder
+			.baseUrl(baseUrl)
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.build();
+	}
+
+	@Bean
+	public CircuitBreaker kakaoCircuitBreaker(
+		@Value("${app.kakao.api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+		@Value("${app.kakao.api.circuit-breaker.slow-call-duration-ms:2000}") long slowCallDurationMs,
+		@Value("${app.kakao.api.circuit-breaker.open-duration-ms:10000}") long openDurationMs) {
+		CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+			.slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+			.slidingWindowSize(20)
+			.minimumNumberOfCalls(10)
+			.failureRateThreshold(failureRateThreshold)
+			.slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+			.slowCallRateThreshold(failureRateThreshold)
+			.waitDurationInOpenState(Duration.ofMillis(openDurationMs))
+			.permittedNumberOfCallsInHalfOpenState(3)
+			// 잘못된/만료된 카카오 토큰(4xx)은 사용자 오류이므로 장애로 집계하지 않음
+			.recordException(e -> !(e instanceof WebClientResponseException response
+				&& response.getStatusCode().is4xxClientError()))
+			.build();
+		return CircuitBreaker.of(KAKAO, config);
+	}
+
+	@Bean
+	public Bulkhead kakaoBulkhead(
+		@Value("${app.kakao.api.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls) {
+		BulkheadConfig config = BulkheadConfig.custom()
+			.maxConcurrentCalls(maxConcurrentCalls)
+			.maxWaitDuration(Duration.ZERO)
+			.build();
+		return Bulkhead.of(KAKAO, config);
+	}
+}
@@ -1,23 +0,0 @@
-package org.example.runningapp.config.Webconfig;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class RestTemplateConfig {
-
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate(clientHttpRequestFactory());
-	}
-
-	private ClientHttpRequestFactory clientHttpRequestFactory() {
-		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-		factory.setConnectTimeout(5000); // 5초 (밀리초 단위)
-		factory.setReadTimeout(5000);    // 5초 (밀리초 단위)
-		return factory;
-	}
-}
\ No newline at end of file
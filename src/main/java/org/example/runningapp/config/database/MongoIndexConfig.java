@@ -0,0 +1,84 @@
+package org.example.runningapp.config.database;
+
+import org.example.runningapp.domain.heatmap.document.HeatmapContributor;
+import org.example.runningapp.domain.running.entity.RouteFingerprint;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.segment.document.Segment;
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+import org.example.runningapp.domain.stats.document.RunningRollup;
+import org.example.runningapp.domain.user.document.AccountDeletionJob;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.domain.Sort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿼리 동작에 필수인 인덱스 생성
+ * - auto-index-creation이 꺼져 있어 @CompoundIndex 등은 생성되지 않음
+ * - $near는 2dsphere 인덱스가 없으면 실패하므로 시작 시 직접 보장 (이미 있으면 무시됨)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+	private final MongoTemplate mongoTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		try {
+			IndexOperations sessionIndexes = mongoTemplate.indexOps(RunningSession.class);
+			sessionIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("userId", 1).append("startPoint", "2dsphere")));
+			sessionIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("userId", 1).append("routeBounds", "2dsphere")));
+			// 유휴 세션 자동 종료 스캔
+			sessionIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("status", 1).append("lastChunkAt", 1)));
+			// 콜드 스토리지 보관 대상 스캔
+			sessionIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("status", 1).append("finalizedAt", 1)));
+
+			// 세그먼트 후보 조회 (트랙 셀 $in 시작/끝 셀, multikey)
+			IndexOperations segmentIndexes = mongoTemplate.indexOps(Segment.class);
+			segmentIndexes.ensureIndex(new Index().on("startCells", Sort.Direction.ASC));
+			// 세그먼트 순위 (segmentId, elapsedMs 정렬) / 내 기록 (segmentId + userId, elapsedMs 정렬)
+			IndexOperations effortIndexes = mongoTemplate.indexOps(SegmentEffort.class);
+			effortIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("segmentId", 1).append("elapsedMs", 1)));
+			effortIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("segmentId", 1).append("userId", 1).append("elapsedMs", 1)));
+
+			// 사용자별 기간 통계 조회 (getStats)
+			IndexOperations rollupIndexes = mongoTemplate.indexOps(RunningRollup.class);
+			rollupIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("userId", 1).append("period", 1).append("bucketStart", 1)));
+			// 리더보드 재구성 (기간/버킷별 전체 사용자)
+			rollupIndexes.ensureIndex(new CompoundIndexDefinition(
+				new Document("period", 1).append("bucketStart", 1)));
+
+			// 사용자별 LSH 밴드 조회 (multikey)
+			mongoTemplate.indexOps(RouteFingerprint.class).ensureIndex(new CompoundIndexDefinition(
+				new Document("userId", 1).append("bandKeys", 1)));
+
+			// 회원 탈퇴 정리 배치의 userId/creatorId 조회
+			effortIndexes.ensureIndex(new Index().on("userId", Sort.Direction.ASC));
+			segmentIndexes.ensureIndex(new Index().on("creatorId", Sort.Direction.ASC));
+			mongoTemplate.indexOps(HeatmapContributor.class).ensureIndex(new Index().on("userId", Sort.Direction.ASC));
+			mongoTemplate.indexOps(AccountDeletionJob.class).ensureIndex(new CompoundIndexDefinition(
+				new Document("status", 1).append("requestedAt", 1)));
+
+			log.info("MongoDB 인덱스 확인 완료 - running_sessions, running_rollups, segments, segment_efforts, route_fingerprints, heatmap_contributors, account_deletion_jobs");
+		} catch (Exception e) {
+			log.error("MongoDB 인덱스 생성 실패 - 오류: {}", e.getMessage());
+		}
+	}
+}
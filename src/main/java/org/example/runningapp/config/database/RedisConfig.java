@@ -1,17 +1,21 @@
-/*
 package org.example.runningapp.config.database;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.util.StringUtils;
 
+/**
+ * Redis 연결 (app.cache.store=redis 일 때만 생성)
+ * - Spring Boot의 Redis 자동 구성은 제외되어 있으므로 memory 모드에서는 연결/헬스 체크 없음
+ */
 @Configuration
+@ConditionalOnProperty(name = "app.cache.store", havingValue = "redis")
 public class RedisConfig {
 
 	@Value("${spring.data.redis.host:localhost}")  // 경로 수정
@@ -39,21 +43,8 @@ public class RedisConfig {
 	}
 
 	@Bean
-	public RedisTemplate<String, String> redisTemplate() {
-		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-		redisTemplate.setConnectionFactory(redisConnectionFactory());
-
-		// 보안을 위해 직렬화/역직렬화를 명시적으로 설정
-		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new StringRedisSerializer());
-		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-		redisTemplate.setHashValueSerializer(new StringRedisSerializer());
-
-		// 기본 직렬화기 설정
-		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
-		redisTemplate.setEnableDefaultSerializer(true);
-
-		return redisTemplate;
+	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+		// 키/값 모두 문자열 직렬화
+		return new StringRedisTemplate(redisConnectionFactory);
 	}
 }
-*/
\ No newline at end of file
@@ -0,0 +1,49 @@
+package org.example.runningapp.config.scheduling;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+	public static final String RUNNING_EVENT_EXECUTOR = "runningEventExecutor";
+
+	/**
+	 * 기본 실행기 (MVC 비동기 응답, 이름 없는 @Async)
+	 * - 전용 실행기를 등록하면 Spring Boot 기본 실행기가 생성되지 않으므로 직접 등록
+	 */
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	/**
+	 * 러닝 데이터 후처리(통계/집계) 전용 실행기
+	 * - 큐가 가득 차면 호출 스레드에서 실행하여 이벤트 유실 없이 배압 적용
+	 */
+	@Bean(name = RUNNING_EVENT_EXECUTOR)
+	public ThreadPoolTaskExecutor runningEventExecutor(
+		@Value("${app.async.running-event.pool-size:2}") int poolSize,
+		@Value("${app.async.running-event.queue-capacity:1000}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("running-event-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+}
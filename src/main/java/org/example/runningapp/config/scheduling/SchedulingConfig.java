@@ -0,0 +1,13 @@
+package org.example.runningapp.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 예약 작업 활성화
+ * - 스케줄러 스레드 풀 크기는 spring.task.scheduling.pool.size (기본 1이 아니라 예약 작업 수 이상으로 설정)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
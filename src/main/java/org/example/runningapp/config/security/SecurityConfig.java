@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.runningapp.common.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -35,6 +36,7 @@ public class SecurityConfig {
 			.httpBasic(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(authorize -> authorize
 				.requestMatchers("/api/auth/**", "/health", "/actuator/**").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/users/deletion-jobs/*").permitAll()  // 탈퇴 후 진행 상황 조회
 				.requestMatchers("/api/gps/**").authenticated()  // GPS API는 인증 필요
 				.anyRequest().authenticated());
 
@@ -10,8 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.example.runningapp.domain.auth.document.BlacklistedToken;
 import org.example.runningapp.domain.auth.repository.BlacklistedTokenRepository;
-import org.example.runningapp.domain.user.entity.User;
 import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.common.security.TokenBlacklist;
+import org.example.runningapp.common.security.TokenDigest;
 
 import org.example.runningapp.config.dto.TokenDto;
 import org.example.runningapp.common.exception.InvalidJwtException;
@@ -19,9 +20,11 @@ import org.example.runningapp.domain.auth.dto.AuthResponse;
 import org.example.runningapp.domain.auth.dto.KakaoLoginRequest;
 import org.example.runningapp.domain.auth.dto.KakaoUserInfo;
 
-import org.example.runningapp.domain.auth.dto.UserDto;
 import org.example.runningapp.domain.auth.service.KakaoService;
-import org.example.runningapp.domain.auth.service.SimpleAuthService;
+import org.example.runningapp.domain.auth.service.LoginService;
+import org.example.runningapp.domain.auth.service.RefreshTokenStore;
+import org.example.runningapp.domain.auth.service.TokenRefreshService;
+import org.example.runningapp.domain.auth.dto.RefreshTokenRequest;
 import org.example.runningapp.domain.auth.dto.SimpleLoginRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -37,28 +40,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
 	private final KakaoService kakaoService;
-	private final SimpleAuthService simpleAuthService;
+	private final LoginService loginService;
+	private final RefreshTokenStore refreshTokenStore;
+	private final TokenRefreshService tokenRefreshService;
 	private final JwtTokenProvider tokenProvider;
 	private final BlacklistedTokenRepository blacklistedTokenRepository;
+	private final TokenBlacklist tokenBlacklist;
 
 	@PostMapping("/kakao/login")
 	public ResponseEntity<AuthResponse> kakaoLogin(@Valid @RequestBody KakaoLoginRequest request) {
 		log.debug("카카오 로그인 요청 처리");
 
-		// 1. 카카오 토큰으로 사용자 정보 조회
+		// 1. 카카오 토큰으로 사용자 정보 조회 (트랜잭션 밖에서 외부 호출)
 		KakaoUserInfo userInfo = kakaoService.getUserInfo(request.accessToken());
 
-		// 2. 사용자 정보로 회원가입/로그인 처리
-		User user = kakaoService.loginOrSignup(userInfo);
-
-		// 3. JWT 토큰 생성
-		TokenDto tokenDto = tokenProvider.generateTokenPair(user.getId());
-
-		// 4. 리프레시 토큰 DB에 저장
-		simpleAuthService.updateUserRefreshToken(user.getId(), tokenDto.refreshToken());
-
-		// 5. 응답 반환
-		return ResponseEntity.ok(new AuthResponse(tokenDto, UserDto.from(user)));
+		// 2. 회원가입/로그인, JWT 토큰 생성, 리프레시 토큰 저장을 한 트랜잭션으로 처리
+		return ResponseEntity.ok(loginService.kakaoLogin(userInfo));
 	}
 
 	/**
@@ -69,18 +66,19 @@ public class AuthController {
 	public ResponseEntity<AuthResponse> simpleLogin(@Valid @RequestBody SimpleLoginRequest request) {
 		log.debug("간단 로그인 요청 처리 - 사용자명: {}", request.username());
 
-		// 1. 간단 로그인/회원가입 처리
-		User user = simpleAuthService.simpleLoginOrSignup(request);
-
-		// 2. JWT 토큰 생성
-		TokenDto tokenDto = tokenProvider.generateTokenPair(user.getId());
+		// 회원가입/로그인, JWT 토큰 생성, 리프레시 토큰 저장을 한 트랜잭션으로 처리
+		AuthResponse response = loginService.simpleLogin(request);
 
-		// 3. 리프레시 토큰 DB에 저장
-		simpleAuthService.updateUserRefreshToken(user.getId(), tokenDto.refreshToken());
+		log.info("간단 로그인 성공 - 사용자 ID: {}, 사용자명: {}", response.user().id(), response.user().username());
+		return ResponseEntity.ok(response);
+	}
 
-		// 4. 응답 반환
-		log.info("간단 로그인 성공 - 사용자 ID: {}, 사용자명: {}", user.getId(), user.getUsername());
-		return ResponseEntity.ok(new AuthResponse(tokenDto, UserDto.from(user)));
+	/**
+	 * 액세스 토큰 재발급 (카카오 재로그인 없이 리프레시 토큰 회전)
+	 */
+	@PostMapping("/refresh")
+	public ResponseEntity<TokenDto> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+		return ResponseEntity.ok(tokenRefreshService.refresh(request.refreshToken()));
 	}
 
     // TODO: 아래 케이스에 맞는 올바른 변수명으로 정정 필요.
@@ -97,14 +95,17 @@ public class AuthController {
                 log.debug("userId : {}", userId);
 
 				// 2. DB에서 리프레시 토큰 삭제 (핵심 로그아웃 로직)
-				simpleAuthService.updateUserRefreshToken(userId, null);
+				refreshTokenStore.clear(userId);
 
 				// 3. 아직 유효한 토큰이라면 블랙리스트에 추가하여 즉시 사용 불가 처리
 				Claims claims = tokenProvider.parseToken(accessToken); // 유효성(만료 포함) 검사
 				Date expiration = claims.getExpiration();
 
-				BlacklistedToken blacklistedToken = new BlacklistedToken(null, accessToken, expiration);
+				// 원문 대신 다이제스트만 저장, 현재 인스턴스에는 즉시 반영하고 다른 인스턴스에 알림
+				String tokenHash = TokenDigest.toHex(TokenDigest.sha256(accessToken));
+				BlacklistedToken blacklistedToken = new BlacklistedToken(null, null, tokenHash, expiration);
 				blacklistedTokenRepository.save(blacklistedToken);
+				tokenBlacklist.addAndPublish(tokenHash, expiration);
 
 			} catch (InvalidJwtException e) {
 				// - 토큰이 이미 만료된 경우: parseToken에서 예외 발생. 하지만 리프레시 토큰은 이미 삭제되었으므로 로그아웃 처리 완료.
@@ -18,8 +18,11 @@ public class BlacklistedToken {
     @Id
     private String id;
 
+    // 기존 문서 호환용 (신규 문서는 원문 대신 tokenHash만 저장)
     private String token;
 
+    private String tokenHash;  // SHA-256 hex (TokenDigest)
+
     @Indexed(name = "expire_at_ttl_index", expireAfterSeconds = 0)
     private Date expireAt;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.example.runningapp.domain.auth.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 토큰 버전 - 값을 올리면 이전 버전으로 발급된 모든 토큰이 무효화됨
+ * - 문서가 없으면 버전 0
+ */
+@Document(collection = "token_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenVersion {
+
+	@Id
+	private Long userId;
+
+	private long version;
+
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,8 @@
+package org.example.runningapp.domain.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+	@NotBlank(message = "리프레시 토큰은 필수 입력값입니다.")
+	String refreshToken
+) { }
@@ -4,5 +4,4 @@ import org.example.runningapp.domain.auth.document.BlacklistedToken;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface BlacklistedTokenRepository extends MongoRepository<BlacklistedToken, String> {
-    boolean existsByToken(String token);
 }
@@ -0,0 +1,67 @@
+package org.example.runningapp.domain.auth.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.example.runningapp.common.cache.CacheStore;
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.common.security.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * CacheStore에 저장 (재발급 경로에서 Postgres 조회/UPDATE 제거)
+ * - 값은 "계열ID:토큰 SHA-256" 형태로 원문을 저장하지 않음
+ * - 리프레시 토큰 만료 시간과 같은 TTL로 저장
+ * - memory 저장소는 인스턴스 간 공유되지 않으므로 여러 인스턴스에서는 redis와 함께 사용
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.refresh-token.store", havingValue = "cache")
+public class CacheRefreshTokenStore implements RefreshTokenStore {
+
+	private static final String KEY_PREFIX = "refresh:token:";
+
+	private final CacheStore cacheStore;
+	private final JwtTokenProvider tokenProvider;
+	private final Duration ttl;
+
+	public CacheRefreshTokenStore(
+		CacheStore cacheStore,
+		JwtTokenProvider tokenProvider,
+		@Value("${app.auth.jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs) {
+		this.cacheStore = cacheStore;
+		this.tokenProvider = tokenProvider;
+		this.ttl = Duration.ofMillis(refreshTokenExpirationMs);
+	}
+
+	@Override
+	public void save(Long userId, String refreshToken) {
+		cacheStore.set(keyOf(userId), valueOf(refreshToken), ttl);
+	}
+
+	@Override
+	public boolean rotate(Long userId, String current, String next) {
+		return cacheStore.compareAndSet(keyOf(userId), valueOf(current), valueOf(next), ttl);
+	}
+
+	@Override
+	public Optional<String> findFamily(Long userId) {
+		return cacheStore.get(keyOf(userId))
+			.map(value -> value.substring(0, value.indexOf(':')));
+	}
+
+	@Override
+	public void clear(Long userId) {
+		cacheStore.delete(keyOf(userId));
+	}
+
+	private static String keyOf(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private String valueOf(String refreshToken) {
+		String family = tokenProvider.getFamilyIgnoringExpiration(refreshToken);
+		return (family != null ? family : "") + ":" + TokenDigest.toHex(TokenDigest.sha256(refreshToken));
+	}
+}
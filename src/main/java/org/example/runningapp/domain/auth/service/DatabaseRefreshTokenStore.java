@@ -0,0 +1,48 @@
+package org.example.runningapp.domain.auth.service;
+
+import java.util.Optional;
+
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.domain.user.repository.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * users.refresh_token 컬럼에 저장 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.refresh-token.store", havingValue = "database", matchIfMissing = true)
+public class DatabaseRefreshTokenStore implements RefreshTokenStore {
+
+	private final UserRepository userRepository;
+	private final JwtTokenProvider tokenProvider;
+
+	/**
+	 * 로그인 트랜잭션 안에서는 이미 로드된 엔티티를 사용하므로 추가 SELECT 없이 커밋 시 UPDATE에 합쳐짐
+	 */
+	@Override
+	@Transactional
+	public void save(Long userId, String refreshToken) {
+		userRepository.findById(userId).ifPresent(user -> user.updateRefreshToken(refreshToken));
+	}
+
+	@Override
+	public boolean rotate(Long userId, String current, String next) {
+		return userRepository.rotateRefreshToken(userId, current, next) == 1;
+	}
+
+	@Override
+	public Optional<String> findFamily(Long userId) {
+		return userRepository.findRefreshTokenById(userId)
+			.map(tokenProvider::getFamilyIgnoringExpiration);
+	}
+
+	@Override
+	public void clear(Long userId) {
+		userRepository.clearRefreshToken(userId);
+	}
+}
@@ -1,61 +1,74 @@
 package org.example.runningapp.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.runningapp.common.exception.ExternalServiceException;
 import org.example.runningapp.common.exception.UserAlreadyExistsException;
+import org.example.runningapp.common.security.TokenDigest;
 import org.example.runningapp.domain.user.entity.User;
 import org.example.runningapp.domain.user.repository.UserRepository;
 import org.example.runningapp.common.security.AuthProvider;
 import org.example.runningapp.domain.auth.dto.KakaoUserInfo;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.example.runningapp.infrastructure.kakao.KakaoApiClient;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import reactor.core.publisher.Mono;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoService {
 
 	private final UserRepository userRepository;
-	private final RestTemplate restTemplate;
-
-	private static final String KAKAO_USER_INFO_URI = "https://kapi.kakao.com/v2/user/me";
+	private final KakaoApiClient kakaoApiClient;
+
+	// 토큰 다이제스트 -> 사용자 정보 (진행 중인 조회도 같은 future를 공유)
+	private final AsyncCache<ByteBuffer, KakaoUserInfo> userInfoCache;
+
+	public KakaoService(
+		UserRepository userRepository,
+		KakaoApiClient kakaoApiClient,
+		@Value("${app.kakao.user-info.cache-ttl-ms:60000}") long cacheTtlMs,
+		@Value("${app.kakao.user-info.cache-max-size:10000}") long cacheMaxSize) {
+		this.userRepository = userRepository;
+		this.kakaoApiClient = kakaoApiClient;
+		this.userInfoCache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+			.maximumSize(cacheMaxSize)
+			.buildAsync();
+	}
 
 	/**
 	 * 카카오 토큰으로 사용자 정보 조회
+	 * - 같은 토큰의 재시도/중복 로그인은 TTL 동안 캐시된 결과를 사용 (키는 토큰 원문이 아닌 SHA-256)
+	 * - 동시에 들어온 같은 토큰 조회는 하나의 외부 호출 결과를 공유하며, 실패한 결과는 캐시에 남지 않음
+	 * - 풀링된 논블로킹 클라이언트로 호출하고 응답만 기다림 (최대 응답 타임아웃)
+	 * - 카카오 장애 시 서킷 브레이커/벌크헤드가 호출 없이 즉시 실패시킴
 	 */
 	public KakaoUserInfo getUserInfo(String accessToken) {
 		try {
-			HttpHeaders headers = new HttpHeaders();
-			headers.setBearerAuth(accessToken);
-
-			HttpEntity<String> entity = new HttpEntity<>(headers);
-			ResponseEntity<Map> response = restTemplate.exchange(
-				KAKAO_USER_INFO_URI,
-				HttpMethod.GET,
-				entity,
-				Map.class
-			);
-
-			Map<String, Object> body = response.getBody();
-			if (body == null) {
-				// 원인(cause)이 없는 경우 - RuntimeException으로 감싸기
-				RuntimeException noResponseException = new RuntimeException("카카오 API 응답이 null입니다");
-				throw new ExternalServiceException("카카오 API로부터 응답을 받지 못했습니다", noResponseException);
-			}
+			ByteBuffer key = ByteBuffer.wrap(TokenDigest.sha256(accessToken));
+			// 공유 future이므로 한 요청이 중단되어도 다른 대기자의 조회는 취소하지 않음
+			return Mono.fromFuture(userInfoCache.get(key, (k, executor) -> fetchUserInfo(accessToken).toFuture()), true)
+				.block();
 
-			return extractKakaoUserInfo(body);
+		} catch (CallNotPermittedException | BulkheadFullException e) {
+			log.warn("카카오 API 호출 차단 - 사유: {}", e.getMessage());
+			throw new ExternalServiceException("카카오 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요", e);
 
-		} catch (RestClientException e) {
+		} catch (WebClientException e) {
 			log.error("카카오 API 호출 실패 - 토큰: {}..., 오류: {}",
 				accessToken.substring(0, Math.min(10, accessToken.length())), e.getMessage());
 			throw new ExternalServiceException("카카오 서버와 통신 중 오류가 발생했습니다", e);
@@ -69,8 +82,18 @@ public class KakaoService {
 		}
 	}
 
+	private Mono<KakaoUserInfo> fetchUserInfo(String accessToken) {
+		return kakaoApiClient.fetchUserMe(accessToken)
+			.switchIfEmpty(Mono.error(() -> new ExternalServiceException("카카오 API로부터 응답을 받지 못했습니다",
+				new RuntimeException("카카오 API 응답이 null입니다"))))
+			.map(this::extractKakaoUserInfo);
+	}
+
 	/**
 	 * 카카오 사용자 정보로 로그인 또는 회원가입 처리
+	 * - 중복 가입 여부는 kakao_id/email 유니크 제약으로 판단 (사전 exists 조회 없음)
+	 * - 신규 가입 INSERT가 제약 위반이면 DataIntegrityViolationException을 그대로 전파,
+	 *   호출 측이 새 트랜잭션에서 loginAfterSignupConflict로 처리
 	 */
 	@Transactional
 	public User loginOrSignup(KakaoUserInfo userInfo) {
@@ -86,6 +109,21 @@ public class KakaoService {
 		}
 	}
 
+	/**
+	 * 신규 가입이 유니크 제약에 걸린 뒤의 재시도
+	 * - 같은 카카오 계정의 동시 최초 로그인이면 먼저 가입된 계정으로 로그인
+	 * - 카카오 계정이 없다면 이메일이 다른 계정에서 사용 중인 경우
+	 */
+	@Transactional
+	public User loginAfterSignupConflict(KakaoUserInfo userInfo) {
+		return userRepository.findByKakaoId(userInfo.id())
+			.map(existingUser -> handleExistingKakaoUser(existingUser, userInfo))
+			.orElseThrow(() -> new UserAlreadyExistsException(
+				String.format("이메일 '%s'로 이미 가입된 계정이 있습니다. 기존 계정으로 로그인해주세요",
+					userInfo.email())
+			));
+	}
+
 	private void validateKakaoUserInfo(KakaoUserInfo userInfo) {
 		if (userInfo.id() == null || userInfo.id().trim().isEmpty()) {
 			IllegalArgumentException invalidIdException = new IllegalArgumentException("카카오 ID가 null이거나 비어있습니다");
@@ -115,14 +153,6 @@ public class KakaoService {
 	private User handleNewKakaoUser(KakaoUserInfo userInfo) {
 		log.debug("신규 카카오 사용자 회원가입 처리");
 
-		// 이메일 중복 체크 (카카오 이메일이 이미 등록된 경우)
-		if (userInfo.email() != null && userRepository.existsByEmail(userInfo.email())) {
-			throw new UserAlreadyExistsException(
-				String.format("이메일 '%s'로 이미 가입된 계정이 있습니다. 기존 계정으로 로그인해주세요",
-					userInfo.email())
-			);
-		}
-
 		try {
 			User newUser = User.builder()
 				.kakaoId(userInfo.id())
@@ -138,6 +168,9 @@ public class KakaoService {
 
 			return savedUser;
 
+		} catch (DataIntegrityViolationException e) {
+			throw e; // kakao_id/email 중복 - 호출 측에서 처리
+
 		} catch (Exception e) {
 			log.error("카카오 사용자 생성 실패 - 카카오ID: {}, 오류: {}", userInfo.id(), e.getMessage());
 			throw new ExternalServiceException("카카오 계정 연동 중 오류가 발생했습니다", e);
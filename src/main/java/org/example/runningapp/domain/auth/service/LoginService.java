@@ -0,0 +1,73 @@
+package org.example.runningapp.domain.auth.service;
+
+import java.util.function.Supplier;
+
+import org.example.runningapp.common.exception.UserAlreadyExistsException;
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.config.dto.TokenDto;
+import org.example.runningapp.domain.auth.dto.AuthResponse;
+import org.example.runningapp.domain.auth.dto.KakaoUserInfo;
+import org.example.runningapp.domain.auth.dto.SimpleLoginRequest;
+import org.example.runningapp.domain.auth.dto.UserDto;
+import org.example.runningapp.domain.user.entity.User;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 트랜잭션 (사용자 조회/가입 + 토큰 발급 + 리프레시 토큰 저장)
+ * - 하나의 트랜잭션에서 로드한 엔티티에 리프레시 토큰을 기록하여 커밋 시 UPDATE 1회로 반영
+ *   (기존: 로그인 트랜잭션 이후 별도 트랜잭션에서 findById + save, cache 저장소 사용 시 UPDATE 없음)
+ * - 중복 가입은 유니크 제약 위반으로 감지, 트랜잭션이 롤백되므로 새 트랜잭션에서만 재시도
+ */
+@Slf4j
+@Service
+public class LoginService {
+
+	private final KakaoService kakaoService;
+	private final SimpleAuthService simpleAuthService;
+	private final JwtTokenProvider tokenProvider;
+	private final RefreshTokenStore refreshTokenStore;
+	private final TransactionTemplate transactionTemplate;
+
+	public LoginService(KakaoService kakaoService, SimpleAuthService simpleAuthService,
+		JwtTokenProvider tokenProvider, RefreshTokenStore refreshTokenStore,
+		PlatformTransactionManager transactionManager) {
+		this.kakaoService = kakaoService;
+		this.simpleAuthService = simpleAuthService;
+		this.tokenProvider = tokenProvider;
+		this.refreshTokenStore = refreshTokenStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	public AuthResponse kakaoLogin(KakaoUserInfo userInfo) {
+		try {
+			return loginInTransaction(() -> kakaoService.loginOrSignup(userInfo));
+		} catch (DataIntegrityViolationException e) {
+			log.info("카카오 신규 가입 중 유니크 제약 위반 - 카카오ID: {}, 재확인", userInfo.id());
+			return loginInTransaction(() -> kakaoService.loginAfterSignupConflict(userInfo));
+		}
+	}
+
+	public AuthResponse simpleLogin(SimpleLoginRequest request) {
+		try {
+			return loginInTransaction(() -> simpleAuthService.simpleLoginOrSignup(request));
+		} catch (DataIntegrityViolationException e) {
+			// users 테이블에서 간단 로그인이 쓰는 유니크 컬럼은 email뿐
+			throw new UserAlreadyExistsException(
+				String.format("이메일 '%s'는 이미 다른 계정에서 사용 중입니다", request.email()), e);
+		}
+	}
+
+	private AuthResponse loginInTransaction(Supplier<User> login) {
+		return transactionTemplate.execute(status -> {
+			User user = login.get();
+			TokenDto tokenDto = tokenProvider.generateTokenPair(user.getId(), user.getEmail());
+			refreshTokenStore.save(user.getId(), tokenDto.refreshToken());
+			return new AuthResponse(tokenDto, UserDto.from(user));
+		});
+	}
+}
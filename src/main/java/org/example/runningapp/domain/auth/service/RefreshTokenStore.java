@@ -0,0 +1,29 @@
+package org.example.runningapp.domain.auth.service;
+
+import java.util.Optional;
+
+/**
+ * 사용자별 현재 리프레시 토큰 저장소 (사용자당 1개, 회전 시 교체)
+ * - 구현체는 app.auth.refresh-token.store 설정으로 선택 (database: users 테이블, cache: CacheStore)
+ */
+public interface RefreshTokenStore {
+
+	/**
+	 * 로그인 시 새 토큰 계열로 교체
+	 */
+	void save(Long userId, String refreshToken);
+
+	/**
+	 * 저장된 토큰이 current와 같을 때만 next로 교체 (동시 재발급 중 하나만 성공)
+	 *
+	 * @return 교체했으면 true
+	 */
+	boolean rotate(Long userId, String current, String next);
+
+	/**
+	 * 저장된 토큰의 계열 ID (재사용 감지용)
+	 */
+	Optional<String> findFamily(Long userId);
+
+	void clear(Long userId);
+}
@@ -9,6 +9,7 @@ import org.example.runningapp.domain.user.entity.User;
 import org.example.runningapp.domain.user.repository.UserRepository;
 import org.example.runningapp.common.security.AuthProvider;
 import org.example.runningapp.domain.auth.dto.SimpleLoginRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,11 @@ public class SimpleAuthService {
 
 	private final UserRepository userRepository;
 
+	/**
+	 * 간단 로그인 또는 회원가입
+	 * - 이메일 중복은 email 유니크 제약으로 판단 (사전 exists 조회 없음)
+	 *   신규 가입 INSERT는 즉시, 기존 사용자 이메일 변경은 커밋 시점에 DataIntegrityViolationException 발생
+	 */
 	@Transactional
 	public User simpleLoginOrSignup(SimpleLoginRequest request) {
 		log.debug("간단 로그인 시도 - 사용자명: {}", request.username());
@@ -57,13 +63,7 @@ public class SimpleAuthService {
 
 		// 이메일 업데이트 (필요시)
 		if (shouldUpdateEmail(existingUser, request.email())) {
-			// 이메일 중복 체크
-			if (userRepository.existsByEmail(request.email())) {
-				throw new UserAlreadyExistsException(
-					String.format("이메일 '%s'는 다른 계정에서 이미 사용 중입니다", request.email())
-				);
-			}
-			existingUser = existingUser.updateProfile(existingUser.getUsername(), existingUser.getProfileImage());
+			existingUser = existingUser.updateEmail(request.email());
 		}
 
 		return existingUser;
@@ -90,6 +90,9 @@ public class SimpleAuthService {
 
 			return savedUser;
 
+		} catch (DataIntegrityViolationException e) {
+			throw e; // email 중복 - 호출 측에서 처리
+
 		} catch (Exception e) {
 			log.error("사용자 생성 실패 - 사용자명: {}, 오류: {}", request.username(), e.getMessage());
 			throw new ExternalServiceException("사용자 계정 생성 중 오류가 발생했습니다", e);
@@ -97,19 +100,7 @@ public class SimpleAuthService {
 	}
 
 	private void validateNewUser(SimpleLoginRequest request) {
-		// 사용자명 중복 체크 (double-check)
-		if (userRepository.existsByUsername(request.username())) {
-			throw new UserAlreadyExistsException(
-				String.format("사용자명 '%s'는 이미 사용 중입니다", request.username())
-			);
-		}
-
-		// 이메일 중복 체크
-		if (request.email() != null && userRepository.existsByEmail(request.email())) {
-			throw new UserAlreadyExistsException(
-				String.format("이메일 '%s'는 이미 등록된 계정입니다", request.email())
-			);
-		}
+		// 사용자명은 같은 트랜잭션의 findByUsername에서 이미 없음을 확인, 이메일 중복은 INSERT 시 유니크 제약이 검사
 
 		// 비즈니스 규칙 검증
 		if (isReservedUsername(request.username())) {
@@ -0,0 +1,53 @@
+package org.example.runningapp.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.example.runningapp.common.exception.InvalidJwtException;
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.config.dto.TokenDto;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰 재발급 (회전 + 계열 단위 재사용 감지)
+ * - 정상 경로: 토큰 검증(캐시) → 저장된 토큰과 같을 때만 교체(RefreshTokenStore) → 새 토큰 쌍 반환
+ *   (외부 호출/사용자 조회 없음 - 이메일은 토큰 클레임에서 가져옴)
+ * - 교체 실패 시 저장된 토큰이 같은 계열이면 이미 회전된 토큰의 재사용으로 보고
+ *   계열 전체(저장된 리프레시 토큰)와 발급된 모든 토큰(토큰 버전)을 폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRefreshService {
+
+	private final JwtTokenProvider tokenProvider;
+	private final RefreshTokenStore refreshTokenStore;
+	private final TokenVersionService tokenVersionService;
+
+	public TokenDto refresh(String refreshToken) {
+		Claims claims = tokenProvider.parseRefreshToken(refreshToken);
+		Long userId = Long.parseLong(claims.getSubject());
+		String family = claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class);
+
+		TokenDto tokenDto = tokenProvider.generateTokenPair(
+			userId, claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class), family);
+
+		if (refreshTokenStore.rotate(userId, refreshToken, tokenDto.refreshToken())) {
+			log.debug("리프레시 토큰 회전 완료 - 사용자: {}", userId);
+			return tokenDto;
+		}
+
+		// 교체 실패 - 로그아웃되었거나, 이미 회전된 토큰이 다시 제시됨
+		String storedFamily = refreshTokenStore.findFamily(userId).orElse(null);
+
+		if (family != null && family.equals(storedFamily)) {
+			refreshTokenStore.clear(userId);
+			tokenVersionService.revokeAll(userId);
+			log.warn("리프레시 토큰 재사용 감지 - 사용자: {}, 계열 폐기", userId);
+			throw new InvalidJwtException("재사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+		}
+
+		throw new InvalidJwtException("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.");
+	}
+}
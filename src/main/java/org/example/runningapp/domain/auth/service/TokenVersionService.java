@@ -0,0 +1,95 @@
+package org.example.runningapp.domain.auth.service;
+
+import org.example.runningapp.common.cache.InvalidationBus;
+import org.example.runningapp.common.cache.InvalidationHandler;
+import org.example.runningapp.domain.auth.document.TokenVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 버전 조회/증가 (전체 토큰 폐기용)
+ * - 인증 필터가 요청마다 호출하므로 인스턴스 메모리에 캐시하고 만료 시에만 MongoDB 조회
+ * - 버전을 올린 인스턴스는 즉시 반영, 다른 인스턴스는 InvalidationBus 알림으로 반영 (유실 시 캐시 TTL 이내)
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements InvalidationHandler {
+
+	public static final String TOPIC = "token-version";
+
+	private final MongoTemplate mongoTemplate;
+	private final InvalidationBus invalidationBus;
+	private final Cache<Long, Long> versionCache;
+
+	public TokenVersionService(
+		MongoTemplate mongoTemplate,
+		InvalidationBus invalidationBus,
+		@Value("${app.auth.token-version.cache-ttl-ms:30000}") long cacheTtlMs,
+		@Value("${app.auth.token-version.cache-max-size:100000}") long cacheMaxSize) {
+		this.mongoTemplate = mongoTemplate;
+		this.invalidationBus = invalidationBus;
+		this.versionCache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+			.maximumSize(cacheMaxSize)
+			.build();
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		invalidationBus.subscribe(TOPIC, this);
+	}
+
+	public long currentVersion(Long userId) {
+		return versionCache.get(userId, this::loadVersion);
+	}
+
+	/**
+	 * 사용자의 기존 토큰을 모두 무효화
+	 *
+	 * @return 새 버전 (이후 발급되는 토큰에 사용)
+	 */
+	public long revokeAll(Long userId) {
+		Query query = Query.query(Criteria.where("_id").is(userId));
+		Update update = new Update()
+			.inc("version", 1)
+			.set("updatedAt", LocalDateTime.now());
+
+		TokenVersion updated = mongoTemplate.findAndModify(query, update,
+			FindAndModifyOptions.options().upsert(true).returnNew(true), TokenVersion.class);
+
+		long version = updated != null ? updated.getVersion() : loadVersion(userId);
+		versionCache.put(userId, version);
+		invalidationBus.publish(TOPIC, String.valueOf(userId));
+		log.info("사용자 토큰 전체 폐기 - 사용자: {}, 새 버전: {}", userId, version);
+		return version;
+	}
+
+	@Override
+	public void invalidate(String key) {
+		versionCache.invalidate(Long.valueOf(key));
+	}
+
+	@Override
+	public void invalidateAll() {
+		versionCache.invalidateAll();
+	}
+
+	private Long loadVersion(Long userId) {
+		TokenVersion tokenVersion = mongoTemplate.findById(userId, TokenVersion.class);
+		return tokenVersion != null ? tokenVersion.getVersion() : 0L;
+	}
+}
@@ -0,0 +1,36 @@
+package org.example.runningapp.domain.heatmap.controller;
+
+import org.example.runningapp.domain.heatmap.dto.HeatmapTileResponse;
+import org.example.runningapp.domain.heatmap.service.HeatmapService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/heatmap")
+@RequiredArgsConstructor
+public class HeatmapController {
+
+	private final HeatmapService heatmapService;
+
+	/**
+	 * 히트맵 타일 (Web Mercator z/x/y) - 집계값은 수 초 단위로만 변하므로 짧게 캐시
+	 */
+	@GetMapping("/tiles/{z}/{x}/{y}")
+	public ResponseEntity<HeatmapTileResponse> getTile(
+		@PathVariable int z,
+		@PathVariable int x,
+		@PathVariable int y) {
+
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS))
+			.body(heatmapService.getTile(z, x, y));
+	}
+}
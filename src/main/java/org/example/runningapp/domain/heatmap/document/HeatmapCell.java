@@ -0,0 +1,33 @@
+package org.example.runningapp.domain.heatmap.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히트맵 셀별 누적 통과 수 (전체 사용자)
+ * - _id: geohash (정밀도별로 별도 문서, 줌 레벨에 맞는 정밀도만 조회)
+ * - count: 셀을 지난 세션 수 (한 세션은 셀당 한 번만 집계)
+ * - contributorCount: 셀을 지난 서로 다른 사용자 수 (노출 기준)
+ */
+@Document(collection = "heatmap_cells")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapCell {
+
+	@Id
+	private String cell;
+
+	private int precision;
+	private double latitude;      // 셀 중심
+	private double longitude;
+	private long count;
+	private long contributorCount;
+
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package org.example.runningapp.domain.heatmap.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 히트맵 셀을 지난 사용자 표시 (셀별 서로 다른 사용자 수 집계용)
+ * - _id: "{geohash}:{userId}" - 처음 insert될 때만 셀의 contributorCount 증가
+ * - 회원 탈퇴 시 userId 기준으로 삭제 (셀 카운트는 익명 집계로 유지)
+ */
+@Document(collection = "heatmap_contributors")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapContributor {
+
+	@Id
+	private String id;
+
+	private String cell;
+	private Long userId;
+
+	public static String idOf(String cell, Long userId) {
+		return cell + ":" + userId;
+	}
+}
@@ -0,0 +1,20 @@
+package org.example.runningapp.domain.heatmap.dto;
+
+import java.util.List;
+
+public record HeatmapTileResponse(
+	int z,
+	int x,
+	int y,
+	int precision,               // 사용된 geohash 정밀도
+	List<Cell> cells
+) {
+	public record Cell(
+		String cell,
+		double latitude,
+		double longitude,
+		long count,
+		double intensity         // 타일 내 최대값 기준 0~1 (로그 스케일)
+	) {
+	}
+}
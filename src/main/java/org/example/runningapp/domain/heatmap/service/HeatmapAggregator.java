@@ -0,0 +1,256 @@
+package org.example.runningapp.domain.heatmap.service;
+
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.config.scheduling.AsyncConfig;
+import org.example.runningapp.domain.heatmap.document.HeatmapCell;
+import org.example.runningapp.domain.heatmap.document.HeatmapContributor;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 히트맵 셀 카운트 집계
+ * - 종료된 세션 트랙을 정밀도별 geohash 셀로 변환, 세션당 셀마다 한 번만 메모리 버퍼에 누적
+ *   (제자리에 서 있는 동안의 좌표가 카운트를 부풀리지 않도록 좌표 수가 아닌 통과 수로 집계)
+ * - 셀별 서로 다른 사용자 수는 heatmap_contributors 표시 문서가 처음 생성될 때만 증가
+ * - 주기적으로(또는 버퍼가 가득 차면) bulk upsert $inc로 한 번에 반영
+ * - 반영 실패 시 실패한 연산의 셀/사용자만 버퍼에 되돌려 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+public class HeatmapAggregator {
+
+	// 줌 레벨별로 사용하는 정밀도 (HeatmapService.precisionFor)
+	static final List<Integer> PRECISIONS = List.of(3, 4, 5, 6, 7);
+
+	private final MongoTemplate mongoTemplate;
+	private final int maxBufferedCells;
+	private final AtomicReference<ConcurrentHashMap<String, CellDelta>> buffer =
+		new AtomicReference<>(new ConcurrentHashMap<>());
+	// 누적 중인 스레드가 교체된 버퍼에 쓰지 않도록 교체 시에만 write lock
+	private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+	public HeatmapAggregator(
+		MongoTemplate mongoTemplate,
+		@Value("${app.heatmap.max-buffered-cells:50000}") int maxBufferedCells) {
+		this.mongoTemplate = mongoTemplate;
+		this.maxBufferedCells = maxBufferedCells;
+	}
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onSessionFinalized(RunningSessionFinalizedEvent event) {
+		RunningTrack track = event.track();
+		if (track == null || track.pointCount() == 0) {
+			return;
+		}
+
+		// 세션 안에서 같은 셀은 한 번만
+		Set<String> visited = new HashSet<>();
+		for (int p = 0; p < track.pointCount(); p++) {
+			// 가장 긴 정밀도로 한 번만 인코딩하고 접두어로 상위 셀 계산
+			String cell = Geohash.encode(track.getLatitudes().get(p), track.getLongitudes().get(p),
+				PRECISIONS.get(PRECISIONS.size() - 1));
+			for (int precision : PRECISIONS) {
+				visited.add(cell.substring(0, precision));
+			}
+		}
+
+		int bufferedCells;
+		swapLock.readLock().lock();
+		try {
+			ConcurrentHashMap<String, CellDelta> current = buffer.get();
+			for (String cell : visited) {
+				CellDelta delta = current.computeIfAbsent(cell, k -> new CellDelta());
+				delta.passes.increment();
+				delta.users.add(event.userId());
+			}
+			bufferedCells = current.size();
+		} finally {
+			swapLock.readLock().unlock();
+		}
+
+		if (bufferedCells >= maxBufferedCells) {
+			flush();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.heatmap.flush-interval-ms:10000}")
+	public void scheduledFlush() {
+		flush();
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	synchronized void flush() {
+		ConcurrentHashMap<String, CellDelta> pending;
+		swapLock.writeLock().lock();
+		try {
+			pending = buffer.getAndSet(new ConcurrentHashMap<>());
+		} finally {
+			swapLock.writeLock().unlock();
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		recordContributors(pending);
+		applyCellCounts(pending);
+	}
+
+	/**
+	 * 셀/사용자 표시 문서 upsert - 새로 생성된 표시만 셀의 contributors에 더함
+	 * 실패한 표시는 사용자만 버퍼에 되돌림 (표시 문서는 멱등이므로 재시도 시 중복 집계 없음)
+	 */
+	private void recordContributors(Map<String, CellDelta> pending) {
+		List<String> cells = new ArrayList<>();
+		List<Long> users = new ArrayList<>();
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HeatmapContributor.class);
+		pending.forEach((cell, delta) -> {
+			for (Long userId : delta.users) {
+				cells.add(cell);
+				users.add(userId);
+				bulk.upsert(Query.query(Criteria.where("_id").is(HeatmapContributor.idOf(cell, userId))),
+					new Update().setOnInsert("cell", cell).setOnInsert("userId", userId));
+			}
+		});
+		if (cells.isEmpty()) {
+			return;
+		}
+
+		BulkWriteResult result;
+		Set<Integer> failed = new HashSet<>();
+		try {
+			result = bulk.execute();
+		} catch (BulkOperationException e) {
+			result = e.getResult();
+			e.getErrors().stream().map(BulkWriteError::getIndex).forEach(failed::add);
+			log.error("히트맵 사용자 표시 일부 반영 실패, 다음 주기에 재시도 - 실패: {}/{}", failed.size(), cells.size());
+		} catch (Exception e) {
+			log.error("히트맵 사용자 표시 반영 실패, 다음 주기에 재시도 - 표시 수: {}, 오류: {}", cells.size(), e.getMessage());
+			requeue(cells, users, null);
+			return;
+		}
+
+		result.getUpserts().forEach(upsert -> pending.get(cells.get(upsert.getIndex())).newContributors.increment());
+
+		List<String> failedCells = new ArrayList<>();
+		List<Long> failedUsers = new ArrayList<>();
+		failed.forEach(index -> {
+			failedCells.add(cells.get(index));
+			failedUsers.add(users.get(index));
+		});
+		requeue(failedCells, failedUsers, null);
+	}
+
+	/**
+	 * 셀 통과 수/사용자 수 $inc - 실패한 셀의 증분만 버퍼에 되돌림
+	 */
+	private void applyCellCounts(Map<String, CellDelta> pending) {
+		List<String> cells = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HeatmapCell.class);
+		pending.forEach((cell, delta) -> {
+			long passes = delta.passes.sum();
+			long contributors = delta.newContributors.sum();
+			if (passes == 0 && contributors == 0) {
+				return;
+			}
+			double[] bounds = Geohash.bounds(cell);
+
+			Update update = new Update()
+				.inc("count", passes)
+				.inc("contributorCount", contributors)
+				.setOnInsert("precision", cell.length())
+				.setOnInsert("latitude", (bounds[0] + bounds[2]) / 2)
+				.setOnInsert("longitude", (bounds[1] + bounds[3]) / 2)
+				.set("updatedAt", now);
+			bulk.upsert(Query.query(Criteria.where("_id").is(cell)), update);
+			cells.add(cell);
+		});
+		if (cells.isEmpty()) {
+			return;
+		}
+
+		List<String> failedCells = new ArrayList<>();
+		try {
+			bulk.execute();
+			log.debug("히트맵 셀 반영 - 셀 수: {}", cells.size());
+		} catch (BulkOperationException e) {
+			e.getErrors().forEach(error -> failedCells.add(cells.get(error.getIndex())));
+			log.error("히트맵 셀 일부 반영 실패, 다음 주기에 재시도 - 실패: {}/{}", failedCells.size(), cells.size());
+		} catch (Exception e) {
+			log.error("히트맵 셀 반영 실패, 다음 주기에 재시도 - 셀 수: {}, 오류: {}", cells.size(), e.getMessage());
+			failedCells.addAll(cells);
+		}
+
+		requeue(failedCells, null, pending);
+	}
+
+	/**
+	 * 실패한 연산만 현재 버퍼에 되돌림
+	 *
+	 * @param users  null이 아니면 cells와 같은 순서의 사용자 표시
+	 * @param deltas null이 아니면 cells의 통과 수/사용자 수 증분
+	 */
+	private void requeue(List<String> cells, List<Long> users, Map<String, CellDelta> deltas) {
+		if (cells.isEmpty()) {
+			return;
+		}
+		swapLock.readLock().lock();
+		try {
+			ConcurrentHashMap<String, CellDelta> current = buffer.get();
+			for (int i = 0; i < cells.size(); i++) {
+				CellDelta target = current.computeIfAbsent(cells.get(i), k -> new CellDelta());
+				if (users != null) {
+					target.users.add(users.get(i));
+				}
+				if (deltas != null) {
+					CellDelta failed = deltas.get(cells.get(i));
+					target.passes.add(failed.passes.sum());
+					target.newContributors.add(failed.newContributors.sum());
+				}
+			}
+		} finally {
+			swapLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 버퍼에 누적 중인 셀별 증분
+	 */
+	private static final class CellDelta {
+		private final LongAdder passes = new LongAdder();           // 셀을 지난 세션 수
+		private final LongAdder newContributors = new LongAdder();  // 새로 확인된 사용자 수 (표시 문서 생성 후)
+		private final Set<Long> users = ConcurrentHashMap.newKeySet();
+	}
+}
@@ -0,0 +1,120 @@
+package org.example.runningapp.domain.heatmap.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.domain.heatmap.document.HeatmapCell;
+import org.example.runningapp.domain.heatmap.dto.HeatmapTileResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 히트맵 타일 조회 - 사전 집계된 셀 카운트만 읽음
+ * - 타일(z/x/y) 범위를 덮는 geohash 셀을 계산해 _id $in 조회
+ * - 줌 레벨이 높을수록 정밀한 셀 사용 (타일당 최대 MAX_CELLS_PER_TILE 셀)
+ * - 서로 다른 사용자 minContributors명 이상이 지난 셀만 노출 (집·출발 위치 노출 방지)
+ */
+@Slf4j
+@Service
+public class HeatmapService {
+
+	public static final int MIN_ZOOM = 4;
+	public static final int MAX_ZOOM = 18;
+
+	private static final int MAX_CELLS_PER_TILE = 1024;
+
+	private final MongoTemplate mongoTemplate;
+	private final long minContributors;
+
+	public HeatmapService(
+		MongoTemplate mongoTemplate,
+		@Value("${app.heatmap.min-contributors:3}") long minContributors) {
+		this.mongoTemplate = mongoTemplate;
+		this.minContributors = minContributors;
+	}
+
+	public HeatmapTileResponse getTile(int z, int x, int y) {
+		if (z < MIN_ZOOM || z > MAX_ZOOM) {
+			throw new IllegalArgumentException("줌 레벨은 4-18 사이여야 합니다");
+		}
+		int tiles = 1 << z;
+		if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+			throw new IllegalArgumentException("타일 좌표가 줌 레벨 범위를 벗어났습니다");
+		}
+
+		double minLon = x * 360.0 / tiles - 180.0;
+		double maxLon = (x + 1) * 360.0 / tiles - 180.0;
+		double maxLat = tileLatitude(y, tiles);
+		double minLat = tileLatitude(y + 1, tiles);
+
+		int precision = precisionFor(maxLon - minLon, maxLat - minLat);
+		List<String> cells = new ArrayList<>(coveringCells(minLat, minLon, maxLat, maxLon, precision));
+
+		try {
+			// 소수 사용자만 지난 셀은 노출하지 않음
+			Query query = Query.query(Criteria.where("_id").in(cells).and("contributorCount").gte(minContributors));
+			List<HeatmapCell> found = mongoTemplate.find(query, HeatmapCell.class);
+
+			long max = found.stream().mapToLong(HeatmapCell::getCount).max().orElse(1L);
+			double logMax = Math.log1p(max);
+
+			List<HeatmapTileResponse.Cell> result = found.stream()
+				.map(cell -> new HeatmapTileResponse.Cell(
+					cell.getCell(),
+					cell.getLatitude(),
+					cell.getLongitude(),
+					cell.getCount(),
+					logMax > 0 ? Math.log1p(cell.getCount()) / logMax : 0.0))
+				.toList();
+
+			return new HeatmapTileResponse(z, x, y, precision, result);
+
+		} catch (Exception e) {
+			log.error("히트맵 타일 조회 실패 - z: {}, x: {}, y: {}, 오류: {}", z, x, y, e.getMessage());
+			throw new ExternalServiceException("히트맵을 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	/**
+	 * 타일을 MAX_CELLS_PER_TILE개 이하로 덮는 가장 정밀한 셀
+	 */
+	static int precisionFor(double tileWidthDegrees, double tileHeightDegrees) {
+		int chosen = HeatmapAggregator.PRECISIONS.get(0);
+		for (int precision : HeatmapAggregator.PRECISIONS) {
+			double[] b = Geohash.bounds(Geohash.encode(0.0, 0.0, precision));
+			double across = Math.ceil(tileWidthDegrees / (b[3] - b[1])) + 1;
+			double rows = Math.ceil(tileHeightDegrees / (b[2] - b[0])) + 1;
+			if (across * rows <= MAX_CELLS_PER_TILE) {
+				chosen = precision;
+			}
+		}
+		return chosen;
+	}
+
+	static Set<String> coveringCells(double minLat, double minLon, double maxLat, double maxLon, int precision) {
+		double[] origin = Geohash.bounds(Geohash.encode(minLat, minLon, precision));
+		double cellHeight = origin[2] - origin[0];
+		double cellWidth = origin[3] - origin[1];
+
+		Set<String> cells = new LinkedHashSet<>();
+		for (double lat = origin[0] + cellHeight / 2; lat < maxLat + cellHeight / 2; lat += cellHeight) {
+			for (double lon = origin[1] + cellWidth / 2; lon < maxLon + cellWidth / 2; lon += cellWidth) {
+				cells.add(Geohash.encode(Math.min(lat, 90.0), Math.min(lon, 180.0), precision));
+			}
+		}
+		return cells;
+	}
+
+	private static double tileLatitude(int y, int tiles) {
+		double n = Math.PI * (1 - 2.0 * y / tiles);
+		return Math.toDegrees(Math.atan(Math.sinh(n)));
+	}
+}
@@ -0,0 +1,50 @@
+package org.example.runningapp.domain.leaderboard.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.leaderboard.dto.LeaderboardResponse;
+import org.example.runningapp.domain.leaderboard.service.LeaderboardService;
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+	private final LeaderboardService leaderboardService;
+
+	/**
+	 * 거리 리더보드 상위 N명 - period: WEEK | MONTH, date 미지정 시 이번 주/월
+	 */
+	@GetMapping
+	public ResponseEntity<LeaderboardResponse> getTop(
+		@RequestParam(defaultValue = "WEEK") RollupPeriod period,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestParam(defaultValue = "10") int limit) {
+
+		return ResponseEntity.ok(leaderboardService.getTop(period, date, limit));
+	}
+
+	/**
+	 * 내 순위와 앞뒤 radius명
+	 */
+	@GetMapping("/me")
+	public ResponseEntity<LeaderboardResponse> getAroundMe(
+		@RequestParam(defaultValue = "WEEK") RollupPeriod period,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestParam(defaultValue = "5") int radius,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(leaderboardService.getAroundMe(currentUser.getId(), period, date, radius));
+	}
+}
@@ -0,0 +1,22 @@
+package org.example.runningapp.domain.leaderboard.dto;
+
+import org.example.runningapp.domain.leaderboard.util.RankedSkipList;
+import org.example.runningapp.domain.user.entity.User;
+
+public record LeaderboardEntryResponse(
+	Long rank,
+	Long userId,
+	String username,
+	String profileImage,
+	Double distanceKm
+) {
+	public static LeaderboardEntryResponse of(RankedSkipList.Entry entry, User user) {
+		return new LeaderboardEntryResponse(
+			entry.rank(),
+			entry.member(),
+			user != null ? user.getUsername() : null,
+			user != null ? user.getProfileImage() : null,
+			entry.score() / 1000.0
+		);
+	}
+}
@@ -0,0 +1,18 @@
+package org.example.runningapp.domain.leaderboard.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LeaderboardResponse(
+	RollupPeriod period,
+	LocalDate bucketStart,
+	Long totalParticipants,
+	Long myRank,                           // "around me" 조회 시에만 (기록 없으면 0)
+	List<LeaderboardEntryResponse> entries
+) {
+}
@@ -0,0 +1,192 @@
+package org.example.runningapp.domain.leaderboard.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.domain.leaderboard.dto.LeaderboardEntryResponse;
+import org.example.runningapp.domain.leaderboard.dto.LeaderboardResponse;
+import org.example.runningapp.domain.leaderboard.util.RankedSkipList;
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+import org.example.runningapp.domain.stats.document.RunningRollup;
+import org.example.runningapp.domain.user.entity.User;
+import org.example.runningapp.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주간/월간 거리 리더보드 (인스턴스 메모리)
+ * - 기간 버킷별 RankedSkipList: 순위/상위 N/내 주변 조회 모두 O(log n)
+ * - 원본은 running_rollups - 시작 시 및 짧은 주기로 롤업에서만 재구성 (다른 인스턴스에서 수신한 청크도 반영)
+ * - 청크 이벤트로 보드를 직접 올리지 않음 (롤업 반영 전후로 재구성과 겹치면 증분이 유실되거나 중복 집계됨)
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+	private static final List<RollupPeriod> PERIODS = List.of(RollupPeriod.WEEK, RollupPeriod.MONTH);
+	private static final int MAX_LIMIT = 100;
+
+	private record BoardKey(RollupPeriod period, LocalDate bucketStart) {
+	}
+
+	private final MongoTemplate mongoTemplate;
+	private final UserRepository userRepository;
+	private final ZoneId zoneId;
+	private final Map<BoardKey, RankedSkipList> boards;
+
+	public LeaderboardService(
+		MongoTemplate mongoTemplate,
+		UserRepository userRepository,
+		@Value("${app.running.rollup.zone-id:Asia/Seoul}") String zoneId,
+		@Value("${app.leaderboard.max-boards:8}") int maxBoards) {
+		this.mongoTemplate = mongoTemplate;
+		this.userRepository = userRepository;
+		this.zoneId = ZoneId.of(zoneId);
+		// 지난 기간 보드는 조회 시 로드, 오래 조회되지 않은 보드부터 제거
+		this.boards = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<BoardKey, RankedSkipList> eldest) {
+				return size() > maxBoards;
+			}
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		refreshCurrentBoards();
+	}
+
+	/**
+	 * 현재 주/월 보드를 롤업 기준으로 재구성
+	 */
+	@Scheduled(fixedDelayString = "${app.leaderboard.refresh-interval-ms:60000}",
+		initialDelayString = "${app.leaderboard.refresh-interval-ms:60000}")
+	public void refreshCurrentBoards() {
+		LocalDate today = LocalDate.now(zoneId);
+		for (RollupPeriod period : PERIODS) {
+			BoardKey key = new BoardKey(period, period.bucketStart(today));
+			try {
+				boards.put(key, loadBoard(key));
+			} catch (Exception e) {
+				log.error("리더보드 재구성 실패 - 기간: {}, 버킷: {}, 오류: {}", period, key.bucketStart(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 상위 N명
+	 */
+	public LeaderboardResponse getTop(RollupPeriod period, LocalDate date, int limit) {
+		validate(period, limit);
+
+		BoardKey key = keyOf(period, date);
+		RankedSkipList board = board(key);
+
+		List<RankedSkipList.Entry> entries;
+		long total;
+		synchronized (board) {
+			entries = board.range(1, limit);
+			total = board.size();
+		}
+		return new LeaderboardResponse(period, key.bucketStart(), total, null, withUsers(entries));
+	}
+
+	/**
+	 * 내 순위와 앞뒤 radius명
+	 */
+	public LeaderboardResponse getAroundMe(Long userId, RollupPeriod period, LocalDate date, int radius) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+		validate(period, radius * 2 + 1);
+
+		BoardKey key = keyOf(period, date);
+		RankedSkipList board = board(key);
+
+		List<RankedSkipList.Entry> entries;
+		long myRank;
+		long total;
+		synchronized (board) {
+			myRank = board.rank(userId);
+			total = board.size();
+			entries = myRank > 0 ? board.range(myRank - radius, myRank + radius) : List.of();
+		}
+		return new LeaderboardResponse(period, key.bucketStart(), total, myRank, withUsers(entries));
+	}
+
+	private RankedSkipList board(BoardKey key) {
+		RankedSkipList board = boards.get(key);
+		if (board != null) {
+			return board;
+		}
+
+		try {
+			RankedSkipList loaded = loadBoard(key);
+			RankedSkipList existing = boards.putIfAbsent(key, loaded);
+			return existing != null ? existing : loaded;
+		} catch (Exception e) {
+			log.error("리더보드 로드 실패 - 기간: {}, 버킷: {}, 오류: {}", key.period(), key.bucketStart(), e.getMessage());
+			throw new ExternalServiceException("리더보드를 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	private RankedSkipList loadBoard(BoardKey key) {
+		Query query = Query.query(Criteria.where("period").is(key.period())
+			.and("bucketStart").is(key.bucketStart())
+			.and("distanceMeters").gt(0));
+		query.fields().include("userId", "distanceMeters");
+
+		RankedSkipList board = new RankedSkipList();
+		try (Stream<RunningRollup> rollups = mongoTemplate.stream(query, RunningRollup.class)) {
+			rollups.forEach(rollup -> board.put(rollup.getUserId(), rollup.getDistanceMeters()));
+		}
+
+		log.info("리더보드 로드 - 기간: {}, 버킷: {}, 참가자: {}", key.period(), key.bucketStart(), board.size());
+		return board;
+	}
+
+	/**
+	 * 사용자 정보는 한 번의 IN 조회로 채움
+	 */
+	private List<LeaderboardEntryResponse> withUsers(List<RankedSkipList.Entry> entries) {
+		if (entries.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> userIds = entries.stream().map(RankedSkipList.Entry::member).toList();
+		Map<Long, User> users = userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		return entries.stream()
+			.map(entry -> LeaderboardEntryResponse.of(entry, users.get(entry.member())))
+			.toList();
+	}
+
+	private BoardKey keyOf(RollupPeriod period, LocalDate date) {
+		return new BoardKey(period, period.bucketStart(date != null ? date : LocalDate.now(zoneId)));
+	}
+
+	private void validate(RollupPeriod period, int limit) {
+		if (!PERIODS.contains(period)) {
+			throw new IllegalArgumentException("리더보드는 WEEK, MONTH 기간만 지원합니다");
+		}
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("조회 개수는 1-100 사이여야 합니다");
+		}
+	}
+}
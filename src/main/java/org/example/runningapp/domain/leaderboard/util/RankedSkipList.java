@@ -0,0 +1,222 @@
+package org.example.runningapp.domain.leaderboard.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 내림차순 정렬 skip list (순위 조회 가능, Redis sorted set과 동일한 span 방식)
+ * - 각 링크에 건너뛰는 노드 수(span)를 저장하여 순위 계산/순위로 탐색을 O(log n)에 처리
+ * - 동점이면 memberId 오름차순
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public class RankedSkipList {
+
+	private static final int MAX_LEVEL = 32;
+	private static final double LEVEL_PROBABILITY = 0.25;
+
+	public record Entry(long rank, long member, double score) {
+	}
+
+	private static final class Node {
+		final long member;
+		final double score;
+		final Node[] forward;
+		final long[] span;
+
+		Node(long member, double score, int level) {
+			this.member = member;
+			this.score = score;
+			this.forward = new Node[level];
+			this.span = new long[level];
+		}
+	}
+
+	private final Node head = new Node(0L, 0.0, MAX_LEVEL);
+	private final Map<Long, Double> scores = new HashMap<>();
+	private int level = 1;
+	private long length = 0;
+
+	public long size() {
+		return length;
+	}
+
+	public Double score(long member) {
+		return scores.get(member);
+	}
+
+	/**
+	 * 점수 설정 (기존 멤버면 위치 이동)
+	 */
+	public void put(long member, double score) {
+		Double previous = scores.put(member, score);
+		if (previous != null) {
+			if (previous == score) {
+				return;
+			}
+			delete(member, previous);
+		}
+		insert(member, score);
+	}
+
+	/**
+	 * 점수 증가 (없는 멤버는 delta로 추가)
+	 */
+	public double increment(long member, double delta) {
+		Double previous = scores.get(member);
+		double next = (previous != null ? previous : 0.0) + delta;
+		put(member, next);
+		return next;
+	}
+
+	public boolean remove(long member) {
+		Double previous = scores.remove(member);
+		if (previous == null) {
+			return false;
+		}
+		delete(member, previous);
+		return true;
+	}
+
+	/**
+	 * 1부터 시작하는 순위, 없으면 0
+	 */
+	public long rank(long member) {
+		Double score = scores.get(member);
+		if (score == null) {
+			return 0;
+		}
+
+		long rank = 0;
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.forward[i] != null && !precedes(member, score, x.forward[i].member, x.forward[i].score)) {
+				rank += x.span[i];
+				x = x.forward[i];
+			}
+			if (x != head && x.member == member) {
+				return rank;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * 순위 범위 조회 (1부터 시작, 포함)
+	 */
+	public List<Entry> range(long fromRank, long toRank) {
+		List<Entry> result = new ArrayList<>();
+		long from = Math.max(1, fromRank);
+		long to = Math.min(length, toRank);
+		if (from > to) {
+			return result;
+		}
+
+		Node x = nodeAt(from);
+		for (long rank = from; rank <= to && x != null; rank++) {
+			result.add(new Entry(rank, x.member, x.score));
+			x = x.forward[0];
+		}
+		return result;
+	}
+
+	private Node nodeAt(long rank) {
+		long traversed = 0;
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+				traversed += x.span[i];
+				x = x.forward[i];
+			}
+			if (traversed == rank) {
+				return x;
+			}
+		}
+		return null;
+	}
+
+	private void insert(long member, double score) {
+		Node[] update = new Node[MAX_LEVEL];
+		long[] rank = new long[MAX_LEVEL];
+
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			rank[i] = i == level - 1 ? 0 : rank[i + 1];
+			while (x.forward[i] != null && precedes(x.forward[i].member, x.forward[i].score, member, score)) {
+				rank[i] += x.span[i];
+				x = x.forward[i];
+			}
+			update[i] = x;
+		}
+
+		int newLevel = randomLevel();
+		if (newLevel > level) {
+			for (int i = level; i < newLevel; i++) {
+				rank[i] = 0;
+				update[i] = head;
+				head.span[i] = length;
+			}
+			level = newLevel;
+		}
+
+		x = new Node(member, score, newLevel);
+		for (int i = 0; i < newLevel; i++) {
+			x.forward[i] = update[i].forward[i];
+			update[i].forward[i] = x;
+			x.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+			update[i].span[i] = (rank[0] - rank[i]) + 1;
+		}
+		for (int i = newLevel; i < level; i++) {
+			update[i].span[i]++;
+		}
+		length++;
+	}
+
+	private void delete(long member, double score) {
+		Node[] update = new Node[MAX_LEVEL];
+
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.forward[i] != null && precedes(x.forward[i].member, x.forward[i].score, member, score)) {
+				x = x.forward[i];
+			}
+			update[i] = x;
+		}
+
+		x = x.forward[0];
+		if (x == null || x.member != member) {
+			return;
+		}
+
+		for (int i = 0; i < level; i++) {
+			if (update[i].forward[i] == x) {
+				update[i].span[i] += x.span[i] - 1;
+				update[i].forward[i] = x.forward[i];
+			} else {
+				update[i].span[i]--;
+			}
+		}
+		while (level > 1 && head.forward[level - 1] == null) {
+			level--;
+		}
+		length--;
+	}
+
+	/**
+	 * a가 b보다 앞 순위인지 (점수 내림차순, 동점이면 member 오름차순)
+	 */
+	private static boolean precedes(long aMember, double aScore, long bMember, double bScore) {
+		return aScore > bScore || (aScore == bScore && aMember < bMember);
+	}
+
+	private static int randomLevel() {
+		int lvl = 1;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (lvl < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+			lvl++;
+		}
+		return lvl;
+	}
+}
@@ -1,9 +1,17 @@
 package org.example.runningapp.domain.running.controller;
 
+import org.example.runningapp.common.web.RunnersMediaType;
+import org.example.runningapp.domain.running.dto.CompactSessionResponse;
 import org.example.runningapp.domain.running.dto.RunningDataRequest;
 import org.example.runningapp.domain.running.dto.RunningDataResponse;
+import org.example.runningapp.domain.running.dto.RunningSessionFinalizeResponse;
+import org.example.runningapp.domain.running.dto.RunningSessionResponse;
+import org.example.runningapp.domain.running.dto.RunningSplitsResponse;
+import org.example.runningapp.domain.running.dto.SimilarRunResponse;
 import org.example.runningapp.domain.running.entity.RunningSession;
 import org.example.runningapp.domain.running.service.RunningDataService;
+import org.example.runningapp.domain.running.service.RunningSessionFinalizer;
+import org.example.runningapp.domain.running.service.SimilarRouteService;
 import org.example.runningapp.common.security.UserPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,6 +30,8 @@ import java.util.List;
 public class RunningDataController {
 
 	private final RunningDataService runningDataService;
+	private final RunningSessionFinalizer runningSessionFinalizer;
+	private final SimilarRouteService similarRouteService;
 
 	/**
 	 * 다음 러닝 세션 번호 조회
@@ -57,28 +67,99 @@ public class RunningDataController {
 
 	/**
 	 * 러닝 세션 목록 조회
+	 * - 종료된 세션의 컬럼 레이아웃(track)은 기존과 같은 geoDataFeatures 형태로 펼쳐서 반환
+	 * - 콜드 스토리지로 옮겨진 세션은 복원하지 않고 archived=true로 반환 (전체 좌표는 상세 조회)
 	 */
 	@GetMapping("/sessions")
-	public ResponseEntity<List<RunningSession>> getMySessions(
+	public ResponseEntity<List<RunningSessionResponse>> getMySessions(
 		@RequestParam(defaultValue = "10") int limit,
 		@AuthenticationPrincipal UserPrincipal currentUser) {
 
-		List<RunningSession> sessions = runningDataService.getUserSessions(currentUser.getId(), limit);
+		List<RunningSessionResponse> sessions = runningDataService.getUserSessions(currentUser.getId(), limit).stream()
+			.map(RunningSessionResponse::from)
+			.toList();
+		return ResponseEntity.ok(sessions);
+	}
+
+	/**
+	 * 러닝 세션 목록 조회 - compact 포맷 (Accept: application/vnd.runnershi.compact+json|cbor|smile)
+	 * - 콜드 스토리지로 옮겨진 세션은 archived=true로 좌표/구간 컬럼 없이 반환 (전체 좌표는 상세 조회)
+	 */
+	@GetMapping(value = "/sessions", produces = {
+		RunnersMediaType.COMPACT_JSON_VALUE, RunnersMediaType.COMPACT_CBOR_VALUE, RunnersMediaType.COMPACT_SMILE_VALUE})
+	public ResponseEntity<List<CompactSessionResponse>> getMySessionsCompact(
+		@RequestParam(defaultValue = "10") int limit,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		List<CompactSessionResponse> sessions = runningDataService.getUserSessions(currentUser.getId(), limit).stream()
+			.map(CompactSessionResponse::from)
+			.toList();
 		return ResponseEntity.ok(sessions);
 	}
 
 	/**
 	 * 특정 러닝 세션 조회
+	 * - 종료된 세션의 컬럼 레이아웃(track)은 기존과 같은 geoDataFeatures 형태로 펼쳐서 반환
 	 */
 	@GetMapping("/session/{sessionKey}")
-	public ResponseEntity<RunningSession> getMySessionData(
+	public ResponseEntity<RunningSessionResponse> getMySessionData(
 		@PathVariable String sessionKey,
 		@AuthenticationPrincipal UserPrincipal currentUser) {
 
 		RunningSession session = runningDataService.getSessionByKey(currentUser.getId(), sessionKey);
 
 		return session != null ?
-			ResponseEntity.ok(session) :
+			ResponseEntity.ok(RunningSessionResponse.from(session)) :
 			ResponseEntity.notFound().build();
 	}
+
+	/**
+	 * 특정 러닝 세션 조회 - compact 포맷 (Accept: application/vnd.runnershi.compact+json|cbor|smile)
+	 */
+	@GetMapping(value = "/session/{sessionKey}", produces = {
+		RunnersMediaType.COMPACT_JSON_VALUE, RunnersMediaType.COMPACT_CBOR_VALUE, RunnersMediaType.COMPACT_SMILE_VALUE})
+	public ResponseEntity<CompactSessionResponse> getMySessionDataCompact(
+		@PathVariable String sessionKey,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		RunningSession session = runningDataService.getSessionByKey(currentUser.getId(), sessionKey);
+		return ResponseEntity.ok(CompactSessionResponse.from(session));
+	}
+
+	/**
+	 * 스플릿/랩만 조회 - 전체 좌표를 내려받지 않고 스플릿 표 표시
+	 */
+	@GetMapping("/session/{sessionKey}/splits")
+	public ResponseEntity<RunningSplitsResponse> getMySessionSplits(
+		@PathVariable String sessionKey,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(runningDataService.getSessionSplits(currentUser.getId(), sessionKey));
+	}
+
+	/**
+	 * 같은 경로를 달린 내 이전 세션 (종료된 세션만)
+	 */
+	@GetMapping("/session/{sessionKey}/similar")
+	public ResponseEntity<List<SimilarRunResponse>> getSimilarRuns(
+		@PathVariable String sessionKey,
+		@RequestParam(defaultValue = "10") int limit,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(similarRouteService.findSimilarRuns(currentUser.getId(), sessionKey, limit));
+	}
+
+	/**
+	 * 러닝 세션 종료 - 마지막 청크 전송 후 호출
+	 * 종료된 세션은 압축/사전 계산되며 더 이상 데이터를 추가할 수 없음
+	 */
+	@PostMapping("/session/{sessionKey}/finalize")
+	public ResponseEntity<RunningSessionFinalizeResponse> finalizeSession(
+		@PathVariable String sessionKey,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		log.info("러닝 세션 종료 - 사용자: {}, sessionKey: {}", currentUser.getId(), sessionKey);
+
+		return ResponseEntity.ok(runningSessionFinalizer.finalizeSession(currentUser.getId(), sessionKey));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package org.example.runningapp.domain.running.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.export.ExportFormat;
+import org.example.runningapp.domain.running.service.RunningExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/running/export")
+@RequiredArgsConstructor
+public class RunningExportController {
+
+	private final RunningExportService runningExportService;
+
+	/**
+	 * 단일 세션 내보내기 - format: gpx | tcx | geojson
+	 */
+	@GetMapping("/session/{sessionKey}")
+	public ResponseEntity<StreamingResponseBody> exportSession(
+		@PathVariable String sessionKey,
+		@RequestParam(defaultValue = "gpx") String format,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		ExportFormat exportFormat = ExportFormat.from(format);
+		RunningSession session = runningExportService.getSessionForExport(currentUser.getId(), sessionKey);
+
+		log.info("러닝 세션 내보내기 - 사용자: {}, sessionKey: {}, 포맷: {}", currentUser.getId(), sessionKey, exportFormat);
+
+		StreamingResponseBody body = out -> runningExportService.exportSession(session, exportFormat, out);
+
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment(sessionKey + "." + exportFormat.extension()))
+			.contentType(MediaType.parseMediaType(exportFormat.contentType()))
+			.body(body);
+	}
+
+	/**
+	 * 내 세션 일괄 내보내기 (ZIP) - 기간 미지정 시 전체
+	 */
+	@GetMapping("/sessions")
+	public ResponseEntity<StreamingResponseBody> exportSessions(
+		@RequestParam(defaultValue = "gpx") String format,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		ExportFormat exportFormat = ExportFormat.from(format);
+		Long userId = currentUser.getId();
+
+		log.info("러닝 세션 일괄 내보내기 - 사용자: {}, 포맷: {}, 기간: {} ~ {}", userId, exportFormat, from, to);
+
+		StreamingResponseBody body = out -> runningExportService.exportSessionsAsZip(userId, from, to, exportFormat, out);
+
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment("runs-" + userId + "-" + exportFormat.extension() + ".zip"))
+			.contentType(MediaType.parseMediaType("application/zip"))
+			.body(body);
+	}
+
+	private String attachment(String filename) {
+		return ContentDisposition.attachment().filename(filename).build().toString();
+	}
+}
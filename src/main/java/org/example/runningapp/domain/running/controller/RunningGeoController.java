@@ -0,0 +1,54 @@
+package org.example.runningapp.domain.running.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.running.dto.RunningSessionLocationResponse;
+import org.example.runningapp.domain.running.service.RunningGeoQueryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/running/sessions")
+@RequiredArgsConstructor
+public class RunningGeoController {
+
+	private final RunningGeoQueryService runningGeoQueryService;
+
+	/**
+	 * 근처에서 시작한 내 러닝 세션 (가까운 순)
+	 */
+	@GetMapping("/near")
+	public ResponseEntity<List<RunningSessionLocationResponse>> getSessionsNear(
+		@RequestParam double lon,
+		@RequestParam double lat,
+		@RequestParam(defaultValue = "1000") double radiusMeters,
+		@RequestParam(defaultValue = "20") int limit,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(
+			runningGeoQueryService.findStartedNear(currentUser.getId(), lon, lat, radiusMeters, limit));
+	}
+
+	/**
+	 * 지정 영역(공원 등)을 지나는 내 러닝 세션
+	 */
+	@GetMapping("/intersecting")
+	public ResponseEntity<List<RunningSessionLocationResponse>> getSessionsIntersecting(
+		@RequestParam double minLon,
+		@RequestParam double minLat,
+		@RequestParam double maxLon,
+		@RequestParam double maxLat,
+		@RequestParam(defaultValue = "20") int limit,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(runningGeoQueryService.findIntersecting(
+			currentUser.getId(), minLon, minLat, maxLon, maxLat, limit));
+	}
+}
@@ -0,0 +1,110 @@
+package org.example.runningapp.domain.running.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.runningapp.common.util.PolylineEncoder;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 러닝 세션 compact 응답
+ * - 좌표: Google Encoded Polyline (1e5 정밀도)
+ * - 구간 측정값: 컬럼 배열 (i번째 값 = i번째 10초 구간)
+ * - 시간: startTime 기준 상대값(ms)으로 자릿수 축소
+ * - 콜드 스토리지로 옮겨진 세션(archived=true)이 복원 없이 전달되면(목록 조회) 좌표/구간 컬럼을 모두 생략
+ *   (요약/스플릿/랩/단순화 경로는 유지, 전체 좌표는 상세 조회로 받음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactSessionResponse(
+	String sessionKey,
+	Integer sessionNum,
+	RunningSessionStatus status,
+	LocalDateTime createdAt,
+	RunningSessionSummary summary,
+	List<RunningSplit> splits,
+	List<RunningSplit> laps,
+	String routePolyline,            // 단순화 경로 (종료된 세션만)
+	Boolean archived,                // true면 아래 좌표/구간 컬럼 생략
+
+	String polyline,                 // 전체 좌표
+	Long startTime,                  // 첫 구간 시작 시각(ms)
+	List<Long> startOffsets,         // 구간 시작 시각 - startTime (ms)
+	List<Long> durations,            // 구간 길이(ms)
+	List<Integer> pointCounts,       // 구간별 좌표 개수 (polyline 분할용)
+	List<Double> height,
+	List<Integer> bpm,
+	List<Double> pace,
+	List<Integer> power,
+	List<Integer> cadence,
+	List<Double> minVerticalAmplitude,
+	List<Double> maxVerticalAmplitude,
+	List<Integer> minGct,
+	List<Integer> maxGct,
+	List<Double> stride
+) {
+	public static CompactSessionResponse from(RunningSession session) {
+		if (session.getTrack() == null && session.getArchive() != null) {
+			return new CompactSessionResponse(
+				session.getSessionKey(),
+				session.getSessionNum(),
+				session.getStatus(),
+				session.getCreatedAt(),
+				session.getSummary(),
+				session.getSplits(),
+				session.getLaps(),
+				session.getSimplifiedRoute() != null ? PolylineEncoder.encode(session.getSimplifiedRoute()) : null,
+				true,
+				null, null, null, null, null, null, null, null, null, null, null, null, null, null, null
+			);
+		}
+
+		RunningTrack track = session.getTrack() != null ?
+			session.getTrack() :
+			RunningTrack.fromFeatureMaps(session.getGeoDataFeatures());
+
+		int featureCount = track.featureCount();
+		long startTime = featureCount > 0 ? track.getTimestampStart().get(0) : 0L;
+
+		List<Long> startOffsets = new ArrayList<>(featureCount);
+		List<Long> durations = new ArrayList<>(featureCount);
+		List<Integer> pointCounts = new ArrayList<>(featureCount);
+		for (int f = 0; f < featureCount; f++) {
+			long featureStart = track.getTimestampStart().get(f);
+			startOffsets.add(featureStart - startTime);
+			durations.add(track.getTimestampEnd().get(f) - featureStart);
+			pointCounts.add(track.pointEnd(f) - track.pointStart(f));
+		}
+
+		return new CompactSessionResponse(
+			session.getSessionKey(),
+			session.getSessionNum(),
+			session.getStatus(),
+			session.getCreatedAt(),
+			session.getSummary(),
+			session.getSplits(),
+			session.getLaps(),
+			session.getSimplifiedRoute() != null ? PolylineEncoder.encode(session.getSimplifiedRoute()) : null,
+			null,
+			PolylineEncoder.encode(track.getLongitudes(), track.getLatitudes()),
+			startTime,
+			startOffsets,
+			durations,
+			pointCounts,
+			track.getHeight(),
+			track.getBpm(),
+			track.getPace(),
+			track.getPower(),
+			track.getCadence(),
+			track.getMinVerticalAmplitude(),
+			track.getMaxVerticalAmplitude(),
+			track.getMinGct(),
+			track.getMaxGct(),
+			track.getStride()
+		);
+	}
+}
@@ -1,6 +1,8 @@
 package org.example.runningapp.domain.running.dto;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -8,7 +10,11 @@ public record RunningDataRequest(
 	@NotNull(message = "세션 번호는 필수입니다.")
 	@Min(value = 1, message = "세션 번호는 1 이상이어야 합니다.")
 	Integer sessionNum,
-	@Valid GeoJsonFeatureCollection geoData
+	@Valid GeoJsonFeatureCollection geoData,
+	// 랩 거리(m) - 세션의 첫 청크에서만 사용, 미지정 시 랩 계산 안 함
+	@DecimalMin(value = "100", message = "랩 거리는 100m 이상이어야 합니다.")
+	@DecimalMax(value = "50000", message = "랩 거리는 50km 이하여야 합니다.")
+	Double lapDistanceMeters
 ) {
 
 
@@ -0,0 +1,28 @@
+package org.example.runningapp.domain.running.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+
+public record RunningSessionFinalizeResponse(
+	String sessionKey,
+	LocalDateTime finalizedAt,
+	Integer featureCount,
+	RunningSessionSummary summary,
+	List<RunningSplit> splits,
+	List<RunningSplit> laps,
+	List<List<Double>> simplifiedRoute
+) {
+	public static RunningSessionFinalizeResponse from(RunningSession session) {
+		return new RunningSessionFinalizeResponse(
+			session.getSessionKey(),
+			session.getFinalizedAt(),
+			session.getCurrentFeatureCount(),
+			session.getSummary(),
+			session.getSplits(),
+			session.getLaps(),
+			session.getSimplifiedRoute()
+		);
+	}
+}
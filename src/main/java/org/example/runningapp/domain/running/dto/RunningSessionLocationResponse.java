@@ -0,0 +1,30 @@
+package org.example.runningapp.domain.running.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+
+/**
+ * 위치 검색 결과 - 좌표 전체 대신 시작점/요약만
+ */
+public record RunningSessionLocationResponse(
+	String sessionKey,
+	Integer sessionNum,
+	RunningSessionStatus status,
+	LocalDateTime createdAt,
+	List<Double> startPoint,          // [경도, 위도]
+	RunningSessionSummary summary
+) {
+	public static RunningSessionLocationResponse from(RunningSession session) {
+		return new RunningSessionLocationResponse(
+			session.getSessionKey(),
+			session.getSessionNum(),
+			session.getStatus(),
+			session.getCreatedAt(),
+			session.getStartPoint() != null ? session.getStartPoint().getCoordinates() : null,
+			session.getSummary()
+		);
+	}
+}
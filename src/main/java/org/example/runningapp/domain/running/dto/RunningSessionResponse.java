@@ -0,0 +1,44 @@
+package org.example.runningapp.domain.running.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+
+/**
+ * 러닝 세션 기본 응답 (application/json) - 기존 클라이언트가 받던 RunningSession 형태 유지
+ * - 종료된 세션은 geoDataFeatures가 비어 있고 컬럼 레이아웃(track)만 남으므로 GeoJSON Feature로 다시 펼쳐서 반환
+ * - 컬럼 레이아웃은 compact 포맷(CompactSessionResponse)으로만 제공
+ * - 콜드 스토리지로 옮겨진 세션이 복원 없이 전달되면(목록 조회) archived=true, geoDataFeatures는 빈 목록
+ */
+public record RunningSessionResponse(
+	String id,
+	Long userId,
+	String sessionKey,
+	Integer sessionNum,
+	LocalDateTime createdAt,
+	List<Map<String, Object>> geoDataFeatures,
+	int currentFeatureCount,
+	boolean archived                 // true면 전체 좌표는 상세 조회로 받음
+) {
+	public static RunningSessionResponse from(RunningSession session) {
+		return new RunningSessionResponse(
+			session.getId(),
+			session.getUserId(),
+			session.getSessionKey(),
+			session.getSessionNum(),
+			session.getCreatedAt(),
+			featuresOf(session),
+			session.getCurrentFeatureCount(),
+			session.getTrack() == null && session.getArchive() != null
+		);
+	}
+
+	private static List<Map<String, Object>> featuresOf(RunningSession session) {
+		if (session.getTrack() != null) {
+			return session.getTrack().toFeatureMaps();
+		}
+		return session.getGeoDataFeatures() != null ? session.getGeoDataFeatures() : List.of();
+	}
+}
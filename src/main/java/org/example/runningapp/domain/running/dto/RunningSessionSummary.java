@@ -1,5 +1,7 @@
 package org.example.runningapp.domain.running.dto;
 
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
 public record RunningSessionSummary(
 	Long sessionStartTime,    // 세션 시작 시간
 	Long sessionEndTime,      // 세션 종료 시간
@@ -59,4 +61,50 @@ public record RunningSessionSummary(
 			minHeight
 		);
 	}
+
+	/**
+	 * 세션 종료 시 전체 트랙 기준 최종 요약 계산 (거리 포함)
+	 */
+	public static RunningSessionSummary fromTrack(RunningTrack track, double totalDistanceMeters) {
+		if (track == null || track.featureCount() == 0) return null;
+
+		Long startTime = track.getTimestampStart().stream()
+			.mapToLong(Long::longValue)
+			.min().orElse(0L);
+
+		Long endTime = track.getTimestampEnd().stream()
+			.mapToLong(Long::longValue)
+			.max().orElse(0L);
+
+		Double avgPace = track.getPace().stream()
+			.filter(java.util.Objects::nonNull)
+			.mapToDouble(Double::doubleValue)
+			.average().orElse(0.0);
+
+		Double avgBpmDouble = track.getBpm().stream()
+			.filter(java.util.Objects::nonNull)
+			.mapToInt(Integer::intValue)
+			.average().orElse(0.0);
+
+		Double maxHeight = track.getHeight().stream()
+			.filter(java.util.Objects::nonNull)
+			.mapToDouble(Double::doubleValue)
+			.max().orElse(0.0);
+
+		Double minHeight = track.getHeight().stream()
+			.filter(java.util.Objects::nonNull)
+			.mapToDouble(Double::doubleValue)
+			.min().orElse(0.0);
+
+		return new RunningSessionSummary(
+			startTime,
+			endTime,
+			(endTime - startTime) / 1000, // 초 단위
+			totalDistanceMeters / 1000.0,
+			avgPace,
+			(int) Math.round(avgBpmDouble),
+			maxHeight,
+			minHeight
+		);
+	}
 }
\ No newline at end of file
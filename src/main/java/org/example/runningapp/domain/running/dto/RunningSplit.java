@@ -0,0 +1,14 @@
+package org.example.runningapp.domain.running.dto;
+
+public record RunningSplit(
+	Integer index,              // 구간 번호 (1부터)
+	Double distanceMeters,      // 구간 거리(m) - 마지막 구간은 기준 거리보다 짧을 수 있음
+	Long durationMs,            // 구간 소요 시간(ms)
+	Long elapsedMs,             // 세션 시작부터 구간 종료까지 누적 시간(ms)
+	Double paceSecondsPerKm     // 구간 페이스(초/km)
+) {
+	public static RunningSplit of(int index, double distanceMeters, long durationMs, long elapsedMs) {
+		Double pace = distanceMeters > 0 ? durationMs / distanceMeters : null; // ms/m == s/km
+		return new RunningSplit(index, distanceMeters, durationMs, elapsedMs, pace);
+	}
+}
@@ -0,0 +1,38 @@
+package org.example.runningapp.domain.running.dto;
+
+import java.util.List;
+
+import org.example.runningapp.domain.running.entity.RunningProgress;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.util.SplitCalculator;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RunningSplitsResponse(
+	String sessionKey,
+	RunningSessionStatus status,
+	Double splitDistanceMeters,
+	List<RunningSplit> splits,       // 완료된 1km 스플릿 (종료된 세션은 마지막 미완성 구간 포함)
+	RunningSplit currentSplit,       // 진행 중 세션의 현재 구간
+	Double lapDistanceMeters,
+	List<RunningSplit> laps,
+	RunningSplit currentLap
+) {
+	public static RunningSplitsResponse from(RunningSession session) {
+		RunningProgress progress = session.getProgress();
+		boolean inProgress = !session.isFinalized() && progress != null;
+
+		return new RunningSplitsResponse(
+			session.getSessionKey(),
+			session.getStatus(),
+			SplitCalculator.KM_SPLIT_METERS,
+			session.getSplits() != null ? session.getSplits() : List.of(),
+			inProgress ? progress.currentSplit() : null,
+			progress != null && progress.getLaps() != null ? progress.getLaps().getSplitDistanceMeters() : null,
+			session.getLaps(),
+			inProgress ? progress.currentLap() : null
+		);
+	}
+}
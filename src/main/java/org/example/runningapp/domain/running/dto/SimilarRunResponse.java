@@ -0,0 +1,21 @@
+package org.example.runningapp.domain.running.dto;
+
+import org.example.runningapp.domain.running.entity.RouteFingerprint;
+
+public record SimilarRunResponse(
+	String sessionKey,
+	Double similarity,         // 경로 셀 집합의 추정 Jaccard 유사도 (0~1)
+	Long sessionStartTime,
+	Long durationSeconds,
+	Double totalDistanceKm
+) {
+	public static SimilarRunResponse of(RouteFingerprint fingerprint, double similarity) {
+		return new SimilarRunResponse(
+			fingerprint.getSessionKey(),
+			similarity,
+			fingerprint.getSessionStartTime(),
+			fingerprint.getDurationSeconds(),
+			fingerprint.getTotalDistanceKm()
+		);
+	}
+}
@@ -0,0 +1,39 @@
+package org.example.runningapp.domain.running.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세션 경로 지문 (유사 경로 검색용)
+ * - 경로가 지나간 geohash 셀 집합의 MinHash 서명
+ * - bandKeys: LSH 밴드 키, (userId, bandKeys) multikey 인덱스가 사용자별 LSH 인덱스 역할 (MongoIndexConfig)
+ */
+@Document(collection = "route_fingerprints")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteFingerprint {
+
+	@Id
+	private String sessionKey;
+
+	private Long userId;
+	private long[] signature;
+	private List<String> bandKeys;
+	private int cellCount;
+
+	// 비교 화면 표시용 요약 (세션 문서를 다시 읽지 않도록 복사)
+	private Long sessionStartTime;
+	private Long durationSeconds;
+	private Double totalDistanceKm;
+
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,104 @@
+package org.example.runningapp.domain.running.entity;
+
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.domain.running.dto.RunningSplit;
+import org.example.runningapp.domain.running.util.SplitCalculator;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 단위 수신 시 이어서 계산하기 위한 세션 누적 상태
+ * - 청크 경계의 거리(이전 청크 마지막 좌표 ~ 새 청크 첫 좌표)를 잃지 않도록 마지막 좌표를 보관
+ * - 1km 스플릿/랩의 진행 중 구간도 함께 이어서 계산
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningProgress {
+
+	private Long startTimestamp;      // 세션 시작 시각(ms) - 통계 버킷 기준
+	private Long lastTimestamp;       // 마지막 좌표 시각(ms)
+	private Double lastLongitude;
+	private Double lastLatitude;
+	private double distanceMeters;    // 누적 거리(m)
+	private long durationMs;          // 누적 구간 시간(ms)
+	private SplitProgress kmSplits;   // 1km 스플릿 진행 상태
+	private SplitProgress laps;       // 랩 진행 상태 (랩 거리 미설정 시 null)
+
+	/**
+	 * 새 청크를 반영한 다음 상태 (기존 상태는 변경하지 않음)
+	 */
+	public RunningProgress advance(RunningTrack chunk) {
+		return advance(chunk, new ArrayList<>(), new ArrayList<>());
+	}
+
+	/**
+	 * 새 청크를 반영한 다음 상태, 이번 청크에서 완료된 스플릿/랩은 각각 out 리스트에 추가
+	 */
+	public RunningProgress advance(RunningTrack chunk, List<RunningSplit> completedSplits, List<RunningSplit> completedLaps) {
+		RunningProgress next = new RunningProgress(startTimestamp, lastTimestamp, lastLongitude, lastLatitude,
+			distanceMeters, durationMs,
+			kmSplits != null ? kmSplits.copy() :
+				SplitProgress.start(SplitCalculator.KM_SPLIT_METERS, distanceMeters, lastTimestamp),
+			laps != null ? laps.copy() : null);
+
+		for (int f = 0; f < chunk.featureCount(); f++) {
+			long featureStart = chunk.getTimestampStart().get(f);
+			if (next.startTimestamp == null || featureStart < next.startTimestamp) {
+				next.startTimestamp = featureStart;
+			}
+			next.durationMs += chunk.getTimestampEnd().get(f) - featureStart;
+		}
+
+		long[] times = chunk.pointTimes();
+		for (int p = 0; p < chunk.pointCount(); p++) {
+			double lon = chunk.getLongitudes().get(p);
+			double lat = chunk.getLatitudes().get(p);
+			if (next.lastLongitude != null) {
+				double prevDistance = next.distanceMeters;
+				next.distanceMeters += GeoUtils.distanceMeters(next.lastLongitude, next.lastLatitude, lon, lat);
+
+				next.kmSplits.advance(prevDistance, next.lastTimestamp, next.distanceMeters, times[p],
+					next.startTimestamp, completedSplits);
+				if (next.laps != null) {
+					next.laps.advance(prevDistance, next.lastTimestamp, next.distanceMeters, times[p],
+						next.startTimestamp, completedLaps);
+				}
+			}
+			next.lastLongitude = lon;
+			next.lastLatitude = lat;
+			next.lastTimestamp = times[p];
+		}
+		return next;
+	}
+
+	/**
+	 * 새 세션의 초기 상태
+	 *
+	 * @param lapDistanceMeters 랩 거리(m), null이면 랩 계산 안 함
+	 */
+	public static RunningProgress start(Double lapDistanceMeters) {
+		RunningProgress progress = new RunningProgress();
+		progress.kmSplits = SplitProgress.start(SplitCalculator.KM_SPLIT_METERS, 0.0, null);
+		if (lapDistanceMeters != null && lapDistanceMeters > 0) {
+			progress.laps = SplitProgress.start(lapDistanceMeters, 0.0, null);
+		}
+		return progress;
+	}
+
+	public static RunningProgress empty() {
+		return new RunningProgress();
+	}
+
+	public RunningSplit currentSplit() {
+		return kmSplits != null ? kmSplits.partial(distanceMeters, lastTimestamp, startTimestamp) : null;
+	}
+
+	public RunningSplit currentLap() {
+		return laps != null ? laps.partial(distanceMeters, lastTimestamp, startTimestamp) : null;
+	}
+}
@@ -1,6 +1,10 @@
 package org.example.runningapp.domain.running.entity;
 
+import org.example.runningapp.domain.running.dto.RunningSessionSummary;
+import org.example.runningapp.domain.running.dto.RunningSplit;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import lombok.Data;
@@ -16,6 +20,8 @@ import java.util.Map;
 @Document(collection = "running_sessions")
 @CompoundIndex(def = "{'userId': 1, 'sessionKey': 1}")  // sessionId → sessionKey로 변경
 @CompoundIndex(def = "{'userId': 1, 'createdAt': -1}")
+@CompoundIndex(def = "{'status': 1, 'lastChunkAt': 1}")  // 유휴 세션 자동 종료 스캔용
+@CompoundIndex(def = "{'status': 1, 'finalizedAt': 1}")  // 콜드 스토리지 보관 대상 스캔용
 @Data
 @Builder
 @NoArgsConstructor
@@ -30,14 +36,52 @@ public class RunningSession {
 	private Integer sessionNum;       // 원본 세션 번호
 
 	private LocalDateTime createdAt;  // 생성 시간만 유지 (조회 정렬용)
+	private LocalDateTime lastChunkAt; // 마지막 청크 수신 시간 (유휴 세션 자동 종료 기준)
+
+	// 기존 문서에는 status가 없으므로 null은 ACTIVE로 취급
+	private RunningSessionStatus status;
+	private LocalDateTime finalizedAt;
+
+	// 청크 수신 시 이어서 계산하는 누적 상태 (거리/시간/마지막 좌표)
+	private RunningProgress progress;
+
+	// 위치 검색용 (2dsphere 인덱스 - MongoIndexConfig)
+	private GeoJsonPoint startPoint;           // 첫 좌표 - 생성 시 저장, 종료 시 시간순 첫 좌표로 보정
+	private GeoJsonPolygon routeBounds;        // 경로를 감싸는 사각형 - 종료 시 저장
+
+	// 심박/페이스 존별 누적 시간 - 청크 수신 시 $inc (기존 문서에는 없을 수 있음)
+	private ZoneHistogram zones;
 
 	// 모든 10초 단위 features가 여기에 누적됨
 	// 리스트 null 방지를 위한 어노테이션 추가
 	@Builder.Default
 	private List<Map<String, Object>> geoDataFeatures = new ArrayList<>();
 
+	// ===== 종료(finalize) 시 사전 계산되는 읽기 전용 필드 (splits/laps는 수신 중에도 증분 갱신) =====
+	private RunningSessionSummary summary;
+	private List<RunningSplit> splits;          // 1km 스플릿 (수신 중에는 완료된 구간만 누적)
+	private List<RunningSplit> laps;            // 랩 (세션 생성 시 랩 거리를 지정한 경우)
+	private List<List<Double>> simplifiedRoute; // 단순화된 경로 [[경도, 위도], ...]
+	private RunningTrack track;                 // 압축된 컬럼 레이아웃 (종료 후 geoDataFeatures 대체)
+
+	// 콜드 스토리지로 옮겨진 경우 track 대신 보관 위치만 남음 (RunningArchiveService.rehydrate로 복원)
+	private TrackArchive archive;
+
+	// 보존 정책에 따라 축소된 해상도 (null = FULL)
+	private TrackRetentionLevel retentionLevel;
+
+	public boolean isFinalized() {
+		return this.status == RunningSessionStatus.FINALIZED;
+	}
+
 	// Feature 개수 반환 (조회용)
 	public int getCurrentFeatureCount() {
+		if (this.track == null && this.archive != null) {
+			return this.archive.getFeatureCount();
+		}
+		if (this.track != null) {
+			return this.track.featureCount();
+		}
 		return this.geoDataFeatures != null ? this.geoDataFeatures.size() : 0;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.example.runningapp.domain.running.entity;
+
+public enum RunningSessionStatus {
+	ACTIVE,     // 청크 수신 중 ($push 대상)
+	FINALIZED   // 종료됨 - 압축/사전 계산 완료, 더 이상 수정 불가
+}
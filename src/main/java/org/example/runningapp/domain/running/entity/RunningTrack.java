@@ -0,0 +1,218 @@
+package org.example.runningapp.domain.running.entity;
+
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.domain.running.dto.RunningFeature;
+import org.example.runningapp.domain.running.dto.RunningProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종료된 세션의 읽기 최적화 레이아웃 (컬럼 형식)
+ * - geoDataFeatures의 Feature/Map 중첩 구조를 컬럼 배열로 펼쳐 저장
+ * - 구간(feature) 컬럼의 i번째 값 = i번째 10초 구간, 좌표 컬럼은 모든 구간의 좌표를 이어붙인 것
+ * - coordinateOffsets[i] = i번째 구간의 좌표 끝 위치(exclusive)
+ */
+@Data
+@NoArgsConstructor
+public class RunningTrack {
+
+	// 구간(feature) 단위 컬럼
+	private List<Long> timestampStart = new ArrayList<>();
+	private List<Long> timestampEnd = new ArrayList<>();
+	private List<Integer> coordinateOffsets = new ArrayList<>();
+
+	private List<Double> height = new ArrayList<>();
+	private List<Integer> bpm = new ArrayList<>();
+	private List<Double> pace = new ArrayList<>();
+	private List<Integer> power = new ArrayList<>();
+	private List<Integer> cadence = new ArrayList<>();
+	private List<Double> minVerticalAmplitude = new ArrayList<>();
+	private List<Double> maxVerticalAmplitude = new ArrayList<>();
+	private List<Integer> minGct = new ArrayList<>();
+	private List<Integer> maxGct = new ArrayList<>();
+	private List<Double> stride = new ArrayList<>();
+
+	// 좌표 단위 컬럼
+	private List<Double> longitudes = new ArrayList<>();
+	private List<Double> latitudes = new ArrayList<>();
+
+	/**
+	 * MongoDB에 저장된 Feature Map 리스트로부터 생성
+	 */
+	public static RunningTrack fromFeatureMaps(List<Map<String, Object>> features) {
+		RunningTrack track = new RunningTrack();
+		if (features != null) {
+			features.forEach(track::appendFeatureMap);
+		}
+		return track;
+	}
+
+	/**
+	 * 요청 DTO의 Feature 리스트로부터 생성
+	 */
+	public static RunningTrack fromFeatures(List<RunningFeature> features) {
+		RunningTrack track = new RunningTrack();
+		if (features != null) {
+			features.forEach(track::appendFeature);
+		}
+		return track;
+	}
+
+	public void appendFeature(RunningFeature feature) {
+		RunningProperties props = feature.properties();
+		timestampStart.add(props.timestampStart());
+		timestampEnd.add(props.timestampEnd());
+		height.add(props.height());
+		bpm.add(props.bpm());
+		pace.add(props.pace());
+		power.add(props.power());
+		cadence.add(props.cadence());
+		minVerticalAmplitude.add(props.minVerticalAmplitude());
+		maxVerticalAmplitude.add(props.maxVerticalAmplitude());
+		minGct.add(props.minGct());
+		maxGct.add(props.maxGct());
+		stride.add(props.stride());
+		appendCoordinates(feature.geometry().coordinates());
+	}
+
+	@SuppressWarnings("unchecked")
+	public void appendFeatureMap(Map<String, Object> feature) {
+		Map<String, Object> props = (Map<String, Object>) feature.get("properties");
+		Map<String, Object> geometry = (Map<String, Object>) feature.get("geometry");
+
+		timestampStart.add(asLong(props.get("timestampStart")));
+		timestampEnd.add(asLong(props.get("timestampEnd")));
+		height.add(asDouble(props.get("height")));
+		bpm.add(asInteger(props.get("bpm")));
+		pace.add(asDouble(props.get("pace")));
+		power.add(asInteger(props.get("power")));
+		cadence.add(asInteger(props.get("cadence")));
+		minVerticalAmplitude.add(asDouble(props.get("minVerticalAmplitude")));
+		maxVerticalAmplitude.add(asDouble(props.get("maxVerticalAmplitude")));
+		minGct.add(asInteger(props.get("minGct")));
+		maxGct.add(asInteger(props.get("maxGct")));
+		stride.add(asDouble(props.get("stride")));
+		appendCoordinates((List<List<Number>>) (List<?>) geometry.get("coordinates"));
+	}
+
+	private void appendCoordinates(List<? extends List<? extends Number>> coordinates) {
+		if (coordinates != null) {
+			for (List<? extends Number> coord : coordinates) {
+				longitudes.add(coord.get(0).doubleValue());
+				latitudes.add(coord.get(1).doubleValue());
+			}
+		}
+		coordinateOffsets.add(longitudes.size());
+	}
+
+	public int featureCount() {
+		return timestampStart.size();
+	}
+
+	public int pointCount() {
+		return longitudes.size();
+	}
+
+	public int pointStart(int featureIndex) {
+		return featureIndex == 0 ? 0 : coordinateOffsets.get(featureIndex - 1);
+	}
+
+	public int pointEnd(int featureIndex) {
+		return coordinateOffsets.get(featureIndex);
+	}
+
+	/**
+	 * 좌표별 시각(ms) - 구간 내 좌표는 시작~종료 시각 사이에 균등 분배
+	 */
+	public long[] pointTimes() {
+		long[] times = new long[pointCount()];
+		for (int f = 0; f < featureCount(); f++) {
+			int start = pointStart(f);
+			int count = pointEnd(f) - start;
+			long tStart = timestampStart.get(f);
+			long tEnd = timestampEnd.get(f);
+
+			for (int k = 0; k < count; k++) {
+				times[start + k] = count == 1 ? tEnd : tStart + (tEnd - tStart) * k / (count - 1);
+			}
+		}
+		return times;
+	}
+
+	/**
+	 * 좌표별 누적 거리(m)
+	 */
+	public double[] cumulativeDistances() {
+		double[] distances = new double[pointCount()];
+		for (int i = 1; i < distances.length; i++) {
+			distances[i] = distances[i - 1] + GeoUtils.distanceMeters(
+				longitudes.get(i - 1), latitudes.get(i - 1), longitudes.get(i), latitudes.get(i));
+		}
+		return distances;
+	}
+
+	/**
+	 * 기존 GeoJSON Feature Map 형태로 복원 (내보내기/호환용)
+	 */
+	public List<Map<String, Object>> toFeatureMaps() {
+		List<Map<String, Object>> features = new ArrayList<>(featureCount());
+		for (int f = 0; f < featureCount(); f++) {
+			List<List<Double>> coordinates = new ArrayList<>(pointEnd(f) - pointStart(f));
+			for (int p = pointStart(f); p < pointEnd(f); p++) {
+				coordinates.add(List.of(longitudes.get(p), latitudes.get(p)));
+			}
+
+			features.add(Map.of(
+				"type", "Feature",
+				"properties", featurePropertiesMap(f),
+				"geometry", Map.of(
+					"type", "LineString",
+					"coordinates", coordinates
+				)
+			));
+		}
+		return features;
+	}
+
+	public Map<String, Object> featurePropertiesMap(int f) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("timestampStart", timestampStart.get(f));
+		map.put("timestampEnd", timestampEnd.get(f));
+
+		// null이 아닌 값들만 추가
+		putIfNotNull(map, "height", height.get(f));
+		putIfNotNull(map, "bpm", bpm.get(f));
+		putIfNotNull(map, "pace", pace.get(f));
+		putIfNotNull(map, "power", power.get(f));
+		putIfNotNull(map, "cadence", cadence.get(f));
+		putIfNotNull(map, "minVerticalAmplitude", minVerticalAmplitude.get(f));
+		putIfNotNull(map, "maxVerticalAmplitude", maxVerticalAmplitude.get(f));
+		putIfNotNull(map, "minGct", minGct.get(f));
+		putIfNotNull(map, "maxGct", maxGct.get(f));
+		putIfNotNull(map, "stride", stride.get(f));
+		return map;
+	}
+
+	private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+		if (value != null) {
+			map.put(key, value);
+		}
+	}
+
+	private static Long asLong(Object value) {
+		return value instanceof Number n ? n.longValue() : null;
+	}
+
+	private static Integer asInteger(Object value) {
+		return value instanceof Number n ? n.intValue() : null;
+	}
+
+	private static Double asDouble(Object value) {
+		return value instanceof Number n ? n.doubleValue() : null;
+	}
+}
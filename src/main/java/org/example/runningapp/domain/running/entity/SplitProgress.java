@@ -0,0 +1,69 @@
+package org.example.runningapp.domain.running.entity;
+
+import org.example.runningapp.domain.running.dto.RunningSplit;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 청크 사이에 이어지는 진행 중 스플릿 상태
+ * - 완료된 스플릿은 세션 헤더(splits/laps)에 $push, 여기에는 진행 중 구간만 보관
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SplitProgress {
+
+	private double splitDistanceMeters;  // 스플릿 기준 거리(m)
+	private double nextBoundary;         // 다음 스플릿 경계의 누적 거리(m)
+	private Long splitStartTime;         // 진행 중 스플릿 시작 시각(ms)
+	private int completedCount;          // 완료된 스플릿 수
+
+	/**
+	 * 현재 누적 거리 지점부터 스플릿 계산 시작
+	 */
+	public static SplitProgress start(double splitDistanceMeters, double distanceMeters, Long time) {
+		int completed = (int) Math.floor(distanceMeters / splitDistanceMeters);
+		return new SplitProgress(splitDistanceMeters, (completed + 1) * splitDistanceMeters, time, completed);
+	}
+
+	public SplitProgress copy() {
+		return new SplitProgress(splitDistanceMeters, nextBoundary, splitStartTime, completedCount);
+	}
+
+	/**
+	 * 좌표 한 구간(이전 좌표 → 현재 좌표)을 반영, 경계를 넘으면 완료된 스플릿을 out에 추가
+	 * - 경계 통과 시각은 두 좌표 사이에서 선형 보간 (SplitCalculator와 동일)
+	 */
+	void advance(double prevDistance, long prevTime, double distance, long time, long sessionStart,
+		List<RunningSplit> out) {
+		if (splitStartTime == null) {
+			splitStartTime = prevTime;
+		}
+
+		while (distance >= nextBoundary) {
+			double segment = distance - prevDistance;
+			double ratio = segment > 0 ? (nextBoundary - prevDistance) / segment : 1.0;
+			long crossTime = prevTime + Math.round((time - prevTime) * ratio);
+
+			completedCount++;
+			out.add(RunningSplit.of(completedCount, splitDistanceMeters,
+				crossTime - splitStartTime, crossTime - sessionStart));
+			splitStartTime = crossTime;
+			nextBoundary += splitDistanceMeters;
+		}
+	}
+
+	/**
+	 * 진행 중인(아직 경계에 도달하지 않은) 스플릿, 없으면 null
+	 */
+	public RunningSplit partial(double distanceMeters, Long lastTime, Long sessionStart) {
+		double remaining = distanceMeters - (nextBoundary - splitDistanceMeters);
+		if (remaining <= 0 || splitStartTime == null || lastTime == null || sessionStart == null) {
+			return null;
+		}
+		return RunningSplit.of(completedCount + 1, remaining, lastTime - splitStartTime, lastTime - sessionStart);
+	}
+}
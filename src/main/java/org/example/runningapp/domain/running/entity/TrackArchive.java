@@ -0,0 +1,24 @@
+package org.example.runningapp.domain.running.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콜드 스토리지로 옮겨진 트랙의 위치 정보
+ * - 세션 문서에는 헤더/요약/스플릿/단순화 경로만 남고 track은 제거됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackArchive {
+
+	private String blobKey;
+	private String format;          // TrackArchiveCodec.FORMAT
+	private int featureCount;       // 복원 없이 Feature 수 조회용
+	private long rawBytes;          // 압축 전 Smile 인코딩 크기
+	private long compressedBytes;
+	private LocalDateTime archivedAt;
+}
@@ -0,0 +1,11 @@
+package org.example.runningapp.domain.running.entity;
+
+/**
+ * 트랙 보존 해상도 (선언 순서 = 축소 정도, 낮은 단계로 되돌아가지 않음)
+ * - 기존 문서에는 값이 없으므로 null은 FULL로 취급
+ */
+public enum TrackRetentionLevel {
+	FULL,          // 원본 (약 1Hz)
+	DOWNSAMPLED,   // 일정 간격으로 좌표 축소
+	ROUTE_ONLY     // 단순화 경로에 남는 좌표만 유지
+}
@@ -0,0 +1,79 @@
+package org.example.runningapp.domain.running.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 심박/페이스 존별 누적 시간(ms)
+ * - 존 경계는 세션 생성 시점의 사용자 설정을 복사해 세션 내내 동일하게 사용
+ * - 경계 4개 → 존 5개 (값 < 경계[0] 이면 1존, 경계[3] 이상이면 5존)
+ * - 카운터는 고정 크기 배열, 청크 수신 시 해당 인덱스만 $inc
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZoneHistogram {
+
+	public static final int ZONE_COUNT = 5;
+
+	private int[] hrBoundaries;       // 심박 존 경계(bpm)
+	private double[] paceBoundaries;  // 페이스 존 경계(km/h)
+	private long[] hrZoneMs;
+	private long[] paceZoneMs;
+
+	public static ZoneHistogram empty(int[] hrBoundaries, double[] paceBoundaries) {
+		return new ZoneHistogram(hrBoundaries.clone(), paceBoundaries.clone(),
+			new long[ZONE_COUNT], new long[ZONE_COUNT]);
+	}
+
+	/**
+	 * 같은 경계로 청크 구간들만 집계한 히스토그램 (저장 시 $inc 값)
+	 */
+	public ZoneHistogram count(RunningTrack chunk) {
+		ZoneHistogram delta = empty(hrBoundaries, paceBoundaries);
+
+		for (int f = 0; f < chunk.featureCount(); f++) {
+			long duration = chunk.getTimestampEnd().get(f) - chunk.getTimestampStart().get(f);
+			if (duration <= 0) {
+				continue;
+			}
+
+			Integer bpm = chunk.getBpm().get(f);
+			if (bpm != null) {
+				delta.hrZoneMs[zoneOf(hrBoundaries, bpm)] += duration;
+			}
+
+			Double pace = chunk.getPace().get(f);
+			if (pace != null) {
+				delta.paceZoneMs[zoneOf(paceBoundaries, pace)] += duration;
+			}
+		}
+		return delta;
+	}
+
+	public boolean isEmpty() {
+		for (int i = 0; i < ZONE_COUNT; i++) {
+			if (hrZoneMs[i] != 0 || paceZoneMs[i] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static int zoneOf(int[] boundaries, double value) {
+		int zone = 0;
+		while (zone < boundaries.length && value >= boundaries[zone]) {
+			zone++;
+		}
+		return zone;
+	}
+
+	static int zoneOf(double[] boundaries, double value) {
+		int zone = 0;
+		while (zone < boundaries.length && value >= boundaries[zone]) {
+			zone++;
+		}
+		return zone;
+	}
+}
@@ -0,0 +1,24 @@
+package org.example.runningapp.domain.running.event;
+
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+
+/**
+ * 러닝 데이터 청크 저장 완료 이벤트
+ *
+ * @param sessionStartTime 세션 시작 시각(ms) - 통계 버킷 기준
+ * @param chunk            이번에 저장된 구간들
+ * @param distanceMeters   이번 청크로 늘어난 거리(m) - 이전 청크와의 경계 구간 포함
+ * @param durationMs       이번 청크 구간 시간 합(ms)
+ * @param zones            이번 청크의 존별 시간(ms), 존 정보가 없는 세션은 null
+ */
+public record RunningChunkIngestedEvent(
+	Long userId,
+	String sessionKey,
+	long sessionStartTime,
+	RunningTrack chunk,
+	double distanceMeters,
+	long durationMs,
+	ZoneHistogram zones
+) {
+}
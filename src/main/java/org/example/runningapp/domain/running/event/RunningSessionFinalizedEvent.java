@@ -0,0 +1,19 @@
+package org.example.runningapp.domain.running.event;
+
+import org.example.runningapp.domain.running.dto.RunningSessionSummary;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+/**
+ * 러닝 세션 종료(finalize) 완료 이벤트 - 세션 단위 후처리 단계의 시작점
+ *
+ * @param track          압축된 전체 트랙 (후처리에서 세션을 다시 읽지 않도록 전달)
+ * @param chunksRolledUp 청크 수신 시점에 통계가 증분 집계된 세션인지 (lastChunkAt이 없는 기존 세션은 false)
+ */
+public record RunningSessionFinalizedEvent(
+	Long userId,
+	String sessionKey,
+	RunningSessionSummary summary,
+	RunningTrack track,
+	boolean chunksRolledUp
+) {
+}
@@ -0,0 +1,32 @@
+package org.example.runningapp.domain.running.export;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+	GPX("gpx", "application/gpx+xml"),
+	TCX("tcx", "application/vnd.garmin.tcx+xml"),
+	GEOJSON("geojson", "application/geo+json");
+
+	private final String extension;
+	private final String contentType;
+
+	ExportFormat(String extension, String contentType) {
+		this.extension = extension;
+		this.contentType = contentType;
+	}
+
+	public String extension() {
+		return extension;
+	}
+
+	public String contentType() {
+		return contentType;
+	}
+
+	public static ExportFormat from(String value) {
+		return Arrays.stream(values())
+			.filter(format -> format.extension.equalsIgnoreCase(value))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value));
+	}
+}
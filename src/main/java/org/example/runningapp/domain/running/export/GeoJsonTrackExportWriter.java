@@ -0,0 +1,77 @@
+package org.example.runningapp.domain.running.export;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * GeoJSON FeatureCollection (저장 구조와 동일한 10초 구간 Feature 단위)
+ */
+@Component
+public class GeoJsonTrackExportWriter implements TrackExportWriter {
+
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+		.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+		.build();
+
+	@Override
+	public ExportFormat format() {
+		return ExportFormat.GEOJSON;
+	}
+
+	@Override
+	public void write(RunningSession session, RunningTrack track, OutputStream out) throws IOException {
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+			generator.writeStartObject();
+			generator.writeStringField("type", "FeatureCollection");
+			generator.writeStringField("sessionKey", session.getSessionKey());
+			generator.writeArrayFieldStart("features");
+
+			for (int f = 0; f < track.featureCount(); f++) {
+				generator.writeStartObject();
+				generator.writeStringField("type", "Feature");
+
+				generator.writeObjectFieldStart("properties");
+				for (Map.Entry<String, Object> entry : track.featurePropertiesMap(f).entrySet()) {
+					writeNumberField(generator, entry.getKey(), entry.getValue());
+				}
+				generator.writeEndObject();
+
+				generator.writeObjectFieldStart("geometry");
+				generator.writeStringField("type", "LineString");
+				generator.writeArrayFieldStart("coordinates");
+				for (int p = track.pointStart(f); p < track.pointEnd(f); p++) {
+					generator.writeStartArray();
+					generator.writeNumber(track.getLongitudes().get(p));
+					generator.writeNumber(track.getLatitudes().get(p));
+					generator.writeEndArray();
+				}
+				generator.writeEndArray();
+				generator.writeEndObject();
+
+				generator.writeEndObject();
+			}
+
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+	}
+
+	private static void writeNumberField(JsonGenerator generator, String name, Object value) throws IOException {
+		if (value instanceof Long l) {
+			generator.writeNumberField(name, l);
+		} else if (value instanceof Integer i) {
+			generator.writeNumberField(name, i);
+		} else if (value instanceof Double d) {
+			generator.writeNumberField(name, d);
+		}
+	}
+}
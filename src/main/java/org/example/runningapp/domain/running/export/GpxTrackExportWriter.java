@@ -0,0 +1,76 @@
+package org.example.runningapp.domain.running.export;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * GPX 1.1 (심박/케이던스는 Garmin TrackPointExtension)
+ */
+@Component
+public class GpxTrackExportWriter extends XmlTrackExportWriter {
+
+	private static final String GPX_NS = "http://www.topografix.com/GPX/1/1";
+	private static final String TPX_NS = "http://www.garmin.com/xmlschemas/TrackPointExtension/v1";
+
+	@Override
+	public ExportFormat format() {
+		return ExportFormat.GPX;
+	}
+
+	@Override
+	protected void writeDocument(XMLStreamWriter writer, RunningSession session, RunningTrack track)
+		throws XMLStreamException {
+		writer.setDefaultNamespace(GPX_NS);
+		writer.setPrefix("gpxtpx", TPX_NS);
+
+		writer.writeStartElement(GPX_NS, "gpx");
+		writer.writeDefaultNamespace(GPX_NS);
+		writer.writeNamespace("gpxtpx", TPX_NS);
+		writer.writeAttribute("version", "1.1");
+		writer.writeAttribute("creator", "Runners-Hi");
+
+		long[] times = track.pointTimes();
+		if (times.length > 0) {
+			writer.writeStartElement(GPX_NS, "metadata");
+			writeElement(writer, GPX_NS, "time", isoTime(times[0]));
+			writer.writeEndElement();
+		}
+
+		writer.writeStartElement(GPX_NS, "trk");
+		writeElement(writer, GPX_NS, "name", session.getSessionKey());
+		writeElement(writer, GPX_NS, "type", "running");
+		writer.writeStartElement(GPX_NS, "trkseg");
+
+		for (int f = 0; f < track.featureCount(); f++) {
+			Double height = track.getHeight().get(f);
+			Integer bpm = track.getBpm().get(f);
+			Integer cadence = track.getCadence().get(f);
+
+			for (int p = track.pointStart(f); p < track.pointEnd(f); p++) {
+				writer.writeStartElement(GPX_NS, "trkpt");
+				writer.writeAttribute("lat", track.getLatitudes().get(p).toString());
+				writer.writeAttribute("lon", track.getLongitudes().get(p).toString());
+				writeElement(writer, GPX_NS, "ele", height);
+				writeElement(writer, GPX_NS, "time", isoTime(times[p]));
+
+				if (bpm != null || cadence != null) {
+					writer.writeStartElement(GPX_NS, "extensions");
+					writer.writeStartElement(TPX_NS, "TrackPointExtension");
+					writeElement(writer, TPX_NS, "hr", bpm);
+					writeElement(writer, TPX_NS, "cad", cadence);
+					writer.writeEndElement();
+					writer.writeEndElement();
+				}
+				writer.writeEndElement();
+			}
+		}
+
+		writer.writeEndElement(); // trkseg
+		writer.writeEndElement(); // trk
+		writer.writeEndElement(); // gpx
+	}
+}
@@ -0,0 +1,96 @@
+package org.example.runningapp.domain.running.export;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Garmin TCX v2 (세션 전체를 하나의 Lap으로 출력)
+ */
+@Component
+public class TcxTrackExportWriter extends XmlTrackExportWriter {
+
+	private static final String TCX_NS = "http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2";
+	private static final String AX_NS = "http://www.garmin.com/xmlschemas/ActivityExtension/v2";
+
+	@Override
+	public ExportFormat format() {
+		return ExportFormat.TCX;
+	}
+
+	@Override
+	protected void writeDocument(XMLStreamWriter writer, RunningSession session, RunningTrack track)
+		throws XMLStreamException {
+		long[] times = track.pointTimes();
+		double[] distances = track.cumulativeDistances();
+		long startTime = times.length > 0 ? times[0] : 0L;
+		long endTime = times.length > 0 ? times[times.length - 1] : 0L;
+
+		writer.setDefaultNamespace(TCX_NS);
+		writer.setPrefix("ax", AX_NS);
+
+		writer.writeStartElement(TCX_NS, "TrainingCenterDatabase");
+		writer.writeDefaultNamespace(TCX_NS);
+		writer.writeNamespace("ax", AX_NS);
+
+		writer.writeStartElement(TCX_NS, "Activities");
+		writer.writeStartElement(TCX_NS, "Activity");
+		writer.writeAttribute("Sport", "Running");
+		writeElement(writer, TCX_NS, "Id", isoTime(startTime));
+
+		writer.writeStartElement(TCX_NS, "Lap");
+		writer.writeAttribute("StartTime", isoTime(startTime));
+		writeElement(writer, TCX_NS, "TotalTimeSeconds", (endTime - startTime) / 1000.0);
+		writeElement(writer, TCX_NS, "DistanceMeters", distances.length > 0 ? distances[distances.length - 1] : 0.0);
+		writeElement(writer, TCX_NS, "Calories", 0);
+		writeElement(writer, TCX_NS, "Intensity", "Active");
+		writeElement(writer, TCX_NS, "TriggerMethod", "Manual");
+
+		writer.writeStartElement(TCX_NS, "Track");
+		for (int f = 0; f < track.featureCount(); f++) {
+			Double height = track.getHeight().get(f);
+			Integer bpm = track.getBpm().get(f);
+			Integer cadence = track.getCadence().get(f);
+			Integer power = track.getPower().get(f);
+
+			for (int p = track.pointStart(f); p < track.pointEnd(f); p++) {
+				writer.writeStartElement(TCX_NS, "Trackpoint");
+				writeElement(writer, TCX_NS, "Time", isoTime(times[p]));
+
+				writer.writeStartElement(TCX_NS, "Position");
+				writeElement(writer, TCX_NS, "LatitudeDegrees", track.getLatitudes().get(p));
+				writeElement(writer, TCX_NS, "LongitudeDegrees", track.getLongitudes().get(p));
+				writer.writeEndElement();
+
+				writeElement(writer, TCX_NS, "AltitudeMeters", height);
+				writeElement(writer, TCX_NS, "DistanceMeters", distances[p]);
+
+				if (bpm != null) {
+					writer.writeStartElement(TCX_NS, "HeartRateBpm");
+					writeElement(writer, TCX_NS, "Value", bpm);
+					writer.writeEndElement();
+				}
+
+				if (cadence != null || power != null) {
+					writer.writeStartElement(TCX_NS, "Extensions");
+					writer.writeStartElement(AX_NS, "TPX");
+					// TCX RunCadence는 한쪽 발 기준 (spm / 2)
+					writeElement(writer, AX_NS, "RunCadence", cadence != null ? cadence / 2 : null);
+					writeElement(writer, AX_NS, "Watts", power);
+					writer.writeEndElement();
+					writer.writeEndElement();
+				}
+				writer.writeEndElement(); // Trackpoint
+			}
+		}
+		writer.writeEndElement(); // Track
+
+		writer.writeEndElement(); // Lap
+		writer.writeEndElement(); // Activity
+		writer.writeEndElement(); // Activities
+		writer.writeEndElement(); // TrainingCenterDatabase
+	}
+}
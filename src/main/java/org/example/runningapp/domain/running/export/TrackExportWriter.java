@@ -0,0 +1,19 @@
+package org.example.runningapp.domain.running.export;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 세션 트랙을 외부 포맷으로 스트리밍 출력
+ * - DOM을 만들지 않고 좌표 단위로 바로 out에 기록
+ * - out은 닫지 않음 (ZIP 엔트리 등 호출자가 관리)
+ */
+public interface TrackExportWriter {
+
+	ExportFormat format();
+
+	void write(RunningSession session, RunningTrack track, OutputStream out) throws IOException;
+}
@@ -0,0 +1,50 @@
+package org.example.runningapp.domain.running.export;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * StAX(XMLStreamWriter) 기반 스트리밍 XML 출력 공통 처리
+ */
+abstract class XmlTrackExportWriter implements TrackExportWriter {
+
+	private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+	@Override
+	public void write(RunningSession session, RunningTrack track, OutputStream out) throws IOException {
+		try {
+			XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, "UTF-8");
+			writer.writeStartDocument("UTF-8", "1.0");
+			writeDocument(writer, session, track);
+			writer.writeEndDocument();
+			writer.flush();
+			writer.close(); // 하위 OutputStream은 닫지 않음
+		} catch (XMLStreamException e) {
+			throw new IOException("XML 내보내기 중 오류가 발생했습니다", e);
+		}
+	}
+
+	protected abstract void writeDocument(XMLStreamWriter writer, RunningSession session, RunningTrack track)
+		throws XMLStreamException;
+
+	protected static void writeElement(XMLStreamWriter writer, String namespace, String name, Object value)
+		throws XMLStreamException {
+		if (value == null) {
+			return;
+		}
+		writer.writeStartElement(namespace, name);
+		writer.writeCharacters(value.toString());
+		writer.writeEndElement();
+	}
+
+	protected static String isoTime(long epochMillis) {
+		return Instant.ofEpochMilli(epochMillis).toString();
+	}
+}
@@ -0,0 +1,87 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마지막 청크 이후 일정 시간 동안 데이터가 없는 세션을 자동 종료
+ * - 여러 인스턴스가 동시에 실행해도 finalizeLoaded의 조건부 업데이트로 한 번만 반영됨
+ * - lastChunkAt이 없는 기존 세션(status 없음 포함)은 include-legacy를 켠 경우에만 createdAt 기준으로 판단
+ *   (종료하면 geoDataFeatures가 track으로 옮겨지므로 기본 조회 응답이 이를 펼쳐 주는 버전 배포 후 활성화)
+ * - {status, lastChunkAt} 인덱스는 MongoIndexConfig에서 보장
+ */
+@Slf4j
+@Component
+public class IdleSessionFinalizeScheduler {
+
+	private final RunningSessionFinalizer finalizer;
+	private final MongoTemplate mongoTemplate;
+	private final long idleTimeoutMs;
+	private final int batchSize;
+	private final boolean includeLegacy;
+
+	public IdleSessionFinalizeScheduler(
+		RunningSessionFinalizer finalizer,
+		MongoTemplate mongoTemplate,
+		@Value("${app.running.finalize.idle-timeout-ms:1800000}") long idleTimeoutMs,
+		@Value("${app.running.finalize.batch-size:20}") int batchSize,
+		@Value("${app.running.finalize.include-legacy:false}") boolean includeLegacy) {
+		this.finalizer = finalizer;
+		this.mongoTemplate = mongoTemplate;
+		this.idleTimeoutMs = idleTimeoutMs;
+		this.batchSize = batchSize;
+		this.includeLegacy = includeLegacy;
+	}
+
+	@Scheduled(fixedDelayString = "${app.running.finalize.scan-interval-ms:60000}")
+	public void finalizeIdleSessions() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(idleTimeoutMs));
+
+		try {
+			Criteria criteria;
+			if (includeLegacy) {
+				// status가 없는 기존 문서는 ACTIVE로 취급 ($in null은 필드가 없는 문서도 포함)
+				Criteria notFinalized = Criteria.where("status").in(RunningSessionStatus.ACTIVE, null);
+				Criteria idle = new Criteria().orOperator(
+					Criteria.where("lastChunkAt").lt(cutoff),
+					Criteria.where("lastChunkAt").exists(false).and("createdAt").lt(cutoff));
+				criteria = new Criteria().andOperator(notFinalized, idle);
+			} else {
+				criteria = Criteria.where("status").is(RunningSessionStatus.ACTIVE).and("lastChunkAt").lt(cutoff);
+			}
+			Query query = Query.query(criteria).limit(batchSize);
+
+			List<RunningSession> idleSessions = mongoTemplate.find(query, RunningSession.class);
+			if (idleSessions.isEmpty()) {
+				return;
+			}
+
+			int finalizedCount = 0;
+			for (RunningSession session : idleSessions) {
+				try {
+					if (finalizer.finalizeLoaded(session)) {
+						finalizedCount++;
+					}
+				} catch (Exception e) {
+					log.error("유휴 세션 자동 종료 실패 - sessionKey: {}, 오류: {}", session.getSessionKey(), e.getMessage());
+				}
+			}
+
+			log.info("유휴 세션 자동 종료 - 대상: {}, 종료: {}", idleSessions.size(), finalizedCount);
+
+		} catch (Exception e) {
+			log.error("유휴 세션 조회 실패 - 오류: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package org.example.runningapp.domain.running.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 세션 트랙 콜드 스토리지 보관 스케줄러 (app.running.archive.enabled=true일 때만 등록)
+ * - durable BlobStore(인스턴스 간 공유, 교체 후에도 유지)가 구성된 환경에서만 활성화
+ */
+@Component
+@ConditionalOnProperty(name = "app.running.archive.enabled", havingValue = "true")
+public class RunningArchiveScheduler {
+
+	private final RunningArchiveService archiveService;
+
+	public RunningArchiveScheduler(RunningArchiveService archiveService) {
+		this.archiveService = archiveService;
+	}
+
+	@Scheduled(fixedDelayString = "${app.running.archive.scan-interval-ms:600000}")
+	public void archiveOldSessions() {
+		archiveService.archiveOldSessions();
+	}
+}
@@ -0,0 +1,173 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.storage.BlobStore;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.entity.TrackArchive;
+import org.example.runningapp.domain.running.util.TrackArchiveCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 세션 트랙의 콜드 스토리지 보관/복원
+ * - 종료 후 ageDays가 지난 세션의 track을 zstd 압축하여 BlobStore로 옮기고 문서에서는 제거
+ *   (헤더/요약/스플릿/단순화 경로는 그대로 남아 목록/통계 조회는 영향 없음)
+ * - 보관 파일 저장 → 문서 갱신 순서로 처리하여 문서가 없는 파일을 가리키는 일이 없도록 함
+ *   (문서 갱신 실패 시 남은 파일은 다음 실행에서 같은 key로 덮어씀)
+ * - 상세 조회/내보내기 시 rehydrate로 메모리에서만 복원 (문서는 다시 커지지 않음)
+ * - 보관 작업은 RunningArchiveScheduler(app.running.archive.enabled=true)가 실행하며,
+ *   BlobStore가 durable이 아니면 track을 제거하지 않음 (인스턴스 교체 시 원본 유실 방지)
+ */
+@Slf4j
+@Service
+public class RunningArchiveService {
+
+	private final MongoTemplate mongoTemplate;
+	private final BlobStore blobStore;
+	private final long ageDays;
+	private final int batchSize;
+	private final long pauseMs;
+
+	public RunningArchiveService(
+		MongoTemplate mongoTemplate,
+		BlobStore blobStore,
+		@Value("${app.running.archive.age-days:30}") long ageDays,
+		@Value("${app.running.archive.batch-size:20}") int batchSize,
+		@Value("${app.running.archive.pause-ms:100}") long pauseMs) {
+		this.mongoTemplate = mongoTemplate;
+		this.blobStore = blobStore;
+		this.ageDays = ageDays;
+		this.batchSize = batchSize;
+		this.pauseMs = pauseMs;
+	}
+
+	public void archiveOldSessions() {
+		if (!blobStore.isDurable()) {
+			log.warn("세션 보관 건너뜀 - durable BlobStore가 아님 ({})", blobStore.getClass().getSimpleName());
+			return;
+		}
+
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+
+		List<RunningSession> candidates;
+		try {
+			Query query = Query.query(Criteria.where("status").is(RunningSessionStatus.FINALIZED)
+					.and("finalizedAt").lt(cutoff)
+					.and("archive").exists(false)
+					.and("track").ne(null))
+				.limit(batchSize);
+			query.fields().include("userId", "sessionKey", "track", "retentionLevel");
+			candidates = mongoTemplate.find(query, RunningSession.class);
+		} catch (Exception e) {
+			log.error("보관 대상 세션 조회 실패 - 오류: {}", e.getMessage());
+			return;
+		}
+
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		int archivedCount = 0;
+		long savedBytes = 0;
+		for (RunningSession session : candidates) {
+			try {
+				TrackArchive archive = archive(session);
+				if (archive != null) {
+					archivedCount++;
+					savedBytes += archive.getRawBytes() - archive.getCompressedBytes();
+				}
+			} catch (Exception e) {
+				log.error("세션 보관 실패 - sessionKey: {}, 오류: {}", session.getSessionKey(), e.getMessage());
+			}
+
+			if (!pause()) {
+				break;
+			}
+		}
+
+		log.info("세션 콜드 스토리지 보관 - 대상: {}, 보관: {}, 압축 절감(bytes): {}",
+			candidates.size(), archivedCount, savedBytes);
+	}
+
+	/**
+	 * 보관된 세션이면 track을 복원하여 채움 (보관되지 않은 세션은 그대로)
+	 */
+	public RunningSession rehydrate(RunningSession session) {
+		if (session == null || session.getArchive() == null || session.getTrack() != null) {
+			return session;
+		}
+
+		TrackArchive archive = session.getArchive();
+		try {
+			session.setTrack(TrackArchiveCodec.decode(blobStore.get(archive.getBlobKey())));
+			return session;
+		} catch (Exception e) {
+			log.error("보관 세션 복원 실패 - sessionKey: {}, blobKey: {}, 오류: {}",
+				session.getSessionKey(), archive.getBlobKey(), e.getMessage());
+			throw new ExternalServiceException("보관된 러닝 기록을 불러오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	/**
+	 * 보관된 트랙을 새 트랙으로 교체 저장 (같은 key에 덮어씀)
+	 *
+	 * @return 문서에 반영할 새 보관 정보
+	 */
+	public TrackArchive rewrite(TrackArchive archive, RunningTrack track) throws IOException {
+		byte[] raw = TrackArchiveCodec.encodeRaw(track);
+		byte[] compressed = TrackArchiveCodec.compress(raw);
+		blobStore.put(archive.getBlobKey(), compressed);
+
+		return new TrackArchive(archive.getBlobKey(), TrackArchiveCodec.FORMAT, track.featureCount(),
+			raw.length, compressed.length, archive.getArchivedAt());
+	}
+
+	public static String blobKeyOf(Long userId, String sessionKey) {
+		return "sessions/" + userId + "/" + sessionKey + ".zst";
+	}
+
+	private TrackArchive archive(RunningSession session) throws Exception {
+		byte[] raw = TrackArchiveCodec.encodeRaw(session.getTrack());
+		byte[] compressed = TrackArchiveCodec.compress(raw);
+		String blobKey = blobKeyOf(session.getUserId(), session.getSessionKey());
+
+		blobStore.put(blobKey, compressed);
+
+		TrackArchive archive = new TrackArchive(
+			blobKey, TrackArchiveCodec.FORMAT, session.getTrack().featureCount(), raw.length, compressed.length, LocalDateTime.now());
+
+		// 읽은 뒤 보존 정책으로 트랙이 축소된 경우 반영하지 않음 (다음 실행에서 축소본으로 보관)
+		Query query = Query.query(Criteria.where("_id").is(session.getId())
+			.and("archive").exists(false)
+			.and("retentionLevel").is(session.getRetentionLevel()));
+		Update update = new Update()
+			.set("archive", archive)
+			.unset("track");
+
+		return mongoTemplate.updateFirst(query, update, RunningSession.class).getModifiedCount() > 0 ? archive : null;
+	}
+
+	private boolean pause() {
+		if (pauseMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(pauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -5,13 +5,24 @@ import org.example.runningapp.domain.running.dto.RunningProperties;
 import org.example.runningapp.domain.running.dto.RunningDataRequest;
 import org.example.runningapp.domain.running.dto.RunningDataResponse;
 import org.example.runningapp.domain.running.dto.RunningSessionSummary;
+import org.example.runningapp.domain.running.dto.RunningSplit;
+import org.example.runningapp.domain.running.dto.RunningSplitsResponse;
+import org.example.runningapp.domain.running.entity.RunningProgress;
 import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+import org.example.runningapp.domain.running.event.RunningChunkIngestedEvent;
 import org.example.runningapp.domain.running.repository.RunningSessionRepository;
 import org.example.runningapp.common.exception.InvalidRunningDataException;
 import org.example.runningapp.common.exception.RunningSessionNotFoundException;
+import org.example.runningapp.common.exception.RunningSessionFinalizedException;
 import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.domain.stats.service.ZoneSettingsService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -19,7 +30,10 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.mongodb.client.result.UpdateResult;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,8 +43,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class RunningDataService {
 
+	private static final int MAX_APPEND_ATTEMPTS = 3;
+
 	private final RunningSessionRepository repository;
 	private final MongoTemplate mongoTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ZoneSettingsService zoneSettingsService;
+	private final RunningArchiveService archiveService;
 
 	/**
 	 * 다음 세션 번호 조회 - 성능 최적화된 필드 선택
@@ -72,7 +91,7 @@ public class RunningDataService {
 				return appendToExistingSessionOptimized(existingSession.get(), request);
 			}
 
-		} catch (InvalidRunningDataException e) {
+		} catch (InvalidRunningDataException | RunningSessionFinalizedException e) {
 			throw e; // 비즈니스 예외는 그대로 전파
 		} catch (Exception e) {
 			log.error("러닝 데이터 저장 실패 - 사용자: {}, 세션번호: {}, 오류: {}",
@@ -89,16 +108,32 @@ public class RunningDataService {
 			log.info("새 세션 생성 - sessionKey: {}", sessionKey);
 
 			List<Map<String, Object>> features = convertFeaturesToMapList(request.geoData().features());
+			RunningTrack chunk = RunningTrack.fromFeatures(request.geoData().features());
+			List<RunningSplit> splits = new ArrayList<>();
+			List<RunningSplit> laps = new ArrayList<>();
+			RunningProgress progress = RunningProgress.start(request.lapDistanceMeters()).advance(chunk, splits, laps);
+			// 존 경계는 세션 생성 시점의 사용자 설정으로 고정
+			ZoneHistogram zones = zoneSettingsService.newHistogram(userId).count(chunk);
+			LocalDateTime now = LocalDateTime.now();
 
 			RunningSession newSession = RunningSession.builder()
 				.userId(userId)
 				.sessionKey(sessionKey)
 				.sessionNum(request.sessionNum())
-				.createdAt(LocalDateTime.now())
+				.createdAt(now)
+				.lastChunkAt(now)
+				.status(RunningSessionStatus.ACTIVE)
+				.progress(progress)
+				.splits(splits)
+				.laps(progress.getLaps() != null ? laps : null)
+				.zones(zones)
+				.startPoint(chunk.pointCount() > 0 ?
+					new GeoJsonPoint(chunk.getLongitudes().get(0), chunk.getLatitudes().get(0)) : null)
 				.geoDataFeatures(features)
 				.build();
 
 			repository.save(newSession);
+			publishChunkIngested(userId, sessionKey, chunk, RunningProgress.empty(), progress, zones);
 
 			return RunningDataResponse.success(
 				request.getFeatureCount(),
@@ -114,20 +149,44 @@ public class RunningDataService {
 
 	/**
 	 * ⚡ MongoTemplate: 성능 최적화 - 부분 업데이트만
+	 * - 누적 상태(progress)는 읽은 문서 기준으로 계산하므로 그 사이 다른 청크가 추가되면 반영하지 않고 다시 읽어 재시도
+	 * - 이미 저장된 청크의 재전송은 추가하지 않고 성공으로 응답 (스플릿/랩/롤업 중복 방지)
 	 */
 	private RunningDataResponse appendToExistingSessionOptimized(RunningSession existingSession, RunningDataRequest request) {
 		String sessionKey = existingSession.getSessionKey();
+
 		log.info("기존 세션에 추가 (최적화) - sessionKey: {}, 기존: {}, 추가: {}",
 			sessionKey, existingSession.getCurrentFeatureCount(), request.getFeatureCount());
 
 		try {
 			List<Map<String, Object>> newFeatures = convertFeaturesToMapList(request.geoData().features());
+			RunningTrack chunk = RunningTrack.fromFeatures(request.geoData().features());
+
+			RunningSession session = existingSession;
+			for (int attempt = 1; ; attempt++) {
+				if (session.isFinalized()) {
+					throw new RunningSessionFinalizedException(
+						String.format("이미 종료된 세션입니다. sessionKey: %s", sessionKey));
+				}
+
+				if (isAlreadyIngested(session, request)) {
+					log.info("이미 저장된 청크 재전송 - sessionKey: {}, 추가하지 않음", sessionKey);
+					break;
+				}
 
-			// MongoTemplate: MongoDB $push 연산으로 부분 업데이트만 실행
-			Query query = Query.query(Criteria.where("sessionKey").is(sessionKey));
-			Update update = new Update().push("geoDataFeatures").each(newFeatures.toArray());
+				if (tryAppend(session, newFeatures, chunk)) {
+					break;
+				}
 
-			mongoTemplate.updateFirst(query, update, RunningSession.class);
+				if (attempt >= MAX_APPEND_ATTEMPTS) {
+					throw new ExternalServiceException("러닝 세션에 동시에 추가된 데이터가 많습니다. 다시 시도해주세요");
+				}
+
+				// 조회 이후 다른 청크가 추가되었거나 종료된 경우 최신 상태로 다시 계산
+				session = repository.findByUserIdAndSessionKey(session.getUserId(), sessionKey)
+					.orElseThrow(() -> new RunningSessionNotFoundException(
+						String.format("세션을 찾을 수 없습니다. sessionKey: %s", sessionKey)));
+			}
 
 			return RunningDataResponse.success(
 				request.getFeatureCount(),
@@ -135,12 +194,102 @@ public class RunningDataService {
 				RunningSessionSummary.fromFeatures(request.geoData().features())
 			);
 
+		} catch (RunningSessionFinalizedException | RunningSessionNotFoundException | ExternalServiceException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("세션 데이터 추가 실패 - sessionKey: {}, 오류: {}", sessionKey, e.getMessage());
 			throw new ExternalServiceException("기존 러닝 세션에 데이터 추가 중 오류가 발생했습니다", e);
 		}
 	}
 
+	/**
+	 * 읽은 문서 기준으로 청크를 추가 - 그 사이 Feature 수가 바뀌었거나 종료된 경우 반영하지 않음
+	 *
+	 * @return 반영되었으면 true
+	 */
+	private boolean tryAppend(RunningSession session, List<Map<String, Object>> newFeatures, RunningTrack chunk) {
+		// 이전 청크의 마지막 좌표부터 이어서 누적 (기존 문서에 상태가 없으면 이번 청크부터)
+		RunningProgress previous = session.getProgress() != null ? session.getProgress() : RunningProgress.empty();
+		List<RunningSplit> completedSplits = new ArrayList<>();
+		List<RunningSplit> completedLaps = new ArrayList<>();
+		RunningProgress progress = previous.advance(chunk, completedSplits, completedLaps);
+		int featureCount = session.getGeoDataFeatures() != null ? session.getGeoDataFeatures().size() : 0;
+
+		// MongoTemplate: MongoDB $push 연산으로 부분 업데이트만 실행
+		// 낙관적 동시성 제어 - 읽은 시점의 Feature 수와 같고 종료되지 않았을 때만 반영
+		Query query = Query.query(Criteria.where("_id").is(session.getId())
+			.and("status").ne(RunningSessionStatus.FINALIZED)
+			.and("geoDataFeatures").size(featureCount));
+		Update update = new Update().push("geoDataFeatures").each(newFeatures.toArray())
+			.set("lastChunkAt", LocalDateTime.now())
+			.set("progress", progress);
+
+		// 이번 청크에서 완료된 스플릿/랩만 헤더에 추가
+		if (!completedSplits.isEmpty()) {
+			update.push("splits").each(completedSplits.toArray());
+		}
+		if (!completedLaps.isEmpty()) {
+			update.push("laps").each(completedLaps.toArray());
+		}
+
+		// 존별 시간은 고정 크기 배열의 인덱스만 $inc
+		ZoneHistogram zoneDelta = session.getZones() != null ? session.getZones().count(chunk) : null;
+		if (zoneDelta != null) {
+			for (int i = 0; i < ZoneHistogram.ZONE_COUNT; i++) {
+				if (zoneDelta.getHrZoneMs()[i] != 0) {
+					update.inc("zones.hrZoneMs." + i, zoneDelta.getHrZoneMs()[i]);
+				}
+				if (zoneDelta.getPaceZoneMs()[i] != 0) {
+					update.inc("zones.paceZoneMs." + i, zoneDelta.getPaceZoneMs()[i]);
+				}
+			}
+		}
+
+		UpdateResult result = mongoTemplate.updateFirst(query, update, RunningSession.class);
+		if (result.getMatchedCount() == 0) {
+			return false;
+		}
+		publishChunkIngested(session.getUserId(), session.getSessionKey(), chunk, previous, progress, zoneDelta);
+		return true;
+	}
+
+	/**
+	 * 청크의 첫 Feature와 시작/종료 시각이 같은 Feature가 이미 저장되어 있으면 재전송으로 판단
+	 */
+	private boolean isAlreadyIngested(RunningSession session, RunningDataRequest request) {
+		if (session.getGeoDataFeatures() == null || session.getGeoDataFeatures().isEmpty()) {
+			return false;
+		}
+
+		RunningProperties first = request.geoData().features().get(0).properties();
+		return session.getGeoDataFeatures().stream()
+			.map(feature -> feature.get("properties"))
+			.filter(Map.class::isInstance)
+			.map(Map.class::cast)
+			.anyMatch(props -> first.timestampStart().equals(longValueOf(props.get("timestampStart")))
+				&& first.timestampEnd().equals(longValueOf(props.get("timestampEnd"))));
+	}
+
+	private static Long longValueOf(Object value) {
+		return value instanceof Number n ? n.longValue() : null;
+	}
+
+	/**
+	 * 청크 저장 완료 이벤트 발행 (통계/집계 등 후처리는 리스너에서 비동기 처리)
+	 */
+	private void publishChunkIngested(Long userId, String sessionKey, RunningTrack chunk,
+		RunningProgress previous, RunningProgress progress, ZoneHistogram zones) {
+		eventPublisher.publishEvent(new RunningChunkIngestedEvent(
+			userId,
+			sessionKey,
+			progress.getStartTimestamp(),
+			chunk,
+			progress.getDistanceMeters() - previous.getDistanceMeters(),
+			progress.getDurationMs() - previous.getDurationMs(),
+			zones
+		));
+	}
+
 	/**
 	 * JPA: 사용자 세션 목록 조회
 	 */
@@ -174,8 +323,9 @@ public class RunningDataService {
 			throw new IllegalArgumentException("세션 키는 필수입니다");
 		}
 
+		RunningSession session;
 		try {
-			return repository.findByUserIdAndSessionKey(userId, sessionKey)
+			session = repository.findByUserIdAndSessionKey(userId, sessionKey)
 				.orElseThrow(() -> new RunningSessionNotFoundException(
 					String.format("세션을 찾을 수 없습니다. sessionKey: %s", sessionKey)
 				));
@@ -185,6 +335,39 @@ public class RunningDataService {
 			log.error("세션 조회 실패 - 사용자: {}, sessionKey: {}, 오류: {}", userId, sessionKey, e.getMessage());
 			throw new ExternalServiceException("러닝 세션을 가져오는 중 오류가 발생했습니다", e);
 		}
+
+		// 콜드 스토리지로 옮겨진 세션은 보관 트랙을 복원하여 반환
+		return archiveService.rehydrate(session);
+	}
+
+	/**
+	 * 스플릿/랩만 조회 - 좌표(geoDataFeatures/track)는 읽지 않음
+	 * 진행 중 세션은 아직 경계에 도달하지 않은 현재 구간도 함께 반환
+	 */
+	public RunningSplitsResponse getSessionSplits(Long userId, String sessionKey) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		if (sessionKey == null || sessionKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("세션 키는 필수입니다");
+		}
+
+		RunningSession session;
+		try {
+			Query query = Query.query(Criteria.where("userId").is(userId).and("sessionKey").is(sessionKey));
+			query.fields().include("sessionKey", "status", "progress", "splits", "laps");
+			session = mongoTemplate.findOne(query, RunningSession.class);
+		} catch (Exception e) {
+			log.error("스플릿 조회 실패 - 사용자: {}, sessionKey: {}, 오류: {}", userId, sessionKey, e.getMessage());
+			throw new ExternalServiceException("러닝 스플릿을 가져오는 중 오류가 발생했습니다", e);
+		}
+
+		if (session == null) {
+			throw new RunningSessionNotFoundException(
+				String.format("세션을 찾을 수 없습니다. sessionKey: %s", sessionKey));
+		}
+		return RunningSplitsResponse.from(session);
 	}
 
 	/**
@@ -0,0 +1,132 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.common.exception.RunningSessionNotFoundException;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.export.ExportFormat;
+import org.example.runningapp.domain.running.export.TrackExportWriter;
+import org.example.runningapp.domain.running.repository.RunningSessionRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 러닝 세션 내보내기 (GPX/TCX/GeoJSON)
+ * - 단일 세션: 포맷 그대로 스트리밍
+ * - 다중 세션: MongoDB 커서로 세션을 하나씩 읽어 ZIP 엔트리로 바로 기록
+ *   → 힙 사용량은 전체 데이터가 아닌 세션 1개 크기에 비례
+ */
+@Slf4j
+@Service
+public class RunningExportService {
+
+	// 세션 문서 하나가 수 MB가 될 수 있으므로 커서 배치를 작게 유지
+	private static final int CURSOR_BATCH_SIZE = 4;
+
+	private final RunningSessionRepository repository;
+	private final MongoTemplate mongoTemplate;
+	private final RunningArchiveService archiveService;
+	private final Map<ExportFormat, TrackExportWriter> writers = new EnumMap<>(ExportFormat.class);
+
+	public RunningExportService(RunningSessionRepository repository, MongoTemplate mongoTemplate,
+		RunningArchiveService archiveService, List<TrackExportWriter> writers) {
+		this.repository = repository;
+		this.mongoTemplate = mongoTemplate;
+		this.archiveService = archiveService;
+		writers.forEach(writer -> this.writers.put(writer.format(), writer));
+	}
+
+	/**
+	 * 단일 세션 조회 (스트리밍 시작 전에 존재 여부 확인용)
+	 */
+	public RunningSession getSessionForExport(Long userId, String sessionKey) {
+		return repository.findByUserIdAndSessionKey(userId, sessionKey)
+			.orElseThrow(() -> new RunningSessionNotFoundException(
+				String.format("세션을 찾을 수 없습니다. sessionKey: %s", sessionKey)
+			));
+	}
+
+	public void exportSession(RunningSession session, ExportFormat format, OutputStream out) throws IOException {
+		writers.get(format).write(session, trackOf(session), out);
+		out.flush();
+	}
+
+	/**
+	 * 사용자 세션 일괄 내보내기 (ZIP)
+	 *
+	 * @param from 생성일 시작 (포함, null이면 제한 없음)
+	 * @param to   생성일 끝 (포함, null이면 제한 없음)
+	 */
+	public void exportSessionsAsZip(Long userId, LocalDate from, LocalDate to, ExportFormat format,
+		OutputStream out) throws IOException {
+		Criteria criteria = Criteria.where("userId").is(userId);
+		if (from != null || to != null) {
+			Criteria createdAt = Criteria.where("createdAt");
+			if (from != null) createdAt = createdAt.gte(from.atStartOfDay());
+			if (to != null) createdAt = createdAt.lt(to.plusDays(1).atStartOfDay());
+			criteria = criteria.andOperator(createdAt);
+		}
+
+		Query query = Query.query(criteria)
+			.with(Sort.by(Sort.Direction.ASC, "createdAt"))
+			.cursorBatchSize(CURSOR_BATCH_SIZE);
+
+		TrackExportWriter writer = writers.get(format);
+		int exportedCount = 0;
+
+		ZipOutputStream zip = new ZipOutputStream(out);
+		try (Stream<RunningSession> sessions = mongoTemplate.stream(query, RunningSession.class)) {
+			for (RunningSession session : (Iterable<RunningSession>) sessions::iterator) {
+				zip.putNextEntry(new ZipEntry(session.getSessionKey() + "." + format.extension()));
+				writer.write(session, trackOf(session), new NonClosingOutputStream(zip));
+				zip.closeEntry();
+				exportedCount++;
+			}
+		}
+		zip.finish();
+		zip.flush();
+
+		log.info("러닝 세션 일괄 내보내기 완료 - 사용자: {}, 포맷: {}, 세션 수: {}", userId, format, exportedCount);
+	}
+
+	private RunningTrack trackOf(RunningSession session) {
+		// 종료된 세션은 압축 레이아웃(보관된 경우 복원), 진행 중인 세션은 원본 Feature에서 변환
+		archiveService.rehydrate(session);
+		return session.getTrack() != null ?
+			session.getTrack() :
+			RunningTrack.fromFeatureMaps(session.getGeoDataFeatures());
+	}
+
+	/**
+	 * writer가 ZIP 스트림을 닫지 않도록 보호
+	 */
+	private static class NonClosingOutputStream extends FilterOutputStream {
+		NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+}
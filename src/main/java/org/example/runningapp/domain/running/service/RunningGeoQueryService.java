@@ -0,0 +1,102 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.domain.running.dto.RunningSessionLocationResponse;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 위치 기반 세션 검색 - startPoint/routeBounds의 2dsphere 인덱스 사용
+ * - 결과에는 좌표 배열(geoDataFeatures/track)을 포함하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RunningGeoQueryService {
+
+	private static final double MAX_RADIUS_METERS = 50_000.0;
+	private static final int MAX_LIMIT = 100;
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * 지정 위치 근처에서 시작한 세션 (가까운 순)
+	 */
+	public List<RunningSessionLocationResponse> findStartedNear(Long userId, double longitude, double latitude,
+		double radiusMeters, int limit) {
+		validateUser(userId);
+		validatePoint(longitude, latitude);
+
+		if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+			throw new IllegalArgumentException("검색 반경은 0-50000m 사이여야 합니다");
+		}
+		validateLimit(limit);
+
+		Query query = Query.query(Criteria.where("userId").is(userId)
+				.and("startPoint").nearSphere(new GeoJsonPoint(longitude, latitude)).maxDistance(radiusMeters))
+			.limit(limit);
+
+		return find(query, userId);
+	}
+
+	/**
+	 * 지정 영역을 지나는 세션 (종료된 세션만 routeBounds 보유)
+	 */
+	public List<RunningSessionLocationResponse> findIntersecting(Long userId, double minLon, double minLat,
+		double maxLon, double maxLat, int limit) {
+		validateUser(userId);
+		validatePoint(minLon, minLat);
+		validatePoint(maxLon, maxLat);
+
+		if (minLon > maxLon || minLat > maxLat) {
+			throw new IllegalArgumentException("검색 영역의 최소값은 최대값보다 클 수 없습니다");
+		}
+		validateLimit(limit);
+
+		Query query = Query.query(Criteria.where("userId").is(userId)
+				.and("routeBounds").intersects(GeoUtils.boundingPolygon(minLon, minLat, maxLon, maxLat)))
+			.limit(limit);
+
+		return find(query, userId);
+	}
+
+	private List<RunningSessionLocationResponse> find(Query query, Long userId) {
+		query.fields().include("sessionKey", "sessionNum", "status", "createdAt", "startPoint", "summary");
+
+		try {
+			return mongoTemplate.find(query, RunningSession.class).stream()
+				.map(RunningSessionLocationResponse::from)
+				.toList();
+		} catch (Exception e) {
+			log.error("위치 기반 세션 검색 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("위치 기반 세션 검색 중 오류가 발생했습니다", e);
+		}
+	}
+
+	private void validateUser(Long userId) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+	}
+
+	private void validatePoint(double longitude, double latitude) {
+		if (longitude < -180.0 || longitude > 180.0 || latitude < -90.0 || latitude > 90.0) {
+			throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다");
+		}
+	}
+
+	private void validateLimit(int limit) {
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("조회 개수는 1-100 사이여야 합니다");
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.entity.TrackArchive;
+import org.example.runningapp.domain.running.entity.TrackRetentionLevel;
+import org.example.runningapp.domain.running.util.TrackDownsampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 오래된 세션 트랙의 해상도 축소 (보존 정책)
+ * - 종료 후 downsampleAfterDays: 좌표를 downsampleIntervalMs 간격으로 축소
+ * - 종료 후 routeOnlyAfterDays: 단순화 경로에 남는 좌표만 유지
+ * - 요약/스플릿/랩/존 통계는 종료 시 원본 기준으로 저장된 값을 그대로 유지
+ * - 콜드 스토리지로 옮겨진 세션은 보관 파일을 축소본으로 교체
+ * - 한 번 실행에 batchSize 세션까지만, 세션 사이 pauseMs 휴식 (실시간 수신 부하 보호)
+ */
+@Slf4j
+@Service
+public class RunningRetentionService {
+
+	private final MongoTemplate mongoTemplate;
+	private final RunningArchiveService archiveService;
+	private final long downsampleAfterDays;
+	private final long downsampleIntervalMs;
+	private final long routeOnlyAfterDays;
+	private final double routeToleranceMeters;
+	private final int batchSize;
+	private final long pauseMs;
+
+	public RunningRetentionService(
+		MongoTemplate mongoTemplate,
+		RunningArchiveService archiveService,
+		@Value("${app.running.retention.downsample-after-days:90}") long downsampleAfterDays,
+		@Value("${app.running.retention.downsample-interval-ms:5000}") long downsampleIntervalMs,
+		@Value("${app.running.retention.route-only-after-days:365}") long routeOnlyAfterDays,
+		@Value("${app.running.finalize.route-tolerance-m:5.0}") double routeToleranceMeters,
+		@Value("${app.running.retention.batch-size:20}") int batchSize,
+		@Value("${app.running.retention.pause-ms:200}") long pauseMs) {
+		this.mongoTemplate = mongoTemplate;
+		this.archiveService = archiveService;
+		this.downsampleAfterDays = downsampleAfterDays;
+		this.downsampleIntervalMs = downsampleIntervalMs;
+		this.routeOnlyAfterDays = routeOnlyAfterDays;
+		this.routeToleranceMeters = routeToleranceMeters;
+		this.batchSize = batchSize;
+		this.pauseMs = pauseMs;
+	}
+
+	@Scheduled(fixedDelayString = "${app.running.retention.scan-interval-ms:3600000}")
+	public void applyRetention() {
+		// 오래된 단계부터 처리 - 1년 지난 세션이 5초 축소를 거쳐 다시 처리되지 않도록
+		int budget = batchSize;
+		budget -= applyLevel(TrackRetentionLevel.ROUTE_ONLY, routeOnlyAfterDays, budget);
+		if (budget > 0) {
+			applyLevel(TrackRetentionLevel.DOWNSAMPLED, downsampleAfterDays, budget);
+		}
+	}
+
+	/**
+	 * @return 처리 시도한 세션 수
+	 */
+	private int applyLevel(TrackRetentionLevel level, long afterDays, int limit) {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+
+		List<RunningSession> candidates;
+		try {
+			Query query = Query.query(Criteria.where("status").is(RunningSessionStatus.FINALIZED)
+					.and("finalizedAt").lt(cutoff)
+					.and("retentionLevel").nin(levelsAtLeast(level))
+					.orOperator(Criteria.where("track").ne(null), Criteria.where("archive").ne(null)))
+				.limit(limit);
+			query.fields().include("userId", "sessionKey", "track", "archive", "retentionLevel");
+			candidates = mongoTemplate.find(query, RunningSession.class);
+		} catch (Exception e) {
+			log.error("보존 정책 대상 세션 조회 실패 - 단계: {}, 오류: {}", level, e.getMessage());
+			return limit;
+		}
+
+		if (candidates.isEmpty()) {
+			return 0;
+		}
+
+		int appliedCount = 0;
+		long removedPoints = 0;
+		for (RunningSession session : candidates) {
+			try {
+				int before = apply(session, level);
+				if (before >= 0) {
+					appliedCount++;
+					removedPoints += before;
+				}
+			} catch (Exception e) {
+				log.error("보존 정책 적용 실패 - sessionKey: {}, 단계: {}, 오류: {}",
+					session.getSessionKey(), level, e.getMessage());
+			}
+
+			if (!pause()) {
+				break;
+			}
+		}
+
+		log.info("보존 정책 적용 - 단계: {}, 대상: {}, 적용: {}, 제거 좌표 수: {}",
+			level, candidates.size(), appliedCount, removedPoints);
+		return candidates.size();
+	}
+
+	/**
+	 * @return 제거된 좌표 수, 다른 작업과 경합하여 반영되지 않은 경우 -1
+	 */
+	private int apply(RunningSession session, TrackRetentionLevel level) throws Exception {
+		TrackArchive archive = session.getArchive();
+		RunningTrack track = archiveService.rehydrate(session).getTrack();
+
+		RunningTrack reduced = level == TrackRetentionLevel.ROUTE_ONLY ?
+			TrackDownsampler.toRoute(track, routeToleranceMeters) :
+			TrackDownsampler.byInterval(track, downsampleIntervalMs);
+
+		// 같은 세션에 대해 보관/다른 인스턴스의 보존 처리와 겹치지 않도록 읽은 상태 그대로일 때만 반영
+		Criteria criteria = Criteria.where("_id").is(session.getId())
+			.and("retentionLevel").is(session.getRetentionLevel());
+		Update update = new Update().set("retentionLevel", level);
+
+		if (archive != null) {
+			criteria = criteria.and("archive.blobKey").is(archive.getBlobKey());
+			update.set("archive", archiveService.rewrite(archive, reduced));
+		} else {
+			criteria = criteria.and("archive").exists(false);
+			update.set("track", reduced);
+		}
+
+		boolean applied = mongoTemplate.updateFirst(Query.query(criteria), update, RunningSession.class)
+			.getModifiedCount() > 0;
+		return applied ? track.pointCount() - reduced.pointCount() : -1;
+	}
+
+	private static List<TrackRetentionLevel> levelsAtLeast(TrackRetentionLevel level) {
+		TrackRetentionLevel[] levels = TrackRetentionLevel.values();
+		return Arrays.asList(levels).subList(level.ordinal(), levels.length);
+	}
+
+	private boolean pause() {
+		if (pauseMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(pauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.exception.RunningSessionNotFoundException;
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.domain.running.dto.RunningSessionFinalizeResponse;
+import org.example.runningapp.domain.running.dto.RunningSessionSummary;
+import org.example.runningapp.domain.running.dto.RunningSplit;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.RunningSessionStatus;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.running.repository.RunningSessionRepository;
+import org.example.runningapp.domain.running.util.RouteSimplifier;
+import org.example.runningapp.domain.running.util.SplitCalculator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import com.mongodb.client.result.UpdateResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 러닝 세션 종료 처리
+ * - 누적된 geoDataFeatures를 컬럼 레이아웃(RunningTrack)으로 압축
+ * - 최종 요약/스플릿/단순화 경로를 사전 계산하여 헤더에 저장
+ *   (수신 중 증분 계산된 스플릿은 시간순 정렬된 전체 트랙 기준으로 다시 계산하여 대체)
+ * - 이후 세션은 FINALIZED 상태로 더 이상 $push 되지 않음
+ */
+@Slf4j
+@Service
+public class RunningSessionFinalizer {
+
+	private final RunningSessionRepository repository;
+	private final MongoTemplate mongoTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final double routeToleranceMeters;
+
+	public RunningSessionFinalizer(
+		RunningSessionRepository repository,
+		MongoTemplate mongoTemplate,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${app.running.finalize.route-tolerance-m:5.0}") double routeToleranceMeters) {
+		this.repository = repository;
+		this.mongoTemplate = mongoTemplate;
+		this.eventPublisher = eventPublisher;
+		this.routeToleranceMeters = routeToleranceMeters;
+	}
+
+	/**
+	 * 사용자 요청에 의한 세션 종료 (이미 종료된 경우 저장된 결과 반환)
+	 */
+	public RunningSessionFinalizeResponse finalizeSession(Long userId, String sessionKey) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		if (sessionKey == null || sessionKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("세션 키는 필수입니다");
+		}
+
+		RunningSession session = findSession(userId, sessionKey);
+
+		if (!session.isFinalized() && !finalizeLoaded(session)) {
+			// 종료 계산 도중 새 청크가 추가된 경우 최신 상태로 한 번 더 시도
+			session = findSession(userId, sessionKey);
+			if (!session.isFinalized() && !finalizeLoaded(session)) {
+				throw new ExternalServiceException("러닝 세션 종료 처리 중 데이터가 변경되었습니다. 다시 시도해주세요");
+			}
+		}
+
+		return RunningSessionFinalizeResponse.from(findSession(userId, sessionKey));
+	}
+
+	/**
+	 * 이미 로드된 세션을 종료 처리
+	 *
+	 * @return 종료에 성공하면 true, 그 사이 다른 청크가 추가되었거나 이미 종료된 경우 false
+	 */
+	public boolean finalizeLoaded(RunningSession session) {
+		List<Map<String, Object>> features = session.getGeoDataFeatures() != null ?
+			new ArrayList<>(session.getGeoDataFeatures()) : new ArrayList<>();
+		int featureCount = features.size();
+
+		// 재전송 등으로 순서가 섞인 청크를 시간순으로 정렬
+		features.sort(Comparator.comparingLong(RunningSessionFinalizer::timestampStartOf));
+
+		RunningTrack track = RunningTrack.fromFeatureMaps(features);
+		double[] distances = track.cumulativeDistances();
+		double totalDistance = distances.length > 0 ? distances[distances.length - 1] : 0.0;
+
+		RunningSessionSummary summary = RunningSessionSummary.fromTrack(track, totalDistance);
+		long[] times = track.pointTimes();
+		List<RunningSplit> splits = SplitCalculator.calculate(times, distances, SplitCalculator.KM_SPLIT_METERS);
+		List<RunningSplit> laps = session.getProgress() != null && session.getProgress().getLaps() != null ?
+			SplitCalculator.calculate(times, distances, session.getProgress().getLaps().getSplitDistanceMeters()) :
+			null;
+		List<List<Double>> route = RouteSimplifier.simplify(
+			track.getLongitudes(), track.getLatitudes(), routeToleranceMeters);
+
+		// 계산 중 새 청크가 들어오지 않았을 때만 반영 (낙관적 동시성 제어)
+		Query query = Query.query(Criteria.where("_id").is(session.getId())
+			.and("status").ne(RunningSessionStatus.FINALIZED)
+			.and("geoDataFeatures").size(featureCount));
+
+		Update update = new Update()
+			.set("status", RunningSessionStatus.FINALIZED)
+			.set("finalizedAt", LocalDateTime.now())
+			.set("summary", summary)
+			.set("splits", splits)
+			.set("laps", laps)
+			.set("simplifiedRoute", route)
+			.set("track", track)
+			.set("startPoint", track.pointCount() > 0 ?
+				new GeoJsonPoint(track.getLongitudes().get(0), track.getLatitudes().get(0)) : null)
+			.set("routeBounds", GeoUtils.boundingPolygon(track.getLongitudes(), track.getLatitudes()))
+			.set("geoDataFeatures", List.of());
+
+		try {
+			UpdateResult result = mongoTemplate.updateFirst(query, update, RunningSession.class);
+			boolean finalized = result.getModifiedCount() > 0;
+
+			if (finalized) {
+				log.info("러닝 세션 종료 완료 - sessionKey: {}, Feature 수: {}, 좌표 수: {}, 거리(m): {}",
+					session.getSessionKey(), featureCount, track.pointCount(), Math.round(totalDistance));
+				eventPublisher.publishEvent(new RunningSessionFinalizedEvent(
+					session.getUserId(), session.getSessionKey(), summary, track, session.getLastChunkAt() != null));
+			}
+			return finalized;
+
+		} catch (Exception e) {
+			log.error("러닝 세션 종료 실패 - sessionKey: {}, 오류: {}", session.getSessionKey(), e.getMessage());
+			throw new ExternalServiceException("러닝 세션 종료 처리 중 오류가 발생했습니다", e);
+		}
+	}
+
+	private RunningSession findSession(Long userId, String sessionKey) {
+		return repository.findByUserIdAndSessionKey(userId, sessionKey)
+			.orElseThrow(() -> new RunningSessionNotFoundException(
+				String.format("세션을 찾을 수 없습니다. sessionKey: %s", sessionKey)
+			));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static long timestampStartOf(Map<String, Object> feature) {
+		Map<String, Object> props = (Map<String, Object>) feature.get("properties");
+		Object value = props != null ? props.get("timestampStart") : null;
+		return value instanceof Number n ? n.longValue() : 0L;
+	}
+}
@@ -0,0 +1,120 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.exception.RunningSessionNotFoundException;
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.config.scheduling.AsyncConfig;
+import org.example.runningapp.domain.running.dto.RunningSessionSummary;
+import org.example.runningapp.domain.running.dto.SimilarRunResponse;
+import org.example.runningapp.domain.running.entity.RouteFingerprint;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.running.util.MinHash;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유사 경로 검색 (MinHash + LSH)
+ * - 세션 종료 시 경로 지문 저장
+ * - 조회 시 밴드 키가 하나라도 같은 세션만 후보로 가져와 서명 비교 → 전체 기록 수와 무관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarRouteService {
+
+	private static final int CELL_PRECISION = 7;          // 약 153m x 153m
+	private static final double MIN_SIMILARITY = 0.5;
+	private static final int MAX_CANDIDATES = 500;
+	private static final int MAX_LIMIT = 50;
+
+	private final MongoTemplate mongoTemplate;
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onSessionFinalized(RunningSessionFinalizedEvent event) {
+		RunningTrack track = event.track();
+		if (track == null || track.pointCount() < 2) {
+			return;
+		}
+
+		try {
+			Set<String> cells = Geohash.cellsOf(track.getLongitudes(), track.getLatitudes(), CELL_PRECISION);
+			long[] signature = MinHash.signature(cells);
+			RunningSessionSummary summary = event.summary();
+
+			RouteFingerprint fingerprint = RouteFingerprint.builder()
+				.sessionKey(event.sessionKey())
+				.userId(event.userId())
+				.signature(signature)
+				.bandKeys(MinHash.bandKeys(signature))
+				.cellCount(cells.size())
+				.sessionStartTime(summary != null ? summary.sessionStartTime() : null)
+				.durationSeconds(summary != null ? summary.durationSeconds() : null)
+				.totalDistanceKm(summary != null ? summary.totalDistanceKm() : null)
+				.createdAt(LocalDateTime.now())
+				.build();
+
+			mongoTemplate.save(fingerprint);
+
+		} catch (Exception e) {
+			log.error("경로 지문 저장 실패 - sessionKey: {}, 오류: {}", event.sessionKey(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 같은 경로를 달린 내 이전 세션 (유사도 높은 순)
+	 */
+	public List<SimilarRunResponse> findSimilarRuns(Long userId, String sessionKey, int limit) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("조회 개수는 1-50 사이여야 합니다");
+		}
+
+		RouteFingerprint target;
+		List<RouteFingerprint> candidates;
+		try {
+			target = mongoTemplate.findOne(Query.query(Criteria.where("_id").is(sessionKey).and("userId").is(userId)),
+				RouteFingerprint.class);
+
+			if (target == null) {
+				throw new RunningSessionNotFoundException(
+					String.format("경로 정보가 없는 세션입니다 (종료된 세션만 비교 가능). sessionKey: %s", sessionKey));
+			}
+
+			Query candidateQuery = Query.query(Criteria.where("userId").is(userId)
+					.and("bandKeys").in(target.getBandKeys())
+					.and("_id").ne(sessionKey))
+				.limit(MAX_CANDIDATES);
+			candidates = mongoTemplate.find(candidateQuery, RouteFingerprint.class);
+
+		} catch (RunningSessionNotFoundException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("유사 경로 조회 실패 - sessionKey: {}, 오류: {}", sessionKey, e.getMessage());
+			throw new ExternalServiceException("유사 경로를 가져오는 중 오류가 발생했습니다", e);
+		}
+
+		return candidates.stream()
+			.map(candidate -> SimilarRunResponse.of(candidate,
+				MinHash.similarity(target.getSignature(), candidate.getSignature())))
+			.filter(response -> response.similarity() >= MIN_SIMILARITY)
+			.sorted(Comparator.comparingDouble(SimilarRunResponse::similarity).reversed())
+			.limit(limit)
+			.toList();
+	}
+}
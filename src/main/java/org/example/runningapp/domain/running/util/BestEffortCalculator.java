@@ -0,0 +1,74 @@
+package org.example.runningapp.domain.running.util;
+
+public final class BestEffortCalculator {
+
+	private BestEffortCalculator() {
+	}
+
+	/**
+	 * 목표 거리별 최단 구간 기록
+	 *
+	 * @param distanceMeters 목표 거리
+	 * @param durationMs     최단 소요 시간
+	 * @param startTime      해당 구간 시작 시각(ms)
+	 */
+	public record BestEffort(double distanceMeters, long durationMs, long startTime) {
+	}
+
+	/**
+	 * 누적 거리/시간 배열에서 목표 거리별 최단 구간 계산 (two-pointer 슬라이딩 윈도우)
+	 * - 시작점 i가 증가하면 목표 도달 지점 j도 단조 증가 → 목표 거리당 O(n)
+	 * - 종료 시각은 목표 거리 지점에서 선형 보간
+	 *
+	 * @return targets와 같은 순서의 결과, 세션 거리가 목표보다 짧으면 null
+	 */
+	public static BestEffort[] calculate(long[] times, double[] cumulativeDistances, double[] targets) {
+		BestEffort[] result = new BestEffort[targets.length];
+		int n = times.length;
+		if (n < 2) {
+			return result;
+		}
+
+		double totalDistance = cumulativeDistances[n - 1];
+
+		for (int t = 0; t < targets.length; t++) {
+			double target = targets[t];
+			if (target <= 0 || target > totalDistance) {
+				continue;
+			}
+
+			long bestDuration = Long.MAX_VALUE;
+			long bestStart = 0L;
+			int j = 1;
+
+			for (int i = 0; i < n - 1; i++) {
+				double needed = cumulativeDistances[i] + target;
+				if (needed > totalDistance) {
+					break;
+				}
+
+				if (j <= i) {
+					j = i + 1;
+				}
+				while (cumulativeDistances[j] < needed) {
+					j++;
+				}
+
+				double segment = cumulativeDistances[j] - cumulativeDistances[j - 1];
+				double ratio = segment > 0 ? (needed - cumulativeDistances[j - 1]) / segment : 1.0;
+				long endTime = times[j - 1] + Math.round((times[j] - times[j - 1]) * ratio);
+				long duration = endTime - times[i];
+
+				if (duration > 0 && duration < bestDuration) {
+					bestDuration = duration;
+					bestStart = times[i];
+				}
+			}
+
+			if (bestDuration != Long.MAX_VALUE) {
+				result[t] = new BestEffort(target, bestDuration, bestStart);
+			}
+		}
+		return result;
+	}
+}
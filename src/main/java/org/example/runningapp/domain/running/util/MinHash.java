@@ -0,0 +1,95 @@
+package org.example.runningapp.domain.running.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 경로 셀 집합의 MinHash 서명과 LSH 밴드 키
+ * - 서명 일치 비율 ≈ 두 집합의 Jaccard 유사도
+ * - 16 밴드 x 4 행: 유사도 0.5 부근부터 후보가 될 확률이 급격히 높아짐 ((1/16)^(1/4))
+ * - 해시 시드는 고정값 → 저장된 서명끼리 항상 비교 가능 (변경 시 기존 서명 재계산 필요)
+ */
+public final class MinHash {
+
+	public static final int NUM_HASHES = 64;
+	public static final int BANDS = 16;
+	public static final int ROWS = NUM_HASHES / BANDS;
+
+	private static final long[] SEEDS = new long[NUM_HASHES];
+
+	static {
+		SplittableRandom random = new SplittableRandom(0x52554e4e455253L);
+		for (int i = 0; i < NUM_HASHES; i++) {
+			SEEDS[i] = random.nextLong();
+		}
+	}
+
+	private MinHash() {
+	}
+
+	public static long[] signature(Collection<String> elements) {
+		long[] signature = new long[NUM_HASHES];
+		java.util.Arrays.fill(signature, Long.MAX_VALUE);
+
+		for (String element : elements) {
+			long base = fnv1a64(element);
+			for (int i = 0; i < NUM_HASHES; i++) {
+				long hash = mix64(base ^ SEEDS[i]);
+				if (hash < signature[i]) {
+					signature[i] = hash;
+				}
+			}
+		}
+		return signature;
+	}
+
+	/**
+	 * 밴드별 키 "밴드번호:해시" - 하나라도 같으면 유사 후보
+	 */
+	public static List<String> bandKeys(long[] signature) {
+		List<String> keys = new ArrayList<>(BANDS);
+		for (int band = 0; band < BANDS; band++) {
+			long hash = band;
+			for (int row = 0; row < ROWS; row++) {
+				hash = mix64(hash * 31 + signature[band * ROWS + row]);
+			}
+			keys.add(band + ":" + Long.toHexString(hash));
+		}
+		return keys;
+	}
+
+	/**
+	 * 추정 Jaccard 유사도 (0~1)
+	 */
+	public static double similarity(long[] a, long[] b) {
+		if (a == null || b == null || a.length != b.length) {
+			return 0.0;
+		}
+		int matches = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] == b[i]) {
+				matches++;
+			}
+		}
+		return (double) matches / a.length;
+	}
+
+	private static long fnv1a64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// SplitMix64 finalizer
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,94 @@
+package org.example.runningapp.domain.running.util;
+
+import org.example.runningapp.common.util.GeoUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+public final class RouteSimplifier {
+
+	private RouteSimplifier() {
+	}
+
+	/**
+	 * Douglas-Peucker 경로 단순화
+	 * - 긴 트랙에서도 스택 오버플로우가 없도록 반복문으로 구현
+	 * - 허용 오차는 미터 단위 (첫 좌표 위도 기준 평면 근사)
+	 *
+	 * @return [[경도, 위도], ...]
+	 */
+	public static List<List<Double>> simplify(List<Double> longitudes, List<Double> latitudes, double toleranceMeters) {
+		boolean[] keep = keepMask(longitudes, latitudes, toleranceMeters);
+
+		List<List<Double>> result = new ArrayList<>();
+		for (int i = 0; i < keep.length; i++) {
+			if (keep[i]) {
+				result.add(List.of(longitudes.get(i), latitudes.get(i)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 단순화 결과에 남는 좌표 표시 (원본 좌표의 부분집합이므로 다른 컬럼을 함께 걸러낼 때 사용)
+	 */
+	public static boolean[] keepMask(List<Double> longitudes, List<Double> latitudes, double toleranceMeters) {
+		int n = longitudes.size();
+		boolean[] keep = new boolean[n];
+		if (n <= 2) {
+			Arrays.fill(keep, true);
+			return keep;
+		}
+
+		double kx = GeoUtils.metersPerDegreeLon(latitudes.get(0));
+		double ky = GeoUtils.metersPerDegreeLat();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = longitudes.get(i) * kx;
+			ys[i] = latitudes.get(i) * ky;
+		}
+
+		keep[0] = true;
+		keep[n - 1] = true;
+		double toleranceSq = toleranceMeters * toleranceMeters;
+
+		Deque<int[]> stack = new ArrayDeque<>();
+		stack.push(new int[] {0, n - 1});
+		while (!stack.isEmpty()) {
+			int[] range = stack.pop();
+			int first = range[0];
+			int last = range[1];
+
+			double maxDistSq = -1;
+			int index = -1;
+			for (int i = first + 1; i < last; i++) {
+				double distSq = segmentDistanceSq(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+				if (distSq > maxDistSq) {
+					maxDistSq = distSq;
+					index = i;
+				}
+			}
+
+			if (index != -1 && maxDistSq > toleranceSq) {
+				keep[index] = true;
+				stack.push(new int[] {first, index});
+				stack.push(new int[] {index, last});
+			}
+		}
+		return keep;
+	}
+
+	private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSq = dx * dx + dy * dy;
+		double t = lengthSq == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSq));
+		double cx = ax + t * dx - px;
+		double cy = ay + t * dy - py;
+		return cx * cx + cy * cy;
+	}
+}
@@ -0,0 +1,51 @@
+package org.example.runningapp.domain.running.util;
+
+import org.example.runningapp.domain.running.dto.RunningSplit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SplitCalculator {
+
+	public static final double KM_SPLIT_METERS = 1000.0;
+
+	private SplitCalculator() {
+	}
+
+	/**
+	 * 누적 거리/시간 배열로 일정 거리 단위 스플릿 계산
+	 * - 경계 통과 시각은 두 좌표 사이에서 선형 보간
+	 * - 마지막 미완성 구간도 포함
+	 */
+	public static List<RunningSplit> calculate(long[] times, double[] cumulativeDistances, double splitDistanceMeters) {
+		List<RunningSplit> splits = new ArrayList<>();
+		if (times.length < 2 || splitDistanceMeters <= 0) {
+			return splits;
+		}
+
+		long sessionStart = times[0];
+		long splitStartTime = times[0];
+		double nextBoundary = splitDistanceMeters;
+
+		for (int i = 1; i < times.length; i++) {
+			while (cumulativeDistances[i] >= nextBoundary) {
+				double segment = cumulativeDistances[i] - cumulativeDistances[i - 1];
+				double ratio = segment > 0 ? (nextBoundary - cumulativeDistances[i - 1]) / segment : 1.0;
+				long crossTime = times[i - 1] + Math.round((times[i] - times[i - 1]) * ratio);
+
+				splits.add(RunningSplit.of(splits.size() + 1, splitDistanceMeters,
+					crossTime - splitStartTime, crossTime - sessionStart));
+				splitStartTime = crossTime;
+				nextBoundary += splitDistanceMeters;
+			}
+		}
+
+		int last = times.length - 1;
+		double remaining = cumulativeDistances[last] - (nextBoundary - splitDistanceMeters);
+		if (remaining > 0) {
+			splits.add(RunningSplit.of(splits.size() + 1, remaining,
+				times[last] - splitStartTime, times[last] - sessionStart));
+		}
+		return splits;
+	}
+}
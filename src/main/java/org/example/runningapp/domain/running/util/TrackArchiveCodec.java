@@ -0,0 +1,42 @@
+package org.example.runningapp.domain.running.util;
+
+import java.io.IOException;
+
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.Zstd;
+
+/**
+ * 보관용 트랙 인코딩 - 컬럼 레이아웃(RunningTrack)을 Smile로 직렬화한 뒤 zstd 압축
+ * - 컬럼 배열은 같은 타입 값이 연속되어 zstd 압축률이 높음
+ * - zstd 프레임에 원본 크기가 기록되므로 별도 헤더 없이 복원 가능
+ */
+public final class TrackArchiveCodec {
+
+	public static final String FORMAT = "smile+zstd/1";
+
+	private static final int COMPRESSION_LEVEL = 9;
+	private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+	private TrackArchiveCodec() {
+	}
+
+	public static byte[] encodeRaw(RunningTrack track) throws IOException {
+		return SMILE_MAPPER.writeValueAsBytes(track);
+	}
+
+	public static byte[] compress(byte[] raw) {
+		return Zstd.compress(raw, COMPRESSION_LEVEL);
+	}
+
+	public static RunningTrack decode(byte[] compressed) throws IOException {
+		long rawSize = Zstd.decompressedSize(compressed);
+		if (rawSize <= 0 || rawSize > Integer.MAX_VALUE) {
+			throw new IOException("보관 트랙의 원본 크기를 확인할 수 없습니다");
+		}
+		byte[] raw = Zstd.decompress(compressed, (int) rawSize);
+		return SMILE_MAPPER.readValue(raw, RunningTrack.class);
+	}
+}
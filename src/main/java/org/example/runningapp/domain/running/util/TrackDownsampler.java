@@ -0,0 +1,68 @@
+package org.example.runningapp.domain.running.util;
+
+import org.example.runningapp.domain.running.entity.RunningTrack;
+
+import java.util.ArrayList;
+
+/**
+ * 오래된 트랙의 좌표 축소
+ * - 구간(feature) 단위 측정값(심박/페이스/고도 등)은 10초 집계값이므로 그대로 유지하고 좌표만 걸러냄
+ * - 첫/마지막 좌표는 항상 유지 (시작점/경로 범위가 바뀌지 않도록)
+ * - 세션 요약/스플릿은 종료 시 원본 기준으로 저장된 값을 그대로 사용하므로 영향 없음
+ */
+public final class TrackDownsampler {
+
+	private TrackDownsampler() {
+	}
+
+	/**
+	 * 좌표 시각 기준으로 intervalMs마다 하나씩만 유지
+	 */
+	public static RunningTrack byInterval(RunningTrack track, long intervalMs) {
+		long[] times = track.pointTimes();
+		boolean[] keep = new boolean[times.length];
+
+		long lastKept = Long.MIN_VALUE;
+		for (int i = 0; i < times.length; i++) {
+			if (i == 0 || i == times.length - 1 || times[i] - lastKept >= intervalMs) {
+				keep[i] = true;
+				lastKept = times[i];
+			}
+		}
+		return retain(track, keep);
+	}
+
+	/**
+	 * Douglas-Peucker 단순화 경로에 남는 좌표만 유지 (세션의 simplifiedRoute와 같은 좌표)
+	 */
+	public static RunningTrack toRoute(RunningTrack track, double toleranceMeters) {
+		return retain(track, RouteSimplifier.keepMask(track.getLongitudes(), track.getLatitudes(), toleranceMeters));
+	}
+
+	static RunningTrack retain(RunningTrack source, boolean[] keep) {
+		RunningTrack result = new RunningTrack();
+		result.setTimestampStart(new ArrayList<>(source.getTimestampStart()));
+		result.setTimestampEnd(new ArrayList<>(source.getTimestampEnd()));
+		result.setHeight(new ArrayList<>(source.getHeight()));
+		result.setBpm(new ArrayList<>(source.getBpm()));
+		result.setPace(new ArrayList<>(source.getPace()));
+		result.setPower(new ArrayList<>(source.getPower()));
+		result.setCadence(new ArrayList<>(source.getCadence()));
+		result.setMinVerticalAmplitude(new ArrayList<>(source.getMinVerticalAmplitude()));
+		result.setMaxVerticalAmplitude(new ArrayList<>(source.getMaxVerticalAmplitude()));
+		result.setMinGct(new ArrayList<>(source.getMinGct()));
+		result.setMaxGct(new ArrayList<>(source.getMaxGct()));
+		result.setStride(new ArrayList<>(source.getStride()));
+
+		for (int f = 0; f < source.featureCount(); f++) {
+			for (int p = source.pointStart(f); p < source.pointEnd(f); p++) {
+				if (keep[p]) {
+					result.getLongitudes().add(source.getLongitudes().get(p));
+					result.getLatitudes().add(source.getLatitudes().get(p));
+				}
+			}
+			result.getCoordinateOffsets().add(result.pointCount());
+		}
+		return result;
+	}
+}
@@ -0,0 +1,65 @@
+package org.example.runningapp.domain.segment.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.segment.dto.SegmentCreateRequest;
+import org.example.runningapp.domain.segment.dto.SegmentEffortResponse;
+import org.example.runningapp.domain.segment.dto.SegmentResponse;
+import org.example.runningapp.domain.segment.service.SegmentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/segments")
+@RequiredArgsConstructor
+public class SegmentController {
+
+	private final SegmentService segmentService;
+
+	/**
+	 * 세그먼트 생성 - 이후 종료되는 세션부터 자동으로 통과 여부 확인
+	 */
+	@PostMapping
+	public ResponseEntity<SegmentResponse> createSegment(
+		@Valid @RequestBody SegmentCreateRequest request,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		log.info("세그먼트 생성 - 사용자: {}, 이름: {}", currentUser.getId(), request.name());
+		return ResponseEntity.ok(segmentService.createSegment(currentUser.getId(), request));
+	}
+
+	@GetMapping("/{segmentId}")
+	public ResponseEntity<SegmentResponse> getSegment(@PathVariable String segmentId) {
+		return ResponseEntity.ok(segmentService.getSegment(segmentId));
+	}
+
+	/**
+	 * 내 통과 기록 (빠른 순)
+	 */
+	@GetMapping("/{segmentId}/efforts/me")
+	public ResponseEntity<List<SegmentEffortResponse>> getMyEfforts(
+		@PathVariable String segmentId,
+		@RequestParam(defaultValue = "10") int limit,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(segmentService.getMyEfforts(currentUser.getId(), segmentId, limit));
+	}
+
+	/**
+	 * 사용자별 최고 기록 순위
+	 */
+	@GetMapping("/{segmentId}/leaderboard")
+	public ResponseEntity<List<SegmentEffortResponse>> getLeaderboard(
+		@PathVariable String segmentId,
+		@RequestParam(defaultValue = "10") int limit) {
+
+		return ResponseEntity.ok(segmentService.getLeaderboard(segmentId, limit));
+	}
+}
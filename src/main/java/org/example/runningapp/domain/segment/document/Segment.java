@@ -0,0 +1,38 @@
+package org.example.runningapp.domain.segment.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 정의 구간 (Strava 세그먼트)
+ * - startCells/endCells: 시작/끝 좌표의 geohash 셀 + 인접 8셀 (multikey 인덱스, MongoIndexConfig)
+ * - 트랙이 지나간 셀과 $in 비교로 후보 세그먼트만 조회
+ */
+@Document(collection = "segments")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Segment {
+
+	@Id
+	private String id;
+
+	private String name;
+	private Long creatorId;
+
+	private List<List<Double>> points;     // 단순화된 경로 [[경도, 위도], ...]
+	private double distanceMeters;
+
+	private List<String> startCells;
+	private List<String> endCells;
+
+	private LocalDateTime createdAt;
+}
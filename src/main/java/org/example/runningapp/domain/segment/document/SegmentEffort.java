@@ -0,0 +1,34 @@
+package org.example.runningapp.domain.segment.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세그먼트 통과 기록 (세션당 세그먼트별 최고 기록 1건)
+ * - 인덱스는 MongoIndexConfig에서 생성 (세그먼트 순위, 내 기록, 탈퇴 정리)
+ */
+@Document(collection = "segment_efforts")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentEffort {
+
+	@Id
+	private String id;
+
+	private String segmentId;
+	private Long userId;
+	private String sessionKey;
+
+	private long elapsedMs;
+	private long startTime;        // 세그먼트 시작 시각(ms)
+
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package org.example.runningapp.domain.segment.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record SegmentCreateRequest(
+	@NotBlank(message = "세그먼트 이름은 필수입니다.")
+	@Size(max = 50, message = "세그먼트 이름은 50자 이하여야 합니다.")
+	String name,
+
+	@NotNull(message = "세그먼트 경로는 필수입니다.")
+	@Size(min = 2, max = 5000, message = "세그먼트 경로는 2-5000개 좌표여야 합니다.")
+	List<List<Double>> points     // [[경도, 위도], ...]
+) {
+}
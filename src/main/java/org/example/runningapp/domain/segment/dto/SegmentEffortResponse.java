@@ -0,0 +1,29 @@
+package org.example.runningapp.domain.segment.dto;
+
+import java.time.LocalDateTime;
+
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+
+public record SegmentEffortResponse(
+	Integer rank,                // 리더보드 조회 시에만
+	Long userId,
+	String sessionKey,
+	Long elapsedMs,
+	Long startTime,
+	LocalDateTime createdAt
+) {
+	public static SegmentEffortResponse from(SegmentEffort effort) {
+		return of(null, effort);
+	}
+
+	public static SegmentEffortResponse of(Integer rank, SegmentEffort effort) {
+		return new SegmentEffortResponse(
+			rank,
+			effort.getUserId(),
+			effort.getSessionKey(),
+			effort.getElapsedMs(),
+			effort.getStartTime(),
+			effort.getCreatedAt()
+		);
+	}
+}
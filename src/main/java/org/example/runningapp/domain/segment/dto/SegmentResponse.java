@@ -0,0 +1,26 @@
+package org.example.runningapp.domain.segment.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.runningapp.domain.segment.document.Segment;
+
+public record SegmentResponse(
+	String id,
+	String name,
+	Long creatorId,
+	Double distanceMeters,
+	List<List<Double>> points,
+	LocalDateTime createdAt
+) {
+	public static SegmentResponse from(Segment segment) {
+		return new SegmentResponse(
+			segment.getId(),
+			segment.getName(),
+			segment.getCreatorId(),
+			segment.getDistanceMeters(),
+			segment.getPoints(),
+			segment.getCreatedAt()
+		);
+	}
+}
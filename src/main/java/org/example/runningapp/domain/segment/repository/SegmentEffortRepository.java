@@ -0,0 +1,15 @@
+package org.example.runningapp.domain.segment.repository;
+
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SegmentEffortRepository extends MongoRepository<SegmentEffort, String> {
+	List<SegmentEffort> findBySegmentIdAndUserIdOrderByElapsedMsAsc(String segmentId, Long userId, Pageable pageable);
+
+	void deleteByUserId(Long userId);
+}
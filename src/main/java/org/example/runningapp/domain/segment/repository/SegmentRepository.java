@@ -0,0 +1,12 @@
+package org.example.runningapp.domain.segment.repository;
+
+import org.example.runningapp.domain.segment.document.Segment;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SegmentRepository extends MongoRepository<Segment, String> {
+	List<Segment> findByCreatorId(Long creatorId);
+}
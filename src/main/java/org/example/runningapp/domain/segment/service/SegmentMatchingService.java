@@ -0,0 +1,95 @@
+package org.example.runningapp.domain.segment.service;
+
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.config.scheduling.AsyncConfig;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.segment.document.Segment;
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+import org.example.runningapp.domain.segment.util.SegmentMatcher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 세션 종료 후 세그먼트 통과 기록 계산 (백그라운드)
+ * 1. 트랙이 지나간 geohash 셀 집합 계산 - O(좌표 수)
+ * 2. 시작/끝 셀이 모두 트랙 셀에 포함된 세그먼트만 인덱스로 조회
+ * 3. 후보 세그먼트만 SegmentMatcher로 경로 검증 및 시간 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SegmentMatchingService {
+
+	private static final int MAX_CANDIDATES = 500;
+
+	private final MongoTemplate mongoTemplate;
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onSessionFinalized(RunningSessionFinalizedEvent event) {
+		RunningTrack track = event.track();
+		if (track == null || track.pointCount() < 2) {
+			return;
+		}
+
+		try {
+			List<SegmentEffort> efforts = matchSegments(event.userId(), event.sessionKey(), track);
+			if (!efforts.isEmpty()) {
+				mongoTemplate.insertAll(efforts);
+				log.info("세그먼트 기록 저장 - sessionKey: {}, 통과 세그먼트 수: {}", event.sessionKey(), efforts.size());
+			}
+		} catch (Exception e) {
+			log.error("세그먼트 매칭 실패 - sessionKey: {}, 오류: {}", event.sessionKey(), e.getMessage());
+		}
+	}
+
+	List<SegmentEffort> matchSegments(Long userId, String sessionKey, RunningTrack track) {
+		Set<String> cells = Geohash.cellsOf(track.getLongitudes(), track.getLatitudes(), SegmentService.CELL_PRECISION);
+
+		Query query = Query.query(Criteria.where("startCells").in(cells).and("endCells").in(cells))
+			.limit(MAX_CANDIDATES);
+		query.fields().include("points", "distanceMeters");
+		List<Segment> candidates = mongoTemplate.find(query, Segment.class);
+
+		List<SegmentEffort> efforts = new ArrayList<>();
+		if (candidates.isEmpty()) {
+			return efforts;
+		}
+
+		long[] times = track.pointTimes();
+		double[] distances = track.cumulativeDistances();
+		LocalDateTime now = LocalDateTime.now();
+
+		for (Segment segment : candidates) {
+			SegmentMatcher.Match match = SegmentMatcher.match(track.getLongitudes(), track.getLatitudes(), times,
+				distances, segment.getPoints(), segment.getDistanceMeters(), SegmentMatcher.DEFAULT_TOLERANCE_METERS);
+
+			if (match != null) {
+				efforts.add(SegmentEffort.builder()
+					.segmentId(segment.getId())
+					.userId(userId)
+					.sessionKey(sessionKey)
+					.elapsedMs(match.elapsedMs())
+					.startTime(times[match.startIndex()])
+					.createdAt(now)
+					.build());
+			}
+		}
+
+		log.debug("세그먼트 매칭 - sessionKey: {}, 셀 수: {}, 후보: {}, 통과: {}",
+			sessionKey, cells.size(), candidates.size(), efforts.size());
+		return efforts;
+	}
+}
@@ -0,0 +1,149 @@
+package org.example.runningapp.domain.segment.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.exception.InvalidRunningDataException;
+import org.example.runningapp.common.exception.SegmentNotFoundException;
+import org.example.runningapp.common.util.GeoUtils;
+import org.example.runningapp.common.util.Geohash;
+import org.example.runningapp.domain.running.util.RouteSimplifier;
+import org.example.runningapp.domain.segment.document.Segment;
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+import org.example.runningapp.domain.segment.dto.SegmentCreateRequest;
+import org.example.runningapp.domain.segment.dto.SegmentEffortResponse;
+import org.example.runningapp.domain.segment.dto.SegmentResponse;
+import org.example.runningapp.domain.segment.repository.SegmentEffortRepository;
+import org.example.runningapp.domain.segment.repository.SegmentRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SegmentService {
+
+	static final int CELL_PRECISION = 7;   // 약 153m x 153m
+
+	private static final double SIMPLIFY_TOLERANCE_METERS = 5.0;
+	private static final double MIN_DISTANCE_METERS = 100.0;
+	private static final double MAX_DISTANCE_METERS = 50_000.0;
+	private static final int MAX_LIMIT = 100;
+
+	private final SegmentRepository segmentRepository;
+	private final SegmentEffortRepository segmentEffortRepository;
+	private final MongoTemplate mongoTemplate;
+
+	public SegmentResponse createSegment(Long userId, SegmentCreateRequest request) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		List<Double> lons = new ArrayList<>(request.points().size());
+		List<Double> lats = new ArrayList<>(request.points().size());
+		for (List<Double> point : request.points()) {
+			if (point == null || point.size() < 2 || point.get(0) == null || point.get(1) == null
+				|| point.get(0) < -180.0 || point.get(0) > 180.0 || point.get(1) < -90.0 || point.get(1) > 90.0) {
+				throw new InvalidRunningDataException("세그먼트 좌표 형식이 올바르지 않습니다 (경도, 위도 필요)");
+			}
+			lons.add(point.get(0));
+			lats.add(point.get(1));
+		}
+
+		double distance = 0.0;
+		for (int i = 1; i < lons.size(); i++) {
+			distance += GeoUtils.distanceMeters(lons.get(i - 1), lats.get(i - 1), lons.get(i), lats.get(i));
+		}
+		if (distance < MIN_DISTANCE_METERS || distance > MAX_DISTANCE_METERS) {
+			throw new InvalidRunningDataException("세그먼트 거리는 100m 이상 50km 이하여야 합니다");
+		}
+
+		// 검증 비용을 줄이기 위해 꺾이는 지점 위주로 단순화
+		List<List<Double>> points = RouteSimplifier.simplify(lons, lats, SIMPLIFY_TOLERANCE_METERS);
+		List<Double> start = points.get(0);
+		List<Double> end = points.get(points.size() - 1);
+
+		Segment segment = Segment.builder()
+			.name(request.name().trim())
+			.creatorId(userId)
+			.points(points)
+			.distanceMeters(distance)
+			.startCells(Geohash.withNeighbors(Geohash.encode(start.get(1), start.get(0), CELL_PRECISION)))
+			.endCells(Geohash.withNeighbors(Geohash.encode(end.get(1), end.get(0), CELL_PRECISION)))
+			.createdAt(LocalDateTime.now())
+			.build();
+
+		try {
+			Segment saved = segmentRepository.save(segment);
+			log.info("세그먼트 생성 - 사용자: {}, segmentId: {}, 거리(m): {}", userId, saved.getId(), Math.round(distance));
+			return SegmentResponse.from(saved);
+		} catch (Exception e) {
+			log.error("세그먼트 저장 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("세그먼트 저장 중 오류가 발생했습니다", e);
+		}
+	}
+
+	public SegmentResponse getSegment(String segmentId) {
+		return SegmentResponse.from(findSegment(segmentId));
+	}
+
+	public List<SegmentEffortResponse> getMyEfforts(Long userId, String segmentId, int limit) {
+		validateLimit(limit);
+		findSegment(segmentId);
+
+		return segmentEffortRepository.findBySegmentIdAndUserIdOrderByElapsedMsAsc(
+				segmentId, userId, PageRequest.of(0, limit)).stream()
+			.map(SegmentEffortResponse::from)
+			.toList();
+	}
+
+	/**
+	 * 사용자별 최고 기록 순위
+	 */
+	public List<SegmentEffortResponse> getLeaderboard(String segmentId, int limit) {
+		validateLimit(limit);
+		findSegment(segmentId);
+
+		try {
+			Aggregation aggregation = Aggregation.newAggregation(
+				Aggregation.match(Criteria.where("segmentId").is(segmentId)),
+				Aggregation.sort(Sort.Direction.ASC, "elapsedMs"),
+				Aggregation.group("userId").first(Aggregation.ROOT).as("best"),
+				Aggregation.replaceRoot("best"),
+				Aggregation.sort(Sort.Direction.ASC, "elapsedMs"),
+				Aggregation.limit(limit)
+			);
+
+			AtomicInteger rank = new AtomicInteger();
+			return mongoTemplate.aggregate(aggregation, SegmentEffort.class, SegmentEffort.class)
+				.getMappedResults().stream()
+				.map(effort -> SegmentEffortResponse.of(rank.incrementAndGet(), effort))
+				.toList();
+
+		} catch (Exception e) {
+			log.error("세그먼트 리더보드 조회 실패 - segmentId: {}, 오류: {}", segmentId, e.getMessage());
+			throw new ExternalServiceException("세그먼트 리더보드를 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	private Segment findSegment(String segmentId) {
+		return segmentRepository.findById(segmentId)
+			.orElseThrow(() -> new SegmentNotFoundException(
+				String.format("세그먼트를 찾을 수 없습니다. segmentId: %s", segmentId)));
+	}
+
+	private void validateLimit(int limit) {
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("조회 개수는 1-100 사이여야 합니다");
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package org.example.runningapp.domain.segment.util;
+
+import org.example.runningapp.common.util.GeoUtils;
+
+import java.util.List;
+
+/**
+ * 트랙이 세그먼트를 통과했는지 검증하고 소요 시간 계산
+ * - 시작점 허용 반경 안에서 가장 가까운 트랙 좌표부터 출발
+ * - 세그먼트 좌표를 순서대로 모두 통과(허용 반경 이내)한 뒤 끝점에 도달해야 인정
+ * - 트랙 구간 거리가 세그먼트 거리의 MIN_RATIO~MAX_RATIO 범위를 벗어나면 불인정 (지름길/우회 방지)
+ * - 같은 트랙에서 여러 번 통과하면 가장 빠른 기록
+ */
+public final class SegmentMatcher {
+
+	public static final double DEFAULT_TOLERANCE_METERS = 30.0;
+
+	private static final double MIN_RATIO = 0.8;
+	private static final double MAX_RATIO = 1.5;
+
+	private SegmentMatcher() {
+	}
+
+	/**
+	 * @param startIndex 트랙에서 세그먼트 시작 좌표 인덱스
+	 * @param endIndex   트랙에서 세그먼트 끝 좌표 인덱스
+	 * @param elapsedMs  소요 시간
+	 */
+	public record Match(int startIndex, int endIndex, long elapsedMs) {
+	}
+
+	/**
+	 * @return 가장 빠른 통과 기록, 통과하지 않았으면 null
+	 */
+	public static Match match(List<Double> trackLons, List<Double> trackLats, long[] times, double[] cumulativeDistances,
+		List<List<Double>> segmentPoints, double segmentDistanceMeters, double toleranceMeters) {
+		int n = trackLons.size();
+		int m = segmentPoints.size();
+		if (n < 2 || m < 2) {
+			return null;
+		}
+
+		double startLon = segmentPoints.get(0).get(0);
+		double startLat = segmentPoints.get(0).get(1);
+		double endLon = segmentPoints.get(m - 1).get(0);
+		double endLat = segmentPoints.get(m - 1).get(1);
+
+		Match best = null;
+		int i = 0;
+		while (i < n - 1) {
+			double startDistance = distance(trackLons, trackLats, i, startLon, startLat);
+			if (startDistance > toleranceMeters) {
+				i++;
+				continue;
+			}
+
+			// 시작점에 가장 가까워지는 좌표까지 이동
+			while (i + 1 < n && distance(trackLons, trackLats, i + 1, startLon, startLat) < startDistance) {
+				i++;
+				startDistance = distance(trackLons, trackLats, i, startLon, startLat);
+			}
+
+			int end = findEnd(trackLons, trackLats, cumulativeDistances, i, segmentPoints,
+				segmentDistanceMeters, toleranceMeters, endLon, endLat);
+
+			if (end > i) {
+				long elapsed = times[end] - times[i];
+				if (elapsed > 0 && (best == null || elapsed < best.elapsedMs())) {
+					best = new Match(i, end, elapsed);
+				}
+				i = end;
+			} else {
+				i++;
+			}
+		}
+		return best;
+	}
+
+	private static int findEnd(List<Double> trackLons, List<Double> trackLats, double[] cumulativeDistances, int start,
+		List<List<Double>> segmentPoints, double segmentDistanceMeters, double toleranceMeters,
+		double endLon, double endLat) {
+		int n = trackLons.size();
+		int last = segmentPoints.size() - 1;
+		int next = 1;  // 다음에 통과해야 할 세그먼트 좌표
+
+		for (int j = start + 1; j < n; j++) {
+			double covered = cumulativeDistances[j] - cumulativeDistances[start];
+			if (covered > segmentDistanceMeters * MAX_RATIO) {
+				return -1;
+			}
+
+			while (next < last && distance(trackLons, trackLats, j,
+				segmentPoints.get(next).get(0), segmentPoints.get(next).get(1)) <= toleranceMeters) {
+				next++;
+			}
+
+			if (next == last && covered >= segmentDistanceMeters * MIN_RATIO) {
+				double endDistance = distance(trackLons, trackLats, j, endLon, endLat);
+				if (endDistance <= toleranceMeters) {
+					// 끝점에 가장 가까워지는 좌표까지 이동
+					while (j + 1 < n && distance(trackLons, trackLats, j + 1, endLon, endLat) < endDistance) {
+						j++;
+						endDistance = distance(trackLons, trackLats, j, endLon, endLat);
+					}
+					return j;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static double distance(List<Double> lons, List<Double> lats, int index, double lon, double lat) {
+		return GeoUtils.distanceMeters(lons.get(index), lats.get(index), lon, lat);
+	}
+}
@@ -0,0 +1,32 @@
+package org.example.runningapp.domain.stats.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.stats.dto.PersonalRecordResponse;
+import org.example.runningapp.domain.stats.service.PersonalRecordService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/running/records")
+@RequiredArgsConstructor
+public class PersonalRecordController {
+
+	private final PersonalRecordService personalRecordService;
+
+	/**
+	 * 내 개인 기록 (1k / 5k / 10k / half / full)
+	 */
+	@GetMapping
+	public ResponseEntity<List<PersonalRecordResponse>> getMyRecords(
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(personalRecordService.getRecords(currentUser.getId()));
+	}
+}
@@ -0,0 +1,40 @@
+package org.example.runningapp.domain.stats.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+import org.example.runningapp.domain.stats.dto.RunningStatsResponse;
+import org.example.runningapp.domain.stats.service.RunningRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/running/stats")
+@RequiredArgsConstructor
+public class RunningStatsController {
+
+	private final RunningRollupService runningRollupService;
+
+	/**
+	 * 기간별 러닝 통계 - period: DAY | WEEK | MONTH
+	 * from/to 미지정 시 최근 7일 / 12주 / 12개월
+	 */
+	@GetMapping
+	public ResponseEntity<List<RunningStatsResponse>> getMyStats(
+		@RequestParam(defaultValue = "WEEK") RollupPeriod period,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(runningRollupService.getStats(currentUser.getId(), period, from, to));
+	}
+}
@@ -0,0 +1,43 @@
+package org.example.runningapp.domain.stats.controller;
+
+import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.stats.dto.ZoneSettingsRequest;
+import org.example.runningapp.domain.stats.dto.ZoneSettingsResponse;
+import org.example.runningapp.domain.stats.service.ZoneSettingsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/running/zones")
+@RequiredArgsConstructor
+public class ZoneSettingsController {
+
+	private final ZoneSettingsService zoneSettingsService;
+
+	@GetMapping
+	public ResponseEntity<ZoneSettingsResponse> getMyZoneSettings(
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(ZoneSettingsResponse.from(zoneSettingsService.getSettings(currentUser.getId())));
+	}
+
+	/**
+	 * 존 경계 변경 - 이후 생성되는 세션부터 적용
+	 */
+	@PutMapping
+	public ResponseEntity<ZoneSettingsResponse> updateMyZoneSettings(
+		@Valid @RequestBody ZoneSettingsRequest request,
+		@AuthenticationPrincipal UserPrincipal currentUser) {
+
+		return ResponseEntity.ok(ZoneSettingsResponse.from(
+			zoneSettingsService.updateSettings(currentUser.getId(), request)));
+	}
+}
@@ -0,0 +1,21 @@
+package org.example.runningapp.domain.stats.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거리별 개인 기록 (PersonalRecords.records의 값)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecord {
+
+	private long durationMs;
+	private String sessionKey;
+	private long startTime;            // 기록 구간 시작 시각(ms)
+	private LocalDateTime achievedAt;
+}
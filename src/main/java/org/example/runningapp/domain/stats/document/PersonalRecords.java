@@ -0,0 +1,30 @@
+package org.example.runningapp.domain.stats.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 개인 기록 (사용자당 문서 1개)
+ * - records 키: RecordDistance.key() (1k, 5k, 10k, half, full)
+ * - 기록 갱신 시에만 해당 키를 조건부 $set
+ */
+@Document(collection = "personal_records")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecords {
+
+	@Id
+	private Long userId;
+
+	private Map<String, PersonalRecord> records = new HashMap<>();
+
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package org.example.runningapp.domain.stats.document;
+
+/**
+ * 개인 기록(PR) 대상 거리
+ */
+public enum RecordDistance {
+	ONE_K("1k", 1000.0),
+	FIVE_K("5k", 5000.0),
+	TEN_K("10k", 10000.0),
+	HALF("half", 21097.5),
+	FULL("full", 42195.0);
+
+	private final String key;
+	private final double meters;
+
+	RecordDistance(String key, double meters) {
+		this.key = key;
+		this.meters = meters;
+	}
+
+	public String key() {
+		return key;
+	}
+
+	public double meters() {
+		return meters;
+	}
+
+	public static double[] allMeters() {
+		RecordDistance[] values = values();
+		double[] meters = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			meters[i] = values[i].meters;
+		}
+		return meters;
+	}
+}
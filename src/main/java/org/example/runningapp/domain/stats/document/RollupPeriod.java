@@ -0,0 +1,27 @@
+package org.example.runningapp.domain.stats.document;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RollupPeriod {
+	DAY,
+	WEEK,   // 월요일 시작
+	MONTH;
+
+	public LocalDate bucketStart(LocalDate date) {
+		return switch (this) {
+			case DAY -> date;
+			case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTH -> date.withDayOfMonth(1);
+		};
+	}
+
+	public LocalDate next(LocalDate bucketStart) {
+		return switch (this) {
+			case DAY -> bucketStart.plusDays(1);
+			case WEEK -> bucketStart.plusWeeks(1);
+			case MONTH -> bucketStart.plusMonths(1);
+		};
+	}
+}
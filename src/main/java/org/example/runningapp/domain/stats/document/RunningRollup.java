@@ -0,0 +1,52 @@
+package org.example.runningapp.domain.stats.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 사용자별 일/주/월 러닝 통계 버킷
+ * - 청크 수신/세션 종료 시 $inc로 증분 갱신 → 조회는 버킷 수에 비례
+ * - 평균값은 합계/개수로 저장하고 조회 시 계산
+ */
+@Document(collection = "running_rollups")
+@CompoundIndex(def = "{'userId': 1, 'period': 1, 'bucketStart': 1}")
+@CompoundIndex(def = "{'period': 1, 'bucketStart': 1}")  // 리더보드 재구성용
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningRollup {
+
+	@Id
+	private String id;              // "userId:PERIOD:yyyy-MM-dd"
+
+	private Long userId;
+	private RollupPeriod period;
+	private LocalDate bucketStart;
+
+	private double distanceMeters;
+	private long durationMs;
+	private int sessionCount;       // 종료된 세션 수
+
+	private double paceSum;         // 구간 페이스(km/h) 합
+	private long paceCount;
+	private long bpmSum;            // 구간 심박수 합
+	private long bpmCount;
+
+	// 존 인덱스("0"~"4")별 누적 시간(ms) - upsert 시 $inc로 생성되므로 배열 대신 Map
+	private Map<String, Long> hrZoneMs;
+	private Map<String, Long> paceZoneMs;
+
+	private LocalDateTime updatedAt;
+
+	public static String idOf(Long userId, RollupPeriod period, LocalDate bucketStart) {
+		return userId + ":" + period + ":" + bucketStart;
+	}
+}
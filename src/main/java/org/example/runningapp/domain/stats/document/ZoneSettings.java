@@ -0,0 +1,37 @@
+package org.example.runningapp.domain.stats.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 심박/페이스 존 경계 설정 (경계 4개 → 존 5개)
+ * - 설정 변경은 이후 생성되는 세션부터 적용
+ */
+@Document(collection = "zone_settings")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZoneSettings {
+
+	// 최대 심박 190 기준 60/70/80/90%
+	public static final int[] DEFAULT_HR_BOUNDARIES = {114, 133, 152, 171};
+	// 페이스(km/h) 기준 - 회복/이지/마라톤/템포/인터벌
+	public static final double[] DEFAULT_PACE_BOUNDARIES = {8.0, 10.0, 12.0, 14.0};
+
+	@Id
+	private Long userId;
+
+	private int[] hrBoundaries;
+	private double[] paceBoundaries;
+
+	private LocalDateTime updatedAt;
+
+	public static ZoneSettings defaults(Long userId) {
+		return new ZoneSettings(userId, DEFAULT_HR_BOUNDARIES.clone(), DEFAULT_PACE_BOUNDARIES.clone(), null);
+	}
+}
@@ -0,0 +1,28 @@
+package org.example.runningapp.domain.stats.dto;
+
+import java.time.LocalDateTime;
+
+import org.example.runningapp.domain.stats.document.PersonalRecord;
+import org.example.runningapp.domain.stats.document.RecordDistance;
+
+public record PersonalRecordResponse(
+	String distance,          // 1k, 5k, 10k, half, full
+	Double distanceMeters,
+	Long durationMs,
+	Double paceSecondsPerKm,
+	String sessionKey,
+	Long startTime,
+	LocalDateTime achievedAt
+) {
+	public static PersonalRecordResponse of(RecordDistance distance, PersonalRecord record) {
+		return new PersonalRecordResponse(
+			distance.key(),
+			distance.meters(),
+			record.getDurationMs(),
+			record.getDurationMs() / 1000.0 / (distance.meters() / 1000.0),
+			record.getSessionKey(),
+			record.getStartTime(),
+			record.getAchievedAt()
+		);
+	}
+}
@@ -0,0 +1,51 @@
+package org.example.runningapp.domain.stats.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+import org.example.runningapp.domain.stats.document.RunningRollup;
+
+public record RunningStatsResponse(
+	RollupPeriod period,
+	LocalDate bucketStart,
+	Double totalDistanceKm,
+	Long durationSeconds,
+	Integer sessionCount,
+	Double avgPaceKmh,      // 평균 페이스(km/h)
+	Integer avgBpm,         // 평균 심박수
+	long[] hrZoneMs,        // 심박 존별 시간(ms)
+	long[] paceZoneMs       // 페이스 존별 시간(ms)
+) {
+	public static RunningStatsResponse from(RunningRollup rollup) {
+		return new RunningStatsResponse(
+			rollup.getPeriod(),
+			rollup.getBucketStart(),
+			rollup.getDistanceMeters() / 1000.0,
+			rollup.getDurationMs() / 1000,
+			rollup.getSessionCount(),
+			rollup.getPaceCount() > 0 ? rollup.getPaceSum() / rollup.getPaceCount() : 0.0,
+			rollup.getBpmCount() > 0 ? (int) Math.round((double) rollup.getBpmSum() / rollup.getBpmCount()) : 0,
+			toZoneArray(rollup.getHrZoneMs()),
+			toZoneArray(rollup.getPaceZoneMs())
+		);
+	}
+
+	public static RunningStatsResponse empty(RollupPeriod period, LocalDate bucketStart) {
+		return new RunningStatsResponse(period, bucketStart, 0.0, 0L, 0, 0.0, 0,
+			new long[ZoneHistogram.ZONE_COUNT], new long[ZoneHistogram.ZONE_COUNT]);
+	}
+
+	private static long[] toZoneArray(Map<String, Long> zoneMs) {
+		long[] result = new long[ZoneHistogram.ZONE_COUNT];
+		if (zoneMs != null) {
+			for (int i = 0; i < result.length; i++) {
+				Long value = zoneMs.get(String.valueOf(i));
+				result[i] = value != null ? value : 0L;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,15 @@
+package org.example.runningapp.domain.stats.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ZoneSettingsRequest(
+	@NotNull(message = "심박 존 경계는 필수입니다.")
+	@Size(min = 4, max = 4, message = "심박 존 경계는 4개여야 합니다.")
+	int[] hrBoundaries,
+
+	@NotNull(message = "페이스 존 경계는 필수입니다.")
+	@Size(min = 4, max = 4, message = "페이스 존 경계는 4개여야 합니다.")
+	double[] paceBoundaries
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.runningapp.domain.stats.dto;
+
+import java.time.LocalDateTime;
+
+import org.example.runningapp.domain.stats.document.ZoneSettings;
+
+public record ZoneSettingsResponse(
+	int[] hrBoundaries,
+	double[] paceBoundaries,
+	LocalDateTime updatedAt     // 기본값 사용 중이면 null
+) {
+	public static ZoneSettingsResponse from(ZoneSettings settings) {
+		return new ZoneSettingsResponse(settings.getHrBoundaries(), settings.getPaceBoundaries(), settings.getUpdatedAt());
+	}
+}
@@ -0,0 +1,10 @@
+package org.example.runningapp.domain.stats.repository;
+
+import org.example.runningapp.domain.stats.document.RunningRollup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RunningRollupRepository extends MongoRepository<RunningRollup, String> {
+	void deleteByUserId(Long userId);
+}
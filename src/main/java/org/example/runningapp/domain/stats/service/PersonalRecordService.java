@@ -0,0 +1,127 @@
+package org.example.runningapp.domain.stats.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.config.scheduling.AsyncConfig;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.running.util.BestEffortCalculator;
+import org.example.runningapp.domain.running.util.BestEffortCalculator.BestEffort;
+import org.example.runningapp.domain.stats.document.PersonalRecord;
+import org.example.runningapp.domain.stats.document.PersonalRecords;
+import org.example.runningapp.domain.stats.document.RecordDistance;
+import org.example.runningapp.domain.stats.dto.PersonalRecordResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 개인 기록(PR) 갱신
+ * - 세션 종료 시 한 번만 최단 구간 계산 (과거 세션 재스캔 없음)
+ * - 기존 기록보다 빠른 경우에만 조건부 업데이트
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersonalRecordService {
+
+	private static final double[] TARGET_METERS = RecordDistance.allMeters();
+
+	private final MongoTemplate mongoTemplate;
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onSessionFinalized(RunningSessionFinalizedEvent event) {
+		RunningTrack track = event.track();
+		if (track == null || track.pointCount() < 2) {
+			return;
+		}
+
+		BestEffort[] efforts = BestEffortCalculator.calculate(
+			track.pointTimes(), track.cumulativeDistances(), TARGET_METERS);
+
+		updateIfFaster(event.userId(), event.sessionKey(), efforts);
+	}
+
+	/**
+	 * 기록이 없거나 더 빠른 거리만 $set (ORDERED bulk: 문서 생성 → 거리별 조건부 갱신)
+	 */
+	void updateIfFaster(Long userId, String sessionKey, BestEffort[] efforts) {
+		RecordDistance[] distances = RecordDistance.values();
+		LocalDateTime now = LocalDateTime.now();
+
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, PersonalRecords.class);
+		bulk.upsert(Query.query(Criteria.where("_id").is(userId)), new Update().setOnInsert("updatedAt", now));
+
+		int candidates = 0;
+		for (int i = 0; i < distances.length; i++) {
+			BestEffort effort = efforts[i];
+			if (effort == null) {
+				continue;
+			}
+
+			String field = "records." + distances[i].key();
+			Query query = Query.query(Criteria.where("_id").is(userId).orOperator(
+				Criteria.where(field).exists(false),
+				Criteria.where(field + ".durationMs").gt(effort.durationMs())));
+			Update update = new Update()
+				.set(field, new PersonalRecord(effort.durationMs(), sessionKey, effort.startTime(), now))
+				.set("updatedAt", now);
+
+			bulk.updateOne(query, update);
+			candidates++;
+		}
+
+		if (candidates == 0) {
+			return;
+		}
+
+		try {
+			BulkWriteResult result = bulk.execute();
+			if (result.getModifiedCount() > 0) {
+				log.info("개인 기록 갱신 - 사용자: {}, sessionKey: {}, 갱신 수: {}",
+					userId, sessionKey, result.getModifiedCount());
+			}
+		} catch (Exception e) {
+			log.error("개인 기록 갱신 실패 - 사용자: {}, sessionKey: {}, 오류: {}", userId, sessionKey, e.getMessage());
+		}
+	}
+
+	public List<PersonalRecordResponse> getRecords(Long userId) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		try {
+			PersonalRecords records = mongoTemplate.findById(userId, PersonalRecords.class);
+			List<PersonalRecordResponse> result = new ArrayList<>();
+			if (records == null || records.getRecords() == null) {
+				return result;
+			}
+
+			for (RecordDistance distance : RecordDistance.values()) {
+				PersonalRecord record = records.getRecords().get(distance.key());
+				if (record != null) {
+					result.add(PersonalRecordResponse.of(distance, record));
+				}
+			}
+			return result;
+
+		} catch (Exception e) {
+			log.error("개인 기록 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("개인 기록을 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+}
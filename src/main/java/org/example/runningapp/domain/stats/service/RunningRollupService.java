@@ -0,0 +1,198 @@
+package org.example.runningapp.domain.stats.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.config.scheduling.AsyncConfig;
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+import org.example.runningapp.domain.running.event.RunningChunkIngestedEvent;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.stats.document.RollupPeriod;
+import org.example.runningapp.domain.stats.document.RunningRollup;
+import org.example.runningapp.domain.stats.dto.RunningStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자별 일/주/월 러닝 통계 (증분 집계)
+ * - 청크 저장 시: 거리/시간/페이스/심박 합계 $inc
+ * - 세션 종료 시: 세션 수 $inc
+ *   (청크 집계 이전에 수신된 기존 세션은 종료된 트랙으로 거리/시간/페이스/심박 합계를 함께 채움, 존 시간은 제외)
+ * - 버킷은 세션 시작 시각 기준 (자정을 넘긴 세션도 한 버킷에 집계)
+ */
+@Slf4j
+@Service
+public class RunningRollupService {
+
+	private static final int MAX_BUCKETS = 400;
+
+	private final MongoTemplate mongoTemplate;
+	private final ZoneId zoneId;
+
+	public RunningRollupService(
+		MongoTemplate mongoTemplate,
+		@Value("${app.running.rollup.zone-id:Asia/Seoul}") String zoneId) {
+		this.mongoTemplate = mongoTemplate;
+		this.zoneId = ZoneId.of(zoneId);
+	}
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onChunkIngested(RunningChunkIngestedEvent event) {
+		RunningTrack chunk = event.chunk();
+
+		double paceSum = chunk.getPace().stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
+		long paceCount = chunk.getPace().stream().filter(Objects::nonNull).count();
+		long bpmSum = chunk.getBpm().stream().filter(Objects::nonNull).mapToLong(Integer::longValue).sum();
+		long bpmCount = chunk.getBpm().stream().filter(Objects::nonNull).count();
+
+		ZoneHistogram zones = event.zones();
+
+		applyIncrements(event.userId(), event.sessionStartTime(), update -> {
+			update.inc("distanceMeters", event.distanceMeters())
+				.inc("durationMs", event.durationMs())
+				.inc("paceSum", paceSum)
+				.inc("paceCount", paceCount)
+				.inc("bpmSum", bpmSum)
+				.inc("bpmCount", bpmCount);
+
+			if (zones != null) {
+				for (int i = 0; i < ZoneHistogram.ZONE_COUNT; i++) {
+					if (zones.getHrZoneMs()[i] != 0) {
+						update.inc("hrZoneMs." + i, zones.getHrZoneMs()[i]);
+					}
+					if (zones.getPaceZoneMs()[i] != 0) {
+						update.inc("paceZoneMs." + i, zones.getPaceZoneMs()[i]);
+					}
+				}
+			}
+			return update;
+		});
+	}
+
+	@Async(AsyncConfig.RUNNING_EVENT_EXECUTOR)
+	@EventListener
+	public void onSessionFinalized(RunningSessionFinalizedEvent event) {
+		if (event.summary() == null) {
+			return;
+		}
+		RunningTrack track = event.track();
+		if (event.chunksRolledUp() || track == null) {
+			applyIncrements(event.userId(), event.summary().sessionStartTime(), update -> update
+				.inc("sessionCount", 1));
+			return;
+		}
+
+		// 청크 단위로 집계된 적 없는 기존 세션 - 세션 수만 늘리면 거리/시간이 0인 기록이 생기므로 트랙 합계를 함께 반영
+		double[] distances = track.cumulativeDistances();
+		double distanceMeters = distances.length > 0 ? distances[distances.length - 1] : 0.0;
+		long durationMs = IntStream.range(0, track.featureCount())
+			.mapToLong(f -> track.getTimestampEnd().get(f) - track.getTimestampStart().get(f))
+			.sum();
+		double paceSum = track.getPace().stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
+		long paceCount = track.getPace().stream().filter(Objects::nonNull).count();
+		long bpmSum = track.getBpm().stream().filter(Objects::nonNull).mapToLong(Integer::longValue).sum();
+		long bpmCount = track.getBpm().stream().filter(Objects::nonNull).count();
+
+		applyIncrements(event.userId(), event.summary().sessionStartTime(), update -> update
+			.inc("sessionCount", 1)
+			.inc("distanceMeters", distanceMeters)
+			.inc("durationMs", durationMs)
+			.inc("paceSum", paceSum)
+			.inc("paceCount", paceCount)
+			.inc("bpmSum", bpmSum)
+			.inc("bpmCount", bpmCount));
+	}
+
+	/**
+	 * 기간별 통계 조회 - 롤업 문서만 읽음 (세션/좌표는 조회하지 않음)
+	 * 데이터가 없는 버킷은 0으로 채워 연속된 목록으로 반환
+	 */
+	public List<RunningStatsResponse> getStats(Long userId, RollupPeriod period, LocalDate from, LocalDate to) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		LocalDate end = period.bucketStart(to != null ? to : LocalDate.now(zoneId));
+		LocalDate start = period.bucketStart(from != null ? from : defaultFrom(period, end));
+
+		if (start.isAfter(end)) {
+			throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다");
+		}
+
+		try {
+			Query query = Query.query(Criteria.where("userId").is(userId)
+					.and("period").is(period)
+					.and("bucketStart").gte(start).lte(end))
+				.with(Sort.by(Sort.Direction.ASC, "bucketStart"));
+
+			Map<LocalDate, RunningRollup> rollups = mongoTemplate.find(query, RunningRollup.class).stream()
+				.collect(Collectors.toMap(RunningRollup::getBucketStart, Function.identity(), (a, b) -> a));
+
+			List<RunningStatsResponse> result = new ArrayList<>();
+			for (LocalDate bucket = start; !bucket.isAfter(end) && result.size() < MAX_BUCKETS; bucket = period.next(bucket)) {
+				RunningRollup rollup = rollups.get(bucket);
+				result.add(rollup != null ? RunningStatsResponse.from(rollup) : RunningStatsResponse.empty(period, bucket));
+			}
+			return result;
+
+		} catch (Exception e) {
+			log.error("러닝 통계 조회 실패 - 사용자: {}, 기간: {}, 오류: {}", userId, period, e.getMessage());
+			throw new ExternalServiceException("러닝 통계를 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	/**
+	 * 일/주/월 버킷 3개를 한 번의 bulk upsert로 갱신
+	 */
+	private void applyIncrements(Long userId, long sessionStartTime, Function<Update, Update> increments) {
+		LocalDate date = Instant.ofEpochMilli(sessionStartTime).atZone(zoneId).toLocalDate();
+		LocalDateTime now = LocalDateTime.now();
+
+		try {
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RunningRollup.class);
+			for (RollupPeriod period : RollupPeriod.values()) {
+				LocalDate bucketStart = period.bucketStart(date);
+				Query query = Query.query(Criteria.where("_id").is(RunningRollup.idOf(userId, period, bucketStart)));
+				Update update = increments.apply(new Update())
+					.setOnInsert("userId", userId)
+					.setOnInsert("period", period)
+					.setOnInsert("bucketStart", bucketStart)
+					.set("updatedAt", now);
+				bulk.upsert(query, update);
+			}
+			bulk.execute();
+
+		} catch (Exception e) {
+			log.error("러닝 통계 갱신 실패 - 사용자: {}, 날짜: {}, 오류: {}", userId, date, e.getMessage());
+		}
+	}
+
+	private LocalDate defaultFrom(RollupPeriod period, LocalDate end) {
+		return switch (period) {
+			case DAY -> end.minusDays(6);
+			case WEEK -> end.minusWeeks(11);
+			case MONTH -> end.minusMonths(11);
+		};
+	}
+}
@@ -0,0 +1,87 @@
+package org.example.runningapp.domain.stats.service;
+
+import org.example.runningapp.common.exception.ExternalServiceException;
+import org.example.runningapp.common.exception.InvalidRunningDataException;
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+import org.example.runningapp.domain.stats.document.ZoneSettings;
+import org.example.runningapp.domain.stats.dto.ZoneSettingsRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZoneSettingsService {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * 사용자 존 설정 조회 - 저장된 설정이 없으면 기본값
+	 */
+	public ZoneSettings getSettings(Long userId) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+
+		try {
+			ZoneSettings settings = mongoTemplate.findById(userId, ZoneSettings.class);
+			return settings != null ? settings : ZoneSettings.defaults(userId);
+		} catch (Exception e) {
+			log.error("존 설정 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("존 설정을 가져오는 중 오류가 발생했습니다", e);
+		}
+	}
+
+	public ZoneSettings updateSettings(Long userId, ZoneSettingsRequest request) {
+		if (userId == null || userId <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+		}
+		validateAscending(request);
+
+		try {
+			ZoneSettings settings = new ZoneSettings(userId, request.hrBoundaries(), request.paceBoundaries(),
+				LocalDateTime.now());
+			return mongoTemplate.save(settings);
+		} catch (Exception e) {
+			log.error("존 설정 저장 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("존 설정 저장 중 오류가 발생했습니다", e);
+		}
+	}
+
+	/**
+	 * 새 세션에 복사할 빈 히스토그램 (세션 생성 시 한 번만 조회)
+	 */
+	public ZoneHistogram newHistogram(Long userId) {
+		ZoneSettings settings;
+		try {
+			settings = getSettings(userId);
+		} catch (ExternalServiceException e) {
+			// 설정 조회 실패로 러닝 데이터 저장이 막히지 않도록 기본값 사용
+			log.warn("존 설정 조회 실패, 기본값 사용 - 사용자: {}", userId);
+			settings = ZoneSettings.defaults(userId);
+		}
+		return ZoneHistogram.empty(settings.getHrBoundaries(), settings.getPaceBoundaries());
+	}
+
+	private void validateAscending(ZoneSettingsRequest request) {
+		int[] hr = request.hrBoundaries();
+		double[] pace = request.paceBoundaries();
+		for (int i = 1; i < hr.length; i++) {
+			if (hr[i] <= hr[i - 1]) {
+				throw new InvalidRunningDataException("심박 존 경계는 오름차순이어야 합니다");
+			}
+		}
+		for (int i = 1; i < pace.length; i++) {
+			if (pace[i] <= pace[i - 1]) {
+				throw new InvalidRunningDataException("페이스 존 경계는 오름차순이어야 합니다");
+			}
+		}
+		if (hr[0] <= 0 || pace[0] <= 0) {
+			throw new InvalidRunningDataException("존 경계는 0보다 커야 합니다");
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.example.runningapp.common.security.UserPrincipal;
+import org.example.runningapp.domain.user.dto.AccountDeletionResponse;
 import org.example.runningapp.domain.user.dto.UserInfoResponse;
 import org.example.runningapp.domain.user.repository.UserRepository;
 import org.example.runningapp.domain.user.entity.User;
@@ -55,11 +56,21 @@ public class UserController {
 
 	@DeleteMapping("/delete/{userId}")
 	public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long userId) {
-		userService.deleteUser(userId);
+		AccountDeletionResponse deletion = userService.deleteUser(userId);
 
-		return ResponseEntity.ok(Map.of(
-			"message", "회원이 삭제되었습니다",
-			"deletedUserId", userId
+		// 러닝 기록 등은 백그라운드에서 정리되므로 202 + 진행 상황 조회용 jobId 반환
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+			"message", "회원이 삭제되었습니다. 러닝 기록은 순차적으로 정리됩니다",
+			"deletedUserId", userId,
+			"deletionJob", deletion
 		));
 	}
+
+	/**
+	 * 탈퇴 정리 진행 상황 (탈퇴 후에는 토큰 인증이 불가하므로 추측 불가능한 jobId로만 조회)
+	 */
+	@GetMapping("/deletion-jobs/{jobId}")
+	public ResponseEntity<AccountDeletionResponse> getDeletionStatus(@PathVariable String jobId) {
+		return ResponseEntity.ok(userService.getDeletionStatus(jobId));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package org.example.runningapp.domain.user.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 회원 탈퇴 후 MongoDB 데이터 정리 작업
+ * - stepIndex: 정리 중인 컬렉션 순번 (AccountDeletionWorker.STEPS), 재시작 시 이어서 진행
+ * - deletedCounts: 컬렉션별 삭제 문서 수 (진행률 조회용)
+ * - lockedBy/lockedUntil: 여러 인스턴스 중 한 워커만 처리하도록 하는 임대(lease)
+ */
+@Document(collection = "account_deletion_jobs")
+@CompoundIndex(def = "{'status': 1, 'requestedAt': 1}")  // 워커 임대 조회용
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDeletionJob {
+
+	@Id
+	private String id;
+
+	private Long userId;
+	private DeletionJobStatus status;
+
+	private int stepIndex;
+	private Map<String, Long> deletedCounts;
+
+	private int attempts;
+	private String lastError;
+
+	private String lockedBy;
+	private LocalDateTime lockedUntil;
+
+	private LocalDateTime requestedAt;
+	private LocalDateTime updatedAt;
+	private LocalDateTime completedAt;
+
+	/**
+	 * 사용자 행 삭제가 커밋된 뒤 워커가 처리할 수 있는 상태로 전환
+	 */
+	public void markPending(LocalDateTime now) {
+		this.status = DeletionJobStatus.PENDING;
+		this.updatedAt = now;
+	}
+}
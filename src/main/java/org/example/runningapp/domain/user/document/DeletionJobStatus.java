@@ -0,0 +1,10 @@
+package org.example.runningapp.domain.user.document;
+
+public enum DeletionJobStatus {
+	REQUESTED,   // 작업 기록됨, 사용자 행 삭제 전 (워커가 임대하지 않음)
+	PENDING,     // 사용자 행 삭제 완료, 아직 처리 전
+	RUNNING,     // 워커가 배치 삭제 중 (lockedUntil 동안 점유)
+	COMPLETED,   // 모든 컬렉션 정리 완료
+	FAILED,      // 재시도 한도 초과
+	CANCELLED    // 사용자 행 삭제가 반영되지 않아 정리를 중단
+}
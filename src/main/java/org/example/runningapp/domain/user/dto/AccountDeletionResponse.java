@@ -0,0 +1,37 @@
+package org.example.runningapp.domain.user.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.example.runningapp.domain.user.document.AccountDeletionJob;
+import org.example.runningapp.domain.user.document.DeletionJobStatus;
+
+/**
+ * 회원 탈퇴 데이터 정리 진행 상황
+ * - completedSteps/totalSteps: 정리가 끝난 컬렉션 수
+ */
+public record AccountDeletionResponse(
+	String jobId,
+	Long userId,
+	DeletionJobStatus status,
+	int completedSteps,
+	int totalSteps,
+	Map<String, Long> deletedCounts,
+	LocalDateTime requestedAt,
+	LocalDateTime updatedAt,
+	LocalDateTime completedAt
+) {
+	public static AccountDeletionResponse from(AccountDeletionJob job, int totalSteps) {
+		return new AccountDeletionResponse(
+			job.getId(),
+			job.getUserId(),
+			job.getStatus(),
+			Math.min(job.getStepIndex(), totalSteps),
+			totalSteps,
+			job.getDeletedCounts() != null ? job.getDeletedCounts() : Map.of(),
+			job.getRequestedAt(),
+			job.getUpdatedAt(),
+			job.getCompletedAt()
+		);
+	}
+}
@@ -0,0 +1,17 @@
+package org.example.runningapp.domain.user.dto;
+
+import org.example.runningapp.domain.user.entity.User;
+
+/**
+ * 캐시용 사용자 정보 (리프레시 토큰 등 민감 정보 제외, 불변)
+ */
+public record UserSnapshot(
+	Long id,
+	String username,
+	String email,
+	String profileImage
+) {
+	public static UserSnapshot from(User user) {
+		return new UserSnapshot(user.getId(), user.getUsername(), user.getEmail(), user.getProfileImage());
+	}
+}
@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserChangeListener.class})
 public class User {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,6 +51,12 @@ public class User {
 		return this;
 	}
 
+	// 중복 여부는 email 유니크 제약이 커밋 시점에 검사
+	public User updateEmail(String email) {
+		this.email = email;
+		return this;
+	}
+
 	@Column(name = "refresh_token")
 	private String refreshToken;
 
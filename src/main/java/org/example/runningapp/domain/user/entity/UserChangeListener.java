@@ -0,0 +1,55 @@
+package org.example.runningapp.domain.user.entity;
+
+import org.example.runningapp.domain.user.dto.UserSnapshot;
+import org.example.runningapp.domain.user.event.UserChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 엔티티 변경 감지 (캐시 대상 필드의 변경, 삭제)
+ * - Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ * - 로드/저장 시점의 UserSnapshot과 비교하여 username/email/profileImage가 바뀐 경우만 발행
+ *   (로그인마다 갱신되는 refreshToken 등은 캐시 대상이 아니므로 무효화하지 않음)
+ * - JPQL 벌크 UPDATE(리프레시 토큰 회전/삭제)는 감지되지 않지만 캐시 대상 필드가 아님
+ */
+public class UserChangeListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+	// 엔티티 인스턴스(identity) 기준 약한 참조 - 영속성 컨텍스트가 끝나면 함께 정리됨
+	private final Cache<User, UserSnapshot> loadedSnapshots = Caffeine.newBuilder().weakKeys().build();
+
+	public UserChangeListener(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@PostLoad
+	@PostPersist
+	public void remember(User user) {
+		loadedSnapshots.put(user, UserSnapshot.from(user));
+	}
+
+	@PostUpdate
+	public void onUpdate(User user) {
+		UserSnapshot current = UserSnapshot.from(user);
+		UserSnapshot previous = loadedSnapshots.getIfPresent(user);
+		loadedSnapshots.put(user, current);
+
+		// 비교 기준이 없으면 안전하게 무효화
+		if (!current.equals(previous)) {
+			eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+		}
+	}
+
+	@PostRemove
+	public void onRemove(User user) {
+		loadedSnapshots.invalidate(user);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+	}
+}
@@ -0,0 +1,9 @@
+package org.example.runningapp.domain.user.event;
+
+/**
+ * 사용자 행 변경/삭제 이벤트 - 커밋 후 사용자 캐시 무효화의 시작점
+ */
+public record UserChangedEvent(
+	Long userId
+) {
+}
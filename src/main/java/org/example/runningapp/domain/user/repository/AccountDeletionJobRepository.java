@@ -0,0 +1,14 @@
+package org.example.runningapp.domain.user.repository;
+
+import org.example.runningapp.domain.user.document.AccountDeletionJob;
+import org.example.runningapp.domain.user.document.DeletionJobStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface AccountDeletionJobRepository extends MongoRepository<AccountDeletionJob, String> {
+	Optional<AccountDeletionJob> findFirstByUserIdAndStatusIn(Long userId, Collection<DeletionJobStatus> statuses);
+}
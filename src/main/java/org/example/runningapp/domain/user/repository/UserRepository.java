@@ -2,7 +2,11 @@ package org.example.runningapp.domain.user.repository;
 
 import org.example.runningapp.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,4 +17,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByUsername(String username);
 	boolean existsByEmail(String email);
 	boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+	// 리프레시 토큰 회전 - 저장된 토큰이 제시된 토큰과 같을 때만 교체 (PK 조건 UPDATE 1회, 동시 재발급 중 하나만 성공)
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update User u set u.refreshToken = :newToken where u.id = :userId and u.refreshToken = :currentToken")
+	int rotateRefreshToken(@Param("userId") Long userId, @Param("currentToken") String currentToken,
+		@Param("newToken") String newToken);
+
+	@Query("select u.refreshToken from User u where u.id = :userId")
+	Optional<String> findRefreshTokenById(@Param("userId") Long userId);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update User u set u.refreshToken = null where u.id = :userId")
+	int clearRefreshToken(@Param("userId") Long userId);
+}
@@ -0,0 +1,295 @@
+package org.example.runningapp.domain.user.service;
+
+import org.bson.Document;
+import org.example.runningapp.common.storage.BlobStore;
+import org.example.runningapp.domain.heatmap.document.HeatmapContributor;
+import org.example.runningapp.domain.running.entity.RouteFingerprint;
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.segment.document.Segment;
+import org.example.runningapp.domain.segment.document.SegmentEffort;
+import org.example.runningapp.domain.stats.document.PersonalRecords;
+import org.example.runningapp.domain.stats.document.RunningRollup;
+import org.example.runningapp.domain.stats.document.ZoneSettings;
+import org.example.runningapp.domain.user.document.AccountDeletionJob;
+import org.example.runningapp.domain.user.document.DeletionJobStatus;
+import org.example.runningapp.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 탈퇴 데이터 정리 워커
+ * - 컬렉션별로 batchSize 개씩 _id 조회 → _id $in 삭제, 배치 사이 batchPauseMs 휴식
+ *   (대량 deleteMany가 실시간 청크 수신과 같은 클러스터 자원을 오래 점유하지 않도록 제한)
+ * - 한 번 실행에 maxBatchesPerRun 배치까지만 처리하고 다음 주기에 이어서 진행 (스케줄러 스레드 독점 방지)
+ * - 진행 상황(stepIndex, deletedCounts)을 배치마다 기록하므로 재시작/인스턴스 교체 후에도 이어서 처리
+ * - 삭제는 userId 조건이라 같은 배치를 다시 실행해도 안전 (멱등)
+ */
+@Slf4j
+@Component
+public class AccountDeletionWorker {
+
+	/**
+	 * 정리 대상 컬렉션 (순서대로 처리)
+	 * - segments: 다른 사용자의 기록이 연결되어 있어 삭제하지 않고 작성자만 제거
+	 * - heatmap_contributors: 셀별 사용자 표시만 삭제 (heatmap_cells 카운트는 익명 집계로 유지)
+	 * - 리더보드 메모리 보드는 롤업 삭제 후 다음 재구성 주기에 반영됨
+	 */
+	static final List<PurgeStep> STEPS = List.of(
+		new PurgeStep("running_sessions", RunningSession.class, "userId", false),
+		new PurgeStep("route_fingerprints", RouteFingerprint.class, "userId", false),
+		new PurgeStep("segment_efforts", SegmentEffort.class, "userId", false),
+		new PurgeStep("running_rollups", RunningRollup.class, "userId", false),
+		new PurgeStep("personal_records", PersonalRecords.class, "_id", false),
+		new PurgeStep("zone_settings", ZoneSettings.class, "_id", false),
+		new PurgeStep("heatmap_contributors", HeatmapContributor.class, "userId", false),
+		new PurgeStep("segments", Segment.class, "creatorId", true)
+	);
+
+	private final MongoTemplate mongoTemplate;
+	private final UserRepository userRepository;
+	private final BlobStore blobStore;
+	private final String workerId = UUID.randomUUID().toString();
+	private final int batchSize;
+	private final long batchPauseMs;
+	private final int maxBatchesPerRun;
+	private final long leaseMs;
+	private final long retryDelayMs;
+	private final int maxAttempts;
+	private final long requestGraceMs;
+
+	public AccountDeletionWorker(
+		MongoTemplate mongoTemplate,
+		UserRepository userRepository,
+		BlobStore blobStore,
+		@Value("${app.account-deletion.batch-size:200}") int batchSize,
+		@Value("${app.account-deletion.batch-pause-ms:200}") long batchPauseMs,
+		@Value("${app.account-deletion.max-batches-per-run:25}") int maxBatchesPerRun,
+		@Value("${app.account-deletion.lease-ms:120000}") long leaseMs,
+		@Value("${app.account-deletion.retry-delay-ms:60000}") long retryDelayMs,
+		@Value("${app.account-deletion.max-attempts:5}") int maxAttempts,
+		@Value("${app.account-deletion.request-grace-ms:300000}") long requestGraceMs) {
+		this.mongoTemplate = mongoTemplate;
+		this.userRepository = userRepository;
+		this.blobStore = blobStore;
+		this.batchSize = batchSize;
+		this.batchPauseMs = batchPauseMs;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.leaseMs = leaseMs;
+		this.retryDelayMs = retryDelayMs;
+		this.maxAttempts = maxAttempts;
+		this.requestGraceMs = requestGraceMs;
+	}
+
+	public static int totalSteps() {
+		return STEPS.size();
+	}
+
+	@Scheduled(fixedDelayString = "${app.account-deletion.scan-interval-ms:10000}")
+	public void processJobs() {
+		int budget = maxBatchesPerRun;
+
+		while (budget > 0) {
+			AccountDeletionJob job;
+			try {
+				job = claimNextJob();
+			} catch (Exception e) {
+				log.error("탈퇴 정리 작업 조회 실패 - 오류: {}", e.getMessage());
+				return;
+			}
+
+			if (job == null) {
+				return;
+			}
+			budget = process(job, budget);
+		}
+	}
+
+	/**
+	 * 처리 가능한 작업 하나를 임대 (다른 워커의 임대가 만료된 작업 포함)
+	 * - REQUESTED는 사용자 행 삭제 전이므로 임대하지 않음
+	 *   단, requestGraceMs가 지나도록 PENDING으로 전환되지 않은 작업은 전환 실패로 보고 임대
+	 *   (사용자 행이 남아 있으면 process에서 취소)
+	 */
+	private AccountDeletionJob claimNextJob() {
+		LocalDateTime now = LocalDateTime.now();
+
+		Criteria claimable = new Criteria().orOperator(
+			Criteria.where("status").in(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING),
+			Criteria.where("status").is(DeletionJobStatus.REQUESTED)
+				.and("requestedAt").lt(now.minusNanos(requestGraceMs * 1_000_000)));
+		Criteria unlocked = new Criteria().orOperator(
+			Criteria.where("lockedUntil").is(null), Criteria.where("lockedUntil").lt(now));
+
+		Query query = Query.query(new Criteria().andOperator(claimable, unlocked))
+			.with(Sort.by(Sort.Direction.ASC, "requestedAt"));
+
+		Update update = new Update()
+			.set("status", DeletionJobStatus.RUNNING)
+			.set("lockedBy", workerId)
+			.set("lockedUntil", now.plusNanos(leaseMs * 1_000_000))
+			.set("updatedAt", now);
+
+		return mongoTemplate.findAndModify(query, update,
+			FindAndModifyOptions.options().returnNew(true), AccountDeletionJob.class);
+	}
+
+	/**
+	 * @return 남은 배치 예산
+	 */
+	private int process(AccountDeletionJob job, int budget) {
+		try {
+			// 사용자 행 삭제가 실패한 요청의 작업이면 데이터를 지우지 않고 중단
+			if (userRepository.existsById(job.getUserId())) {
+				finish(job, DeletionJobStatus.CANCELLED);
+				log.warn("탈퇴 정리 작업 취소 - 사용자가 존재함, jobId: {}, userId: {}", job.getId(), job.getUserId());
+				return budget;
+			}
+
+			int step = job.getStepIndex();
+			while (step < STEPS.size() && budget > 0) {
+				PurgeStep purgeStep = STEPS.get(step);
+				long affected = purgeBatch(purgeStep, job.getUserId());
+				budget--;
+
+				int nextStep = affected < batchSize ? step + 1 : step;
+				if (!recordProgress(job, purgeStep, affected, nextStep)) {
+					log.warn("탈퇴 정리 작업 임대 상실 - jobId: {}", job.getId());
+					return budget;
+				}
+				step = nextStep;
+
+				if (affected > 0 && !pause()) {
+					return 0;
+				}
+			}
+
+			if (step >= STEPS.size()) {
+				finish(job, DeletionJobStatus.COMPLETED);
+				log.info("탈퇴 정리 작업 완료 - jobId: {}, userId: {}", job.getId(), job.getUserId());
+			} else {
+				// 이번 주기 예산 소진 - 임대를 반납하여 다음 주기(또는 다른 인스턴스)가 이어서 처리
+				release(job);
+			}
+
+		} catch (Exception e) {
+			log.error("탈퇴 정리 작업 실패 - jobId: {}, userId: {}, 오류: {}", job.getId(), job.getUserId(), e.getMessage());
+			recordFailure(job, e);
+		}
+		return budget;
+	}
+
+	private long purgeBatch(PurgeStep step, Long userId) throws IOException {
+		String collection = mongoTemplate.getCollectionName(step.type());
+
+		Query idQuery = Query.query(Criteria.where(step.field()).is(userId)).limit(batchSize);
+		idQuery.fields().include("_id", "archive.blobKey");
+		List<Document> docs = mongoTemplate.find(idQuery, Document.class, collection);
+		if (docs.isEmpty()) {
+			return 0;
+		}
+
+		// 콜드 스토리지로 옮겨진 트랙 파일을 먼저 삭제 (문서를 먼저 지우면 파일 위치를 잃음)
+		for (Document doc : docs) {
+			Document archive = doc.get("archive", Document.class);
+			if (archive != null && archive.getString("blobKey") != null) {
+				blobStore.delete(archive.getString("blobKey"));
+			}
+		}
+
+		List<Object> ids = docs.stream()
+			.map(doc -> doc.get("_id"))
+			.toList();
+
+		Query byIds = Query.query(Criteria.where("_id").in(ids));
+		if (step.anonymize()) {
+			return mongoTemplate.updateMulti(byIds, new Update().unset(step.field()), collection).getModifiedCount();
+		}
+		return mongoTemplate.remove(byIds, collection).getDeletedCount();
+	}
+
+	private boolean recordProgress(AccountDeletionJob job, PurgeStep step, long affected, int nextStep) {
+		LocalDateTime now = LocalDateTime.now();
+		Update update = new Update()
+			.inc("deletedCounts." + step.name(), affected)
+			.set("stepIndex", nextStep)
+			.set("lockedUntil", now.plusNanos(leaseMs * 1_000_000))
+			.set("updatedAt", now);
+
+		return mongoTemplate.updateFirst(ownedBy(job), update, AccountDeletionJob.class).getMatchedCount() > 0;
+	}
+
+	private void finish(AccountDeletionJob job, DeletionJobStatus status) {
+		LocalDateTime now = LocalDateTime.now();
+		Update update = new Update()
+			.set("status", status)
+			.set("completedAt", now)
+			.set("updatedAt", now)
+			.unset("lockedBy")
+			.unset("lockedUntil");
+		mongoTemplate.updateFirst(ownedBy(job), update, AccountDeletionJob.class);
+	}
+
+	private void release(AccountDeletionJob job) {
+		Update update = new Update()
+			.unset("lockedBy")
+			.unset("lockedUntil");
+		mongoTemplate.updateFirst(ownedBy(job), update, AccountDeletionJob.class);
+	}
+
+	private void recordFailure(AccountDeletionJob job, Exception e) {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			boolean exhausted = job.getAttempts() + 1 >= maxAttempts;
+
+			Update update = new Update()
+				.inc("attempts", 1)
+				.set("lastError", e.getMessage())
+				.set("updatedAt", now)
+				.unset("lockedBy");
+			if (exhausted) {
+				update.set("status", DeletionJobStatus.FAILED).unset("lockedUntil");
+			} else {
+				// 재시도 지연 - 이 시각까지 어느 워커도 임대하지 않음
+				update.set("lockedUntil", now.plusNanos(retryDelayMs * 1_000_000));
+			}
+			mongoTemplate.updateFirst(ownedBy(job), update, AccountDeletionJob.class);
+
+		} catch (Exception recordError) {
+			// 기록 실패 시에도 임대 만료 후 다른 워커가 이어서 처리
+			log.error("탈퇴 정리 작업 실패 기록 실패 - jobId: {}, 오류: {}", job.getId(), recordError.getMessage());
+		}
+	}
+
+	private Query ownedBy(AccountDeletionJob job) {
+		return Query.query(Criteria.where("_id").is(job.getId()).and("lockedBy").is(workerId));
+	}
+
+	private boolean pause() {
+		if (batchPauseMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(batchPauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	record PurgeStep(String name, Class<?> type, String field, boolean anonymize) {
+	}
+}
@@ -0,0 +1,77 @@
+package org.example.runningapp.domain.user.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.example.runningapp.common.cache.InvalidationBus;
+import org.example.runningapp.common.cache.InvalidationHandler;
+import org.example.runningapp.domain.user.dto.UserSnapshot;
+import org.example.runningapp.domain.user.event.UserChangedEvent;
+import org.example.runningapp.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 사용자 조회 캐시 (인스턴스 로컬, Postgres 커넥션 풀 부하 감소)
+ * - 사용자 행이 변경/삭제되면 커밋 후 로컬에서 즉시 제거하고 InvalidationBus로 다른 인스턴스에 알림
+ * - 알림 유실 시에도 TTL 이내 반영, 버스가 끊긴 동안에는 버스가 주기적으로 전체 초기화
+ * - 존재하지 않는 사용자는 캐시하지 않음
+ */
+@Service
+public class UserCache implements InvalidationHandler {
+
+	public static final String TOPIC = "user";
+
+	private final UserRepository userRepository;
+	private final InvalidationBus invalidationBus;
+	private final Cache<Long, UserSnapshot> cache;
+
+	public UserCache(
+		UserRepository userRepository,
+		InvalidationBus invalidationBus,
+		@Value("${app.user.cache.ttl-ms:300000}") long ttlMs,
+		@Value("${app.user.cache.max-size:50000}") long maxSize) {
+		this.userRepository = userRepository;
+		this.invalidationBus = invalidationBus;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(ttlMs))
+			.maximumSize(maxSize)
+			.build();
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		invalidationBus.subscribe(TOPIC, this);
+	}
+
+	public Optional<UserSnapshot> get(Long userId) {
+		return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id)
+			.map(UserSnapshot::from)
+			.orElse(null)));
+	}
+
+	/**
+	 * 커밋 후 무효화 (커밋 전에 제거하면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		cache.invalidate(event.userId());
+		invalidationBus.publish(TOPIC, String.valueOf(event.userId()));
+	}
+
+	@Override
+	public void invalidate(String key) {
+		cache.invalidate(Long.valueOf(key));
+	}
+
+	@Override
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
@@ -1,36 +1,111 @@
 package org.example.runningapp.domain.user.service;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.UUID;
 
+import org.example.runningapp.common.exception.DeletionJobNotFoundException;
+import org.example.runningapp.common.exception.ExternalServiceException;
 import org.example.runningapp.common.exception.UserNotFoundException;
-import org.example.runningapp.domain.running.repository.RunningSessionRepository;
+import org.example.runningapp.domain.auth.service.TokenVersionService;
+import org.example.runningapp.domain.user.document.AccountDeletionJob;
+import org.example.runningapp.domain.user.document.DeletionJobStatus;
+import org.example.runningapp.domain.user.dto.AccountDeletionResponse;
 import org.example.runningapp.domain.user.dto.UserInfoResponse;
+import org.example.runningapp.domain.user.dto.UserSnapshot;
 import org.example.runningapp.domain.user.entity.User;
+import org.example.runningapp.domain.user.repository.AccountDeletionJobRepository;
 import org.example.runningapp.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
 public class UserService {
 	private final UserRepository userRepository;
-	private final RunningSessionRepository runningSessionRepository;
+	private final AccountDeletionJobRepository deletionJobRepository;
+	private final TokenVersionService tokenVersionService;
+	private final UserCache userCache;
 
-	public UserService(UserRepository userRepository,RunningSessionRepository runningSessionRepository) {
-		this.runningSessionRepository=runningSessionRepository;
+	public UserService(UserRepository userRepository, AccountDeletionJobRepository deletionJobRepository,
+		TokenVersionService tokenVersionService, UserCache userCache) {
 		this.userRepository = userRepository;
+		this.deletionJobRepository = deletionJobRepository;
+		this.tokenVersionService = tokenVersionService;
+		this.userCache = userCache;
 	}
 
 	public UserInfoResponse getUserInfo(Long userId) {
-		User user = userRepository.findById(userId)
+		UserSnapshot user = userCache.get(userId)
 			.orElseThrow(() -> new UserNotFoundException("ID " + userId + "에 해당하는 사용자가 존재하지 않습니다"));
 
-		return new UserInfoResponse(user.getUsername(), user.getEmail());
+		return new UserInfoResponse(user.username(), user.email());
 	}
 
-	public void deleteUser(Long userId) {
+	/**
+	 * 회원 탈퇴
+	 * - 정리 작업 기록, 발급된 토큰 폐기 후 사용자 행을 즉시 삭제 (이후 토큰 인증/로그인 불가)
+	 * - MongoDB 데이터는 AccountDeletionWorker가 백그라운드에서 배치 단위로 정리
+	 * - 작업은 REQUESTED로 기록하고 사용자 행 삭제가 커밋된 뒤에만 PENDING으로 전환
+	 *   (삭제 커밋 전에 워커가 임대하여 사용자가 남아 있다고 취소하는 일이 없도록)
+	 * - 사용자 행 삭제가 실패하면 남은 작업은 다음 요청에서 재사용하거나 유예 시간 후 워커가 취소 처리
+	 */
+	public AccountDeletionResponse deleteUser(Long userId) {
 		if (!userRepository.existsById(userId)) {
 			throw new UserNotFoundException("ID " + userId + "에 해당하는 사용자가 존재하지 않습니다");
 		}
-		runningSessionRepository.deleteByUserId(userId);
+
+		AccountDeletionJob job;
+		try {
+			// 이전 요청에서 사용자 행 삭제만 실패한 경우 기존 작업 재사용
+			job = deletionJobRepository.findFirstByUserIdAndStatusIn(
+					userId, EnumSet.of(DeletionJobStatus.REQUESTED, DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING))
+				.orElseGet(() -> deletionJobRepository.save(AccountDeletionJob.builder()
+					.id(UUID.randomUUID().toString())
+					.userId(userId)
+					.status(DeletionJobStatus.REQUESTED)
+					.stepIndex(0)
+					.deletedCounts(new HashMap<>())
+					.requestedAt(LocalDateTime.now())
+					.updatedAt(LocalDateTime.now())
+					.build()));
+
+			// 토큰은 DB 조회 없이 인증되므로 발급된 토큰을 버전으로 폐기
+			tokenVersionService.revokeAll(userId);
+		} catch (Exception e) {
+			log.error("탈퇴 정리 작업 등록 실패 - userId: {}, 오류: {}", userId, e.getMessage());
+			throw new ExternalServiceException("회원 탈퇴 요청 처리 중 오류가 발생했습니다", e);
+		}
+
 		userRepository.deleteById(userId);
+
+		if (job.getStatus() == DeletionJobStatus.REQUESTED) {
+			try {
+				job.markPending(LocalDateTime.now());
+				deletionJobRepository.save(job);
+			} catch (Exception e) {
+				// 사용자 행은 이미 삭제됨 - REQUESTED 작업은 유예 시간 후 워커가 이어서 처리
+				log.error("탈퇴 정리 작업 전환 실패 - userId: {}, jobId: {}, 오류: {}", userId, job.getId(), e.getMessage());
+			}
+		}
+		log.info("회원 탈퇴 요청 - userId: {}, jobId: {}", userId, job.getId());
+
+		return AccountDeletionResponse.from(job, AccountDeletionWorker.totalSteps());
+	}
+
+	public AccountDeletionResponse getDeletionStatus(String jobId) {
+		AccountDeletionJob job;
+		try {
+			job = deletionJobRepository.findById(jobId).orElse(null);
+		} catch (Exception e) {
+			throw new ExternalServiceException("회원 탈퇴 진행 상황 조회 중 오류가 발생했습니다", e);
+		}
+
+		if (job == null) {
+			throw new DeletionJobNotFoundException("탈퇴 정리 작업을 찾을 수 없습니다. jobId: " + jobId);
+		}
+		return AccountDeletionResponse.from(job, AccountDeletionWorker.totalSteps());
 	}
-}
\ No newline at end of file
+}
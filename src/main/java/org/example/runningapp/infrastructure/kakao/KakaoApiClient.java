@@ -0,0 +1,42 @@
+package org.example.runningapp.infrastructure.kakao;
+
+import java.util.Map;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오 API 호출 (논블로킹)
+ * - 벌크헤드로 동시 호출 수를 먼저 제한한 뒤 서킷 브레이커로 실패율 집계
+ * - 서킷이 열려 있거나 벌크헤드가 가득 차면 네트워크 호출 없이 즉시 에러
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoApiClient {
+
+	private static final String USER_ME_PATH = "/v2/user/me";
+	private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private final WebClient kakaoWebClient;
+	private final CircuitBreaker kakaoCircuitBreaker;
+	private final Bulkhead kakaoBulkhead;
+
+	public Mono<Map<String, Object>> fetchUserMe(String accessToken) {
+		return kakaoWebClient.get()
+			.uri(USER_ME_PATH)
+			.headers(headers -> headers.setBearerAuth(accessToken))
+			.retrieve()
+			.bodyToMono(MAP_TYPE)
+			.transformDeferred(CircuitBreakerOperator.of(kakaoCircuitBreaker))
+			.transformDeferred(BulkheadOperator.of(kakaoBulkhead));
+	}
+}
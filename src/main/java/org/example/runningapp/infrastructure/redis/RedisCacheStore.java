@@ -0,0 +1,59 @@
+package org.example.runningapp.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.runningapp.common.cache.CacheStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis CacheStore (여러 인스턴스가 같은 값을 공유)
+ * - 비교 후 교체는 Lua 스크립트로 GET/SET을 원자적으로 실행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.store", havingValue = "redis")
+public class RedisCacheStore implements CacheStore {
+
+	private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then "
+			+ "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 "
+			+ "else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public Optional<String> get(String key) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+	}
+
+	@Override
+	public void set(String key, String value, Duration ttl) {
+		redisTemplate.opsForValue().set(key, value, ttl);
+	}
+
+	@Override
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+	}
+
+	@Override
+	public boolean compareAndSet(String key, String expected, String value, Duration ttl) {
+		Long result = redisTemplate.execute(COMPARE_AND_SET, List.of(key),
+			expected, value, String.valueOf(ttl.toMillis()));
+		return result != null && result == 1L;
+	}
+
+	@Override
+	public boolean delete(String key) {
+		return Boolean.TRUE.equals(redisTemplate.delete(key));
+	}
+}
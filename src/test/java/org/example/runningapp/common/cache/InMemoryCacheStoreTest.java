@@ -0,0 +1,71 @@
+package org.example.runningapp.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCacheStoreTest {
+
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	private final InMemoryCacheStore store = new InMemoryCacheStore(1000);
+
+	@Test
+	void should_ReturnStoredValue_When_NotExpired() {
+		// when
+		store.set("key", "value", TTL);
+
+		// then
+		assertThat(store.get("key")).contains("value");
+	}
+
+	@Test
+	void should_ReturnEmpty_When_TtlElapsed() {
+		// when
+		store.set("key", "value", Duration.ZERO);
+
+		// then
+		assertThat(store.get("key")).isEmpty();
+	}
+
+	@Test
+	void should_SetOnlyOnce_When_SetIfAbsent() {
+		// when
+		boolean first = store.setIfAbsent("key", "first", TTL);
+		boolean second = store.setIfAbsent("key", "second", TTL);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(store.get("key")).contains("first");
+	}
+
+	@Test
+	void should_ReplaceOnlyExpectedValue_When_CompareAndSet() {
+		// given
+		store.set("key", "current", TTL);
+
+		// when
+		boolean stale = store.compareAndSet("key", "previous", "next", TTL);
+		boolean matched = store.compareAndSet("key", "current", "next", TTL);
+
+		// then
+		assertThat(stale).isFalse();
+		assertThat(matched).isTrue();
+		assertThat(store.get("key")).contains("next");
+		assertThat(store.compareAndSet("missing", "current", "next", TTL)).isFalse();
+	}
+
+	@Test
+	void should_RemoveKey_When_Deleted() {
+		// given
+		store.set("key", "value", TTL);
+
+		// when & then
+		assertThat(store.delete("key")).isTrue();
+		assertThat(store.delete("key")).isFalse();
+		assertThat(store.get("key")).isEmpty();
+	}
+}
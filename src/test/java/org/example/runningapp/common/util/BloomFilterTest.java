@@ -0,0 +1,43 @@
+package org.example.runningapp.common.util;
+
+import org.example.runningapp.common.security.TokenDigest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+	@Test
+	void should_ContainAllInsertedDigests() {
+		// given
+		BloomFilter filter = BloomFilter.create(1000, 0.001);
+		for (int i = 0; i < 1000; i++) {
+			filter.put(TokenDigest.sha256("token-" + i));
+		}
+
+		// when & then - 거짓 음성 없음
+		for (int i = 0; i < 1000; i++) {
+			assertThat(filter.mightContain(TokenDigest.sha256("token-" + i))).isTrue();
+		}
+	}
+
+	@Test
+	void should_KeepFalsePositiveRateNearTarget() {
+		// given
+		BloomFilter filter = BloomFilter.create(1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.put(TokenDigest.sha256("token-" + i));
+		}
+
+		// when
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.mightContain(TokenDigest.sha256("other-" + i))) {
+				falsePositives++;
+			}
+		}
+
+		// then
+		assertThat(falsePositives).isLessThan(300);
+	}
+}
@@ -4,20 +4,19 @@ import org.example.runningapp.common.exception.ExternalServiceException;
 import org.example.runningapp.domain.user.entity.User;
 import org.example.runningapp.domain.user.repository.UserRepository;
 import org.example.runningapp.common.exception.OAuth2AuthenticationException;
+import org.example.runningapp.common.exception.UserAlreadyExistsException;
 import org.example.runningapp.common.security.AuthProvider;
 import org.example.runningapp.domain.auth.dto.KakaoUserInfo;
+import org.example.runningapp.infrastructure.kakao.KakaoApiClient;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -27,7 +26,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,23 +37,22 @@ class KakaoServiceTest {
 	private UserRepository userRepository;
 
 	@Mock
-	private RestTemplate restTemplate;
+	private KakaoApiClient kakaoApiClient;
 
-	@InjectMocks
 	private KakaoService kakaoService;
 
+	@BeforeEach
+	void setUp() {
+		kakaoService = new KakaoService(userRepository, kakaoApiClient, 60000, 1000);
+	}
+
 	@Test
 	void should_ReturnKakaoUserInfo_When_ValidAccessToken() {
 		// given
 		String accessToken = "valid-kakao-token";
 		Map<String, Object> mockKakaoResponse = createMockKakaoApiResponse();
 
-		when(restTemplate.exchange(
-			eq("https://kapi.kakao.com/v2/user/me"),
-			eq(HttpMethod.GET),
-			any(HttpEntity.class),
-			eq(Map.class)
-		)).thenReturn(new ResponseEntity<>(mockKakaoResponse, HttpStatus.OK));
+		when(kakaoApiClient.fetchUserMe(accessToken)).thenReturn(Mono.just(mockKakaoResponse));
 
 		// when
 		KakaoUserInfo result = kakaoService.getUserInfo(accessToken);
@@ -65,17 +64,48 @@ class KakaoServiceTest {
 		assertThat(result.imageUrl()).isEqualTo("http://img.kakao.com/profile.jpg");
 	}
 
+	@Test
+	void should_CallKakaoOnce_When_SameTokenRequestedRepeatedly() {
+		// given
+		String accessToken = "valid-kakao-token";
+		when(kakaoApiClient.fetchUserMe(accessToken)).thenReturn(Mono.just(createMockKakaoApiResponse()));
+
+		// when
+		KakaoUserInfo first = kakaoService.getUserInfo(accessToken);
+		KakaoUserInfo second = kakaoService.getUserInfo(accessToken);
+
+		// then
+		assertThat(second).isEqualTo(first);
+		verify(kakaoApiClient, times(1)).fetchUserMe(accessToken);
+	}
+
+	@Test
+	void should_RetryKakao_When_PreviousCallFailed() {
+		// given
+		String accessToken = "valid-kakao-token";
+		when(kakaoApiClient.fetchUserMe(accessToken))
+			.thenReturn(Mono.error(WebClientResponseException.create(
+				HttpStatus.SERVICE_UNAVAILABLE.value(), "API call failed", null, null, null)))
+			.thenReturn(Mono.just(createMockKakaoApiResponse()));
+
+		// when
+		assertThatThrownBy(() -> kakaoService.getUserInfo(accessToken))
+			.isInstanceOf(ExternalServiceException.class);
+		KakaoUserInfo result = kakaoService.getUserInfo(accessToken);
+
+		// then
+		assertThat(result.id()).isEqualTo("12345");
+		verify(kakaoApiClient, times(2)).fetchUserMe(accessToken);
+	}
+
 	@Test
 	void should_ThrowException_When_KakaoApiCallFails() {
 		// given
 		String accessToken = "invalid-token";
 
-		when(restTemplate.exchange(
-			anyString(),
-			eq(HttpMethod.GET),
-			any(HttpEntity.class),
-			eq(Map.class)
-		)).thenThrow(new RestClientException("API call failed"));
+		when(kakaoApiClient.fetchUserMe(anyString())).thenReturn(Mono.error(
+			WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "API call failed",
+				null, null, null)));
 
 		// when & then
 		assertThatThrownBy(() -> kakaoService.getUserInfo(accessToken))
@@ -122,6 +152,33 @@ class KakaoServiceTest {
 		assertThat(result.getProfileImage()).isEqualTo("new-profile.jpg");
 	}
 
+	@Test
+	void should_LoginExistingUser_When_ConcurrentSignupWonTheRace() {
+		// given
+		KakaoUserInfo kakaoUserInfo = new KakaoUserInfo("12345", "test@kakao.com", "테스트사용자", "profile.jpg");
+		when(userRepository.findByKakaoId("12345"))
+			.thenReturn(Optional.of(createExistingTestUser()));
+
+		// when
+		User result = kakaoService.loginAfterSignupConflict(kakaoUserInfo);
+
+		// then
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getUsername()).isEqualTo("테스트사용자");
+	}
+
+	@Test
+	void should_ThrowUserAlreadyExists_When_EmailTakenByAnotherAccount() {
+		// given
+		KakaoUserInfo kakaoUserInfo = new KakaoUserInfo("12345", "test@kakao.com", "테스트사용자", "profile.jpg");
+		when(userRepository.findByKakaoId("12345"))
+			.thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> kakaoService.loginAfterSignupConflict(kakaoUserInfo))
+			.isInstanceOf(UserAlreadyExistsException.class);
+	}
+
 	private Map<String, Object> createMockKakaoApiResponse() {
 		return Map.of(
 			"id", "12345",
@@ -0,0 +1,125 @@
+package org.example.runningapp.domain.auth.service;
+
+import org.example.runningapp.common.exception.InvalidJwtException;
+import org.example.runningapp.common.security.JwtTokenProvider;
+import org.example.runningapp.config.dto.TokenDto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRefreshServiceTest {
+
+	private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs512-signing-0123456789abcdef";
+	private static final Long USER_ID = 1L;
+	private static final String EMAIL = "runner@example.com";
+
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+
+	@Mock
+	private TokenVersionService tokenVersionService;
+
+	private JwtTokenProvider tokenProvider;
+	private TokenRefreshService tokenRefreshService;
+
+	@BeforeEach
+	void setUp() {
+		tokenProvider = new JwtTokenProvider(SECRET, 3_600_000, 604_800_000, true, 1_000, null, tokenVersionService);
+		tokenRefreshService = new TokenRefreshService(tokenProvider, refreshTokenStore, tokenVersionService);
+		when(tokenVersionService.currentVersion(anyLong())).thenReturn(0L);
+	}
+
+	@Test
+	void should_RotateAndReturnSameFamily_When_CurrentRefreshTokenPresented() {
+		// given
+		TokenDto login = tokenProvider.generateTokenPair(USER_ID, EMAIL);
+		when(refreshTokenStore.rotate(eq(USER_ID), eq(login.refreshToken()), anyString())).thenReturn(true);
+
+		// when
+		TokenDto result = tokenRefreshService.refresh(login.refreshToken());
+
+		// then
+		assertThat(result.refreshToken()).isNotEqualTo(login.refreshToken());
+		assertThat(tokenProvider.getFamilyIgnoringExpiration(result.refreshToken()))
+			.isEqualTo(tokenProvider.getFamilyIgnoringExpiration(login.refreshToken()));
+		verify(refreshTokenStore).rotate(USER_ID, login.refreshToken(), result.refreshToken());
+		verify(refreshTokenStore, never()).clear(any());
+		verify(tokenVersionService, never()).revokeAll(any());
+	}
+
+	@Test
+	void should_RevokeFamily_When_RotatedTokenIsReused() {
+		// given
+		TokenDto login = tokenProvider.generateTokenPair(USER_ID, EMAIL);
+		String family = tokenProvider.getFamilyIgnoringExpiration(login.refreshToken());
+		// 이미 다음 토큰으로 회전되어 저장된 토큰과 다르지만 계열은 같음
+		when(refreshTokenStore.rotate(eq(USER_ID), eq(login.refreshToken()), anyString())).thenReturn(false);
+		when(refreshTokenStore.findFamily(USER_ID)).thenReturn(Optional.of(family));
+
+		// when & then
+		assertThatThrownBy(() -> tokenRefreshService.refresh(login.refreshToken()))
+			.isInstanceOf(InvalidJwtException.class)
+			.hasMessageContaining("재사용");
+		verify(refreshTokenStore).clear(USER_ID);
+		verify(tokenVersionService).revokeAll(USER_ID);
+	}
+
+	@Test
+	void should_RejectWithoutRevoking_When_TokenFromOtherFamily() {
+		// given - 다시 로그인하여 새 계열이 저장된 뒤 이전 계열의 토큰이 제시됨
+		TokenDto previousLogin = tokenProvider.generateTokenPair(USER_ID, EMAIL);
+		when(refreshTokenStore.rotate(eq(USER_ID), eq(previousLogin.refreshToken()), anyString())).thenReturn(false);
+		when(refreshTokenStore.findFamily(USER_ID)).thenReturn(Optional.of("another-family"));
+
+		// when & then
+		assertThatThrownBy(() -> tokenRefreshService.refresh(previousLogin.refreshToken()))
+			.isInstanceOf(InvalidJwtException.class)
+			.hasMessageContaining("유효하지 않은");
+		verify(refreshTokenStore, never()).clear(any());
+		verify(tokenVersionService, never()).revokeAll(any());
+	}
+
+	@Test
+	void should_RejectWithoutRevoking_When_NoStoredFamily() {
+		// given - 로그아웃되어 저장된 토큰이 없음
+		TokenDto login = tokenProvider.generateTokenPair(USER_ID, EMAIL);
+		when(refreshTokenStore.rotate(eq(USER_ID), eq(login.refreshToken()), anyString())).thenReturn(false);
+		when(refreshTokenStore.findFamily(USER_ID)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> tokenRefreshService.refresh(login.refreshToken()))
+			.isInstanceOf(InvalidJwtException.class);
+		verify(refreshTokenStore, never()).clear(any());
+		verify(tokenVersionService, never()).revokeAll(any());
+	}
+
+	@Test
+	void should_Reject_When_AccessTokenPresented() {
+		// given
+		TokenDto login = tokenProvider.generateTokenPair(USER_ID, EMAIL);
+
+		// when & then
+		assertThatThrownBy(() -> tokenRefreshService.refresh(login.accessToken()))
+			.isInstanceOf(InvalidJwtException.class)
+			.hasMessageContaining("리프레시 토큰이 아닙니다");
+		verify(refreshTokenStore, never()).rotate(any(), any(), any());
+		verify(refreshTokenStore, never()).clear(any());
+		verify(tokenVersionService, never()).revokeAll(any());
+	}
+}
@@ -0,0 +1,63 @@
+package org.example.runningapp.domain.leaderboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedSkipListTest {
+
+	@Test
+	void should_RankByScoreDescending_When_ScoresUpdated() {
+		// given
+		RankedSkipList list = new RankedSkipList();
+		list.put(1L, 5000.0);
+		list.put(2L, 12000.0);
+		list.put(3L, 8000.0);
+
+		// when
+		list.increment(1L, 10000.0);  // 15000 → 1위
+
+		// then
+		assertThat(list.rank(1L)).isEqualTo(1);
+		assertThat(list.rank(2L)).isEqualTo(2);
+		assertThat(list.rank(3L)).isEqualTo(3);
+		assertThat(list.rank(4L)).isZero();
+		assertThat(list.size()).isEqualTo(3);
+	}
+
+	@Test
+	void should_ReturnNeighbours_When_RangeAroundRank() {
+		// given
+		RankedSkipList list = new RankedSkipList();
+		for (long member = 1; member <= 100; member++) {
+			list.put(member, member * 100.0);
+		}
+
+		// when - 50번 사용자(5000m)는 51위
+		long rank = list.rank(50L);
+		List<RankedSkipList.Entry> around = list.range(rank - 2, rank + 2);
+
+		// then
+		assertThat(rank).isEqualTo(51);
+		assertThat(around).extracting(RankedSkipList.Entry::member).containsExactly(52L, 51L, 50L, 49L, 48L);
+		assertThat(around.get(0).rank()).isEqualTo(49);
+	}
+
+	@Test
+	void should_OrderByMemberId_When_ScoresTie() {
+		// given
+		RankedSkipList list = new RankedSkipList();
+		list.put(7L, 1000.0);
+		list.put(3L, 1000.0);
+
+		// when
+		boolean removed = list.remove(3L);
+
+		// then
+		assertThat(removed).isTrue();
+		assertThat(list.rank(7L)).isEqualTo(1);
+		assertThat(list.range(1, 10)).hasSize(1);
+	}
+}
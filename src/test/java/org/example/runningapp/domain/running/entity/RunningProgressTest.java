@@ -0,0 +1,57 @@
+package org.example.runningapp.domain.running.entity;
+
+import org.example.runningapp.domain.running.dto.RunningSplit;
+import org.example.runningapp.domain.running.util.SplitCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunningProgressTest {
+
+	@Test
+	void should_MatchFullTrackSplits_When_SplitsComputedAcrossChunks() {
+		// given - 약 3.3km 직선 경로를 3개의 청크로 나누어 수신
+		long start = 1_700_000_000_000L;
+		List<Map<String, Object>> features = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			double lon = 126.97 + i * 0.00125;
+			features.add(createFeatureMap(start + i * 10000L, start + (i + 1) * 10000L, List.of(
+				List.of(lon, 37.56), List.of(lon + 0.000625, 37.56))));
+		}
+
+		List<RunningSplit> incrementalSplits = new ArrayList<>();
+		List<RunningSplit> incrementalLaps = new ArrayList<>();
+		RunningProgress progress = RunningProgress.start(400.0);
+
+		// when
+		for (int c = 0; c < 3; c++) {
+			RunningTrack chunk = RunningTrack.fromFeatureMaps(features.subList(c * 10, (c + 1) * 10));
+			progress = progress.advance(chunk, incrementalSplits, incrementalLaps);
+		}
+
+		// then
+		RunningTrack full = RunningTrack.fromFeatureMaps(features);
+		List<RunningSplit> expected = SplitCalculator.calculate(
+			full.pointTimes(), full.cumulativeDistances(), SplitCalculator.KM_SPLIT_METERS);
+
+		assertThat(incrementalSplits).hasSize(expected.size() - 1);
+		for (int i = 0; i < incrementalSplits.size(); i++) {
+			assertThat(incrementalSplits.get(i).durationMs()).isEqualTo(expected.get(i).durationMs());
+			assertThat(incrementalSplits.get(i).elapsedMs()).isEqualTo(expected.get(i).elapsedMs());
+		}
+		assertThat(progress.currentSplit().durationMs()).isEqualTo(expected.get(expected.size() - 1).durationMs());
+		assertThat(incrementalLaps).hasSize((int) (progress.getDistanceMeters() / 400.0));
+	}
+
+	private Map<String, Object> createFeatureMap(long startTime, long endTime, List<List<Double>> coordinates) {
+		return Map.of(
+			"type", "Feature",
+			"properties", Map.of("timestampStart", startTime, "timestampEnd", endTime),
+			"geometry", Map.of("type", "LineString", "coordinates", coordinates)
+		);
+	}
+}
@@ -7,20 +7,28 @@ import org.example.runningapp.domain.running.dto.RunningFeature;
 import org.example.runningapp.domain.running.dto.RunningProperties;
 import org.example.runningapp.domain.running.dto.RunningGeometry;
 import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.entity.ZoneHistogram;
+import org.example.runningapp.domain.running.event.RunningChunkIngestedEvent;
 import org.example.runningapp.domain.running.repository.RunningSessionRepository;
+import org.example.runningapp.domain.stats.document.ZoneSettings;
+import org.example.runningapp.domain.stats.service.ZoneSettingsService;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import com.mongodb.client.result.UpdateResult;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +44,15 @@ class RunningDataServiceTest {
 	@Mock
 	private MongoTemplate mongoTemplate;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private ZoneSettingsService zoneSettingsService;
+
+	@Mock
+	private RunningArchiveService archiveService;
+
 	@InjectMocks
 	private RunningDataService runningDataService;
 
@@ -49,6 +66,9 @@ class RunningDataServiceTest {
 		when(repository.findByUserIdAndSessionKey(userId, "1-1"))
 			.thenReturn(Optional.empty());
 
+		when(zoneSettingsService.newHistogram(userId)).thenReturn(
+			ZoneHistogram.empty(ZoneSettings.DEFAULT_HR_BOUNDARIES, ZoneSettings.DEFAULT_PACE_BOUNDARIES));
+
 		// Mock 설정: save() 결과
 		RunningSession savedSession = createTestRunningSession();
 		when(repository.save(any(RunningSession.class)))
@@ -74,7 +94,7 @@ class RunningDataServiceTest {
 		RunningFeature feature = new RunningFeature("Feature", properties, geometry);
 		GeoJsonFeatureCollection geoData = new GeoJsonFeatureCollection("FeatureCollection", List.of(feature));
 
-		return new RunningDataRequest(1, geoData);
+		return new RunningDataRequest(1, geoData, null);
 	}
 
 	@Test
@@ -87,6 +107,8 @@ class RunningDataServiceTest {
 		RunningSession existingSession = createExistingRunningSession();
 		when(repository.findByUserIdAndSessionKey(userId, "1-1"))
 			.thenReturn(Optional.of(existingSession));  // 첫 번째와의 차이점!
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class)))
+			.thenReturn(UpdateResult.acknowledged(1, 1L, null));
 
 		// when
 		RunningDataResponse result = runningDataService.saveRunningData(request, userId);
@@ -98,6 +120,52 @@ class RunningDataServiceTest {
 		verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class));
 	}
 
+	@Test
+	void should_NotAppendAgain_When_SameChunkIsReplayed() {
+		// given: 같은 청크가 이미 저장된 세션
+		Long userId = 1L;
+		RunningDataRequest request = createTestRunningDataRequest();
+		RunningProperties props = request.geoData().features().get(0).properties();
+
+		RunningSession existingSession = createExistingRunningSession();
+		existingSession.setGeoDataFeatures(new ArrayList<>(List.of(Map.of(
+			"type", "Feature",
+			"properties", Map.of("timestampStart", props.timestampStart(), "timestampEnd", props.timestampEnd()),
+			"geometry", Map.of("type", "LineString", "coordinates", List.of(List.of(126.978266, 37.566733)))))));
+		when(repository.findByUserIdAndSessionKey(userId, "1-1"))
+			.thenReturn(Optional.of(existingSession));
+
+		// when
+		RunningDataResponse result = runningDataService.saveRunningData(request, userId);
+
+		// then: 성공으로 응답하지만 스플릿/랩/롤업은 다시 반영하지 않음
+		assertThat(result.status()).isEqualTo("SUCCESS");
+		verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class));
+		verify(eventPublisher, never()).publishEvent(any(RunningChunkIngestedEvent.class));
+	}
+
+	@Test
+	void should_RereadAndRetry_When_AnotherChunkWasAppendedConcurrently() {
+		// given: 첫 업데이트는 그 사이 다른 청크가 추가되어 조건 불일치
+		Long userId = 1L;
+		RunningDataRequest request = createTestRunningDataRequest();
+
+		when(repository.findByUserIdAndSessionKey(userId, "1-1"))
+			.thenReturn(Optional.of(createExistingRunningSession()));
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class)))
+			.thenReturn(UpdateResult.acknowledged(0, 0L, null))
+			.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		// when
+		RunningDataResponse result = runningDataService.saveRunningData(request, userId);
+
+		// then: 다시 읽어 한 번만 반영, 이벤트도 한 번만 발행
+		assertThat(result.status()).isEqualTo("SUCCESS");
+		verify(repository, times(2)).findByUserIdAndSessionKey(userId, "1-1");
+		verify(mongoTemplate, times(2)).updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class));
+		verify(eventPublisher, times(1)).publishEvent(any(RunningChunkIngestedEvent.class));
+	}
+
 	private RunningSession createExistingRunningSession() {
 		return RunningSession.builder()
 			.id("existing-session-id")
@@ -0,0 +1,103 @@
+package org.example.runningapp.domain.running.service;
+
+import org.example.runningapp.domain.running.entity.RunningSession;
+import org.example.runningapp.domain.running.event.RunningSessionFinalizedEvent;
+import org.example.runningapp.domain.running.repository.RunningSessionRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunningSessionFinalizerTest {
+
+	@Mock
+	private RunningSessionRepository repository;
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private RunningSessionFinalizer finalizer;
+
+	@BeforeEach
+	void setUp() {
+		finalizer = new RunningSessionFinalizer(repository, mongoTemplate, eventPublisher, 5.0);
+	}
+
+	@Test
+	void should_FinalizeSession_When_NoConcurrentChunkAppended() {
+		// given
+		RunningSession session = createActiveSession();
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class)))
+			.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		// when
+		boolean result = finalizer.finalizeLoaded(session);
+
+		// then
+		assertThat(result).isTrue();
+		verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class));
+		verify(eventPublisher).publishEvent(any(RunningSessionFinalizedEvent.class));
+	}
+
+	@Test
+	void should_ReturnFalse_When_SessionChangedDuringFinalize() {
+		// given
+		RunningSession session = createActiveSession();
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(RunningSession.class)))
+			.thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+		// when
+		boolean result = finalizer.finalizeLoaded(session);
+
+		// then
+		assertThat(result).isFalse();
+		verifyNoInteractions(eventPublisher);
+	}
+
+	private RunningSession createActiveSession() {
+		long start = System.currentTimeMillis() - 20000;
+		List<Map<String, Object>> features = new ArrayList<>();
+		features.add(createFeatureMap(start + 10000, start + 20000, List.of(
+			List.of(126.979266, 37.566733), List.of(126.980266, 37.566733))));
+		features.add(createFeatureMap(start, start + 10000, List.of(
+			List.of(126.977266, 37.566733), List.of(126.978266, 37.566733))));
+
+		return RunningSession.builder()
+			.id("active-session-id")
+			.userId(1L)
+			.sessionKey("1-1")
+			.sessionNum(1)
+			.createdAt(LocalDateTime.now().minusMinutes(1))
+			.geoDataFeatures(features)
+			.build();
+	}
+
+	private Map<String, Object> createFeatureMap(long startTime, long endTime, List<List<Double>> coordinates) {
+		return Map.of(
+			"type", "Feature",
+			"properties", Map.of("timestampStart", startTime, "timestampEnd", endTime, "bpm", 150),
+			"geometry", Map.of("type", "LineString", "coordinates", coordinates)
+		);
+	}
+}
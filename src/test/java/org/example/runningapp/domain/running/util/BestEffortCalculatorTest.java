@@ -0,0 +1,50 @@
+package org.example.runningapp.domain.running.util;
+
+import org.example.runningapp.domain.running.util.BestEffortCalculator.BestEffort;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BestEffortCalculatorTest {
+
+	@Test
+	void should_FindFastestWindow_When_PaceVaries() {
+		// given - 0~1000m는 4 m/s, 1000~2000m는 5 m/s, 2000~3000m는 2 m/s
+		long[] times = {0L, 250_000L, 450_000L, 950_000L};
+		double[] distances = {0.0, 1000.0, 2000.0, 3000.0};
+
+		// when
+		BestEffort[] efforts = BestEffortCalculator.calculate(times, distances, new double[] {1000.0, 2000.0});
+
+		// then
+		assertThat(efforts[0].durationMs()).isEqualTo(200_000L);
+		assertThat(efforts[0].startTime()).isEqualTo(250_000L);
+		assertThat(efforts[1].durationMs()).isEqualTo(450_000L);
+	}
+
+	@Test
+	void should_InterpolateEndTime_When_TargetFallsBetweenPoints() {
+		// given - 일정한 속도 10 m/s
+		long[] times = {0L, 100_000L};
+		double[] distances = {0.0, 1000.0};
+
+		// when
+		BestEffort[] efforts = BestEffortCalculator.calculate(times, distances, new double[] {500.0});
+
+		// then
+		assertThat(efforts[0].durationMs()).isEqualTo(50_000L);
+	}
+
+	@Test
+	void should_ReturnNull_When_TargetLongerThanSession() {
+		// given
+		long[] times = {0L, 100_000L};
+		double[] distances = {0.0, 400.0};
+
+		// when
+		BestEffort[] efforts = BestEffortCalculator.calculate(times, distances, new double[] {1000.0});
+
+		// then
+		assertThat(efforts[0]).isNull();
+	}
+}
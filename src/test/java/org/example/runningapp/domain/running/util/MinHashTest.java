@@ -0,0 +1,56 @@
+package org.example.runningapp.domain.running.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashTest {
+
+	@Test
+	void should_EstimateJaccard_When_SetsPartiallyOverlap() {
+		// given - 300개 중 200개 공유 (Jaccard 200/400 = 0.5)
+		List<String> a = new ArrayList<>();
+		List<String> b = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			a.add("cell" + i);
+			b.add("cell" + (i + 100));
+		}
+
+		// when
+		double similarity = MinHash.similarity(MinHash.signature(a), MinHash.signature(b));
+
+		// then
+		assertThat(similarity).isBetween(0.3, 0.7);
+	}
+
+	@Test
+	void should_ShareAllBands_When_SetsIdentical() {
+		// given
+		List<String> cells = List.of("wydm9q1", "wydm9q2", "wydm9q3");
+
+		// when
+		long[] first = MinHash.signature(cells);
+		long[] second = MinHash.signature(List.of("wydm9q3", "wydm9q1", "wydm9q2"));
+
+		// then
+		assertThat(MinHash.similarity(first, second)).isEqualTo(1.0);
+		assertThat(MinHash.bandKeys(first)).isEqualTo(MinHash.bandKeys(second));
+	}
+
+	@Test
+	void should_ShareNoBands_When_SetsDisjoint() {
+		// given
+		long[] first = MinHash.signature(List.of("a1", "a2", "a3", "a4"));
+		long[] second = MinHash.signature(List.of("b1", "b2", "b3", "b4"));
+
+		// when
+		List<String> shared = new ArrayList<>(MinHash.bandKeys(first));
+		shared.retainAll(MinHash.bandKeys(second));
+
+		// then
+		assertThat(shared).isEmpty();
+	}
+}
@@ -0,0 +1,61 @@
+package org.example.runningapp.domain.running.util;
+
+import org.example.runningapp.domain.running.entity.RunningTrack;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrackDownsamplerTest {
+
+	@Test
+	void should_KeepOnePointPerInterval_When_DownsampledByInterval() {
+		// given - 10초 구간 2개, 각 11개 좌표 (1초 간격)
+		RunningTrack track = RunningTrack.fromFeatureMaps(List.of(
+			featureMap(0L, 10_000L, 0),
+			featureMap(10_000L, 20_000L, 11)));
+
+		// when
+		RunningTrack reduced = TrackDownsampler.byInterval(track, 5_000L);
+
+		// then - 0, 5, 10(첫 구간 끝), 15, 20초 좌표만 유지
+		assertThat(reduced.pointCount()).isEqualTo(5);
+		assertThat(reduced.featureCount()).isEqualTo(2);
+		assertThat(reduced.getBpm()).isEqualTo(track.getBpm());
+		assertThat(reduced.getLongitudes().get(0)).isEqualTo(track.getLongitudes().get(0));
+		assertThat(reduced.getLongitudes().get(reduced.pointCount() - 1))
+			.isEqualTo(track.getLongitudes().get(track.pointCount() - 1));
+	}
+
+	@Test
+	void should_KeepOnlyEndpoints_When_RouteIsStraight() {
+		// given - 직선 경로
+		RunningTrack track = RunningTrack.fromFeatureMaps(List.of(
+			featureMap(0L, 10_000L, 0),
+			featureMap(10_000L, 20_000L, 11)));
+
+		// when
+		RunningTrack reduced = TrackDownsampler.toRoute(track, 5.0);
+
+		// then - 구간 컬럼은 유지, 좌표는 양 끝만 남음
+		assertThat(reduced.pointCount()).isEqualTo(2);
+		assertThat(reduced.featureCount()).isEqualTo(2);
+		assertThat(reduced.pointEnd(0)).isEqualTo(1);
+		assertThat(reduced.pointEnd(1)).isEqualTo(2);
+	}
+
+	private Map<String, Object> featureMap(long start, long end, int firstIndex) {
+		List<List<Double>> coordinates = new ArrayList<>();
+		for (int i = 0; i < 11; i++) {
+			coordinates.add(List.of(126.97 + (firstIndex + i) * 0.0001, 37.56));
+		}
+		return Map.of(
+			"type", "Feature",
+			"properties", Map.of("timestampStart", start, "timestampEnd", end, "bpm", 150),
+			"geometry", Map.of("type", "LineString", "coordinates", coordinates)
+		);
+	}
+}
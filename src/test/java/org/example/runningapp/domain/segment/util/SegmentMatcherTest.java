@@ -0,0 +1,80 @@
+package org.example.runningapp.domain.segment.util;
+
+import org.example.runningapp.common.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentMatcherTest {
+
+	private static final double LAT = 37.56;
+
+	private final List<Double> lons = new ArrayList<>();
+	private final List<Double> lats = new ArrayList<>();
+	private long[] times;
+	private double[] distances;
+	private double metersPerLon;
+
+	@BeforeEach
+	void setUp() {
+		// 동쪽으로 3km 직선, 10m 간격, 3초 간격
+		metersPerLon = GeoUtils.metersPerDegreeLon(LAT);
+		int n = 300;
+		times = new long[n];
+		distances = new double[n];
+		for (int i = 0; i < n; i++) {
+			lons.add(127.0 + i * 10 / metersPerLon);
+			lats.add(LAT);
+			times[i] = i * 3000L;
+			if (i > 0) {
+				distances[i] = distances[i - 1] + GeoUtils.distanceMeters(lons.get(i - 1), LAT, lons.get(i), LAT);
+			}
+		}
+	}
+
+	@Test
+	void should_TimeEffort_When_TrackFollowsSegment() {
+		// given - 1km~2km 구간
+		List<List<Double>> segment = List.of(point(1000), point(1500), point(2000));
+
+		// when
+		SegmentMatcher.Match match = match(segment);
+
+		// then
+		assertThat(match).isNotNull();
+		assertThat(match.startIndex()).isEqualTo(100);
+		assertThat(match.endIndex()).isEqualTo(200);
+		assertThat(match.elapsedMs()).isEqualTo(300_000L);
+	}
+
+	@Test
+	void should_NotMatch_When_TrackRunsInOppositeDirection() {
+		// given
+		List<List<Double>> segment = List.of(point(2000), point(1500), point(1000));
+
+		// when & then
+		assertThat(match(segment)).isNull();
+	}
+
+	@Test
+	void should_NotMatch_When_TrackMissesMiddlePoint() {
+		// given - 중간 좌표가 트랙에서 약 1km 떨어짐
+		List<List<Double>> segment = List.of(point(1000), List.of(127.0 + 1500 / metersPerLon, LAT + 0.01), point(2000));
+
+		// when & then
+		assertThat(match(segment)).isNull();
+	}
+
+	private SegmentMatcher.Match match(List<List<Double>> segment) {
+		return SegmentMatcher.match(lons, lats, times, distances, segment, 1000.0,
+			SegmentMatcher.DEFAULT_TOLERANCE_METERS);
+	}
+
+	private List<Double> point(double meters) {
+		return List.of(127.0 + meters / metersPerLon, LAT);
+	}
+}
@@ -0,0 +1,67 @@
+package org.example.runningapp.domain.user.entity;
+
+import org.example.runningapp.common.security.AuthProvider;
+import org.example.runningapp.domain.user.event.UserChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeListenerTest {
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private UserChangeListener listener;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		listener = new UserChangeListener(eventPublisher);
+		user = User.builder()
+			.id(1L)
+			.username("러너")
+			.email("runner@example.com")
+			.provider(AuthProvider.KAKAO)
+			.build();
+		listener.remember(user);
+	}
+
+	@Test
+	void should_NotPublish_When_OnlyRefreshTokenChanged() {
+		// when: 로그인마다 리프레시 토큰만 갱신
+		user.updateRefreshToken("new-refresh-token");
+		listener.onUpdate(user);
+
+		// then
+		verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+	}
+
+	@Test
+	void should_PublishOnce_When_ProfileChanged() {
+		// when
+		user.updateProfile("새 이름", "profile.jpg");
+		listener.onUpdate(user);
+		user.updateRefreshToken("new-refresh-token");
+		listener.onUpdate(user);
+
+		// then: 이후 리프레시 토큰 갱신은 변경된 프로필 기준으로 비교
+		verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent(1L));
+	}
+
+	@Test
+	void should_Publish_When_UserRemoved() {
+		// when
+		listener.onRemove(user);
+
+		// then
+		verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
+	}
+}
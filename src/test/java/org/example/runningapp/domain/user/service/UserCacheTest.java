@@ -0,0 +1,107 @@
+package org.example.runningapp.domain.user.service;
+
+import org.example.runningapp.common.cache.InvalidationBus;
+import org.example.runningapp.common.security.AuthProvider;
+import org.example.runningapp.domain.user.dto.UserSnapshot;
+import org.example.runningapp.domain.user.entity.User;
+import org.example.runningapp.domain.user.event.UserChangedEvent;
+import org.example.runningapp.domain.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private InvalidationBus invalidationBus;
+
+	private UserCache userCache;
+
+	@BeforeEach
+	void setUp() {
+		userCache = new UserCache(userRepository, invalidationBus, 60000, 100);
+	}
+
+	@Test
+	void should_LoadUserOnce_When_RequestedRepeatedly() {
+		// given
+		when(userRepository.findById(1L)).thenReturn(Optional.of(createUser("러너")));
+
+		// when
+		Optional<UserSnapshot> first = userCache.get(1L);
+		Optional<UserSnapshot> second = userCache.get(1L);
+
+		// then
+		assertThat(first).contains(second.orElseThrow());
+		verify(userRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	void should_ReloadAndBroadcast_When_UserChanged() {
+		// given
+		when(userRepository.findById(1L))
+			.thenReturn(Optional.of(createUser("러너")))
+			.thenReturn(Optional.of(createUser("변경된러너")));
+		userCache.get(1L);
+
+		// when
+		userCache.onUserChanged(new UserChangedEvent(1L));
+		Optional<UserSnapshot> result = userCache.get(1L);
+
+		// then
+		assertThat(result).map(UserSnapshot::username).contains("변경된러너");
+		verify(invalidationBus).publish(UserCache.TOPIC, "1");
+	}
+
+	@Test
+	void should_Reload_When_OtherInstanceChangedUser() {
+		// given
+		when(userRepository.findById(1L))
+			.thenReturn(Optional.of(createUser("러너")))
+			.thenReturn(Optional.of(createUser("변경된러너")));
+		userCache.get(1L);
+
+		// when
+		userCache.invalidate("1");
+		Optional<UserSnapshot> result = userCache.get(1L);
+
+		// then
+		assertThat(result).map(UserSnapshot::username).contains("변경된러너");
+		verify(invalidationBus, never()).publish(anyString(), anyString());
+	}
+
+	@Test
+	void should_NotCacheMissingUser() {
+		// given
+		when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+		// when
+		userCache.get(1L);
+		userCache.get(1L);
+
+		// then
+		verify(userRepository, times(2)).findById(1L);
+	}
+
+	private User createUser(String username) {
+		return User.builder()
+			.id(1L)
+			.username(username)
+			.email("runner@example.com")
+			.provider(AuthProvider.KAKAO)
+			.build();
+	}
+}